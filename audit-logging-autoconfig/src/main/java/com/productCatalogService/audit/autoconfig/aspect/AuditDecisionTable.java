@@ -0,0 +1,225 @@
+package com.productCatalogService.audit.autoconfig.aspect;
+
+import com.productCatalogService.audit.autoconfig.config.AuditProperties;
+import com.productCatalogService.audit.autoconfig.config.AuditProperties.OperationType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Таблица решений аудита по методам репозиториев.
+ *
+ * <p>Решение для метода вычисляется один раз — при сопоставлении точки среза во время
+ * создания прокси, то есть при старте приложения — из имени метода, его сигнатуры и
+ * {@link AuditProperties.OperationProperties}: тип операции, тип сущности и
+ * {@link MethodHandle} для {@code getId()}. Для исключенных методов решения нет,
+ * и {@link AuditPointcut} не применяет к ним перехватчик.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+@Slf4j
+public class AuditDecisionTable {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final AuditProperties.OperationProperties properties;
+    private final Map<MethodClassKey, Optional<AuditDecision>> decisions = new ConcurrentHashMap<>();
+
+    public AuditDecisionTable(AuditProperties.OperationProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Возвращает решение для метода, вычисляя его при первом обращении.
+     *
+     * @param method      метод репозитория
+     * @param targetClass класс целевого объекта
+     * @return решение или {@code null}, если метод не аудируется
+     */
+    public AuditDecision get(Method method, Class<?> targetClass) {
+        MethodClassKey key = new MethodClassKey(method, targetClass);
+        Optional<AuditDecision> decision = decisions.get(key);
+        if (decision == null) {
+            decision = decisions.computeIfAbsent(key, k -> Optional.ofNullable(compile(method, targetClass)));
+        }
+        return decision.orElse(null);
+    }
+
+    private AuditDecision compile(Method method, Class<?> targetClass) {
+        String name = method.getName();
+        Class<?> entityClass = entityClass(method, targetClass);
+        String entityType = entityClass != null ? entityClass.getSimpleName() : repositoryEntityName(targetClass);
+        Set<OperationType> allowed = properties.allowedOperations(entityType);
+
+        OperationType fixedOperation;
+        MethodHandle idAccessor = entityClass != null ? idAccessor(entityClass) : null;
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        boolean idArgument = parameterTypes.length > 0
+                && Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(parameterTypes[0]));
+
+        if (name.startsWith("delete")) {
+            fixedOperation = OperationType.DELETE;
+        } else if (name.startsWith("update")) {
+            fixedOperation = OperationType.UPDATE;
+        } else if (name.startsWith("save")) {
+            boolean batch = parameterTypes.length > 0
+                    && (Iterable.class.isAssignableFrom(parameterTypes[0]) || parameterTypes[0].isArray());
+            // Одиночный save* без getId() считается созданием; иначе операция определяется по id до вызова
+            fixedOperation = batch || idAccessor == null ? OperationType.CREATE : null;
+        } else {
+            return null;
+        }
+
+        if (fixedOperation != null ? !allowed.contains(fixedOperation)
+                : !allowed.contains(OperationType.CREATE) && !allowed.contains(OperationType.UPDATE)) {
+            log.debug("Аудит отключен: {}.{}", targetClass.getSimpleName(), name);
+            return null;
+        }
+        log.debug("Аудит {}.{}: {} {}", targetClass.getSimpleName(), name,
+                fixedOperation != null ? fixedOperation : "CREATE/UPDATE по id", entityType);
+        return new AuditDecision(entityType, entityClass, fixedOperation, allowed, idAccessor, idArgument,
+                properties.isLogEntityContent());
+    }
+
+    /**
+     * Класс сущности из типа результата или первого параметра (с учетом коллекций и
+     * {@link Optional}); {@code null}, если оба — простые значения.
+     */
+    private static Class<?> entityClass(Method method, Class<?> targetClass) {
+        Class<?> fromResult = entityOf(ResolvableType.forMethodReturnType(method, targetClass));
+        if (fromResult != null) {
+            return fromResult;
+        }
+        return method.getParameterCount() > 0
+                ? entityOf(ResolvableType.forMethodParameter(method, 0, targetClass))
+                : null;
+    }
+
+    private static Class<?> entityOf(ResolvableType type) {
+        if (Iterable.class.isAssignableFrom(type.toClass()) || Optional.class == type.toClass()) {
+            type = type.as(type.toClass() == Optional.class ? Optional.class : Iterable.class).getGeneric(0);
+        } else if (type.isArray()) {
+            type = type.getComponentType();
+        }
+        Class<?> resolved = type.resolve();
+        if (resolved == null || resolved.isPrimitive() || ClassUtils.isSimpleValueType(resolved)
+                || resolved.getName().startsWith("java.")) {
+            return null;
+        }
+        return resolved;
+    }
+
+    private static String repositoryEntityName(Class<?> targetClass) {
+        String name = targetClass.getSimpleName();
+        int suffix = name.indexOf("Repository");
+        return suffix > 0 ? name.substring(0, suffix) : name;
+    }
+
+    private static MethodHandle idAccessor(Class<?> entityClass) {
+        try {
+            Method getter = entityClass.getMethod("getId");
+            return MethodHandles.publicLookup()
+                    .findVirtual(entityClass, "getId", MethodType.methodType(getter.getReturnType()))
+                    .asType(GETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Скомпилированное решение для одного метода.
+     */
+    public static final class AuditDecision {
+
+        private final String entityType;
+        private final Class<?> entityClass;
+        private final OperationType fixedOperation;
+        private final Set<OperationType> allowed;
+        private final MethodHandle idAccessor;
+        private final boolean idArgument;
+        private final boolean logEntityContent;
+
+        AuditDecision(String entityType, Class<?> entityClass, OperationType fixedOperation,
+                      Set<OperationType> allowed, MethodHandle idAccessor, boolean idArgument,
+                      boolean logEntityContent) {
+            this.entityType = entityType;
+            this.entityClass = entityClass;
+            this.fixedOperation = fixedOperation;
+            this.allowed = allowed;
+            this.idAccessor = idAccessor;
+            this.idArgument = idArgument;
+            this.logEntityContent = logEntityContent;
+        }
+
+        public String entityType() {
+            return entityType;
+        }
+
+        public boolean logEntityContent() {
+            return logEntityContent;
+        }
+
+        /**
+         * Определяет операцию до вызова метода: для {@code save*} — по наличию id у сущности.
+         *
+         * @param args аргументы вызова
+         * @return операция или {@code null}, если она не аудируется
+         */
+        public OperationType operation(Object[] args) {
+            if (fixedOperation != null) {
+                return fixedOperation;
+            }
+            Object entity = args.length > 0 ? args[0] : null;
+            OperationType operation = entity != null && entityClass.isInstance(entity) && id(entity) != null
+                    ? OperationType.UPDATE
+                    : OperationType.CREATE;
+            return allowed.contains(operation) ? operation : null;
+        }
+
+        /**
+         * Возвращает сущность операции: результат или первый аргумент того же типа.
+         */
+        public Object entity(Object[] args, Object result) {
+            if (entityClass == null) {
+                return null;
+            }
+            if (entityClass.isInstance(result)) {
+                return result;
+            }
+            return args.length > 0 && entityClass.isInstance(args[0]) ? args[0] : null;
+        }
+
+        /**
+         * Возвращает идентификатор сущности в виде строки.
+         */
+        public String entityId(Object[] args, Object entity) {
+            if (idArgument && args[0] != null) {
+                return args[0].toString();
+            }
+            Object id = entity != null ? id(entity) : null;
+            return id != null ? id.toString() : null;
+        }
+
+        private Object id(Object entity) {
+            if (idAccessor == null) {
+                return null;
+            }
+            try {
+                return idAccessor.invokeExact(entity);
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+    }
+}
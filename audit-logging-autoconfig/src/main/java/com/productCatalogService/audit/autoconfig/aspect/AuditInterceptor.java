@@ -0,0 +1,158 @@
+package com.productCatalogService.audit.autoconfig.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productCatalogService.audit.autoconfig.aspect.AuditDecisionTable.AuditDecision;
+import com.productCatalogService.audit.autoconfig.config.AuditProperties.OperationType;
+import com.productCatalogService.audit.autoconfig.pipeline.AuditEvent;
+import com.productCatalogService.audit.autoconfig.pipeline.AuditEventPipeline;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+
+/**
+ * Перехватчик аудита операций сохранения, обновления и удаления в репозиториях.
+ *
+ * <p>Заменяет прежний {@code AuditAspect}. Применяется только к методам, для которых
+ * {@link AuditDecisionTable} при старте составила решение; тип операции, тип сущности и
+ * доступ к идентификатору берутся из решения без рефлексии. В потоке запроса формируется
+ * только неизменяемое {@link AuditEvent}; запись в таблицу выполняет
+ * {@link AuditEventPipeline} в фоновом потоке. Если конвейер отключен, событие
+ * записывается в лог.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+@Slf4j
+public class AuditInterceptor implements MethodInterceptor {
+
+    private static final String UNKNOWN = "Unknown";
+    private static final String NO_HTTP_CONTEXT = "No HTTP Context";
+
+    private static final boolean SERVLET_PRESENT =
+            ClassUtils.isPresent("jakarta.servlet.http.HttpServletRequest", AuditInterceptor.class.getClassLoader())
+                    && ClassUtils.isPresent("org.springframework.web.context.request.RequestContextHolder",
+                    AuditInterceptor.class.getClassLoader());
+
+    private final AuditDecisionTable decisionTable;
+    private final ObjectProvider<ObjectMapper> objectMapperProvider;
+    private final ObjectProvider<AuditEventPipeline> pipelineProvider;
+
+    /**
+     * @param decisionTable        решения по методам
+     * @param objectMapperProvider маппер для {@code log-entity-content}; разрешается при первой сериализации
+     * @param pipelineProvider     конвейер событий аудита
+     */
+    public AuditInterceptor(AuditDecisionTable decisionTable, ObjectProvider<ObjectMapper> objectMapperProvider,
+                            ObjectProvider<AuditEventPipeline> pipelineProvider) {
+        this.decisionTable = decisionTable;
+        this.objectMapperProvider = objectMapperProvider;
+        this.pipelineProvider = pipelineProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        AuditDecision decision = decisionTable.get(invocation.getMethod(),
+                target != null ? AopUtils.getTargetClass(target) : invocation.getMethod().getDeclaringClass());
+        Object[] args = invocation.getArguments();
+        // Операция save* определяется до вызова: после него у новой сущности уже есть id
+        OperationType operation = decision != null ? decision.operation(args) : null;
+        if (operation == null) {
+            return invocation.proceed();
+        }
+
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            audit(decision, operation, args, null, e);
+            throw e;
+        }
+        audit(decision, operation, args, result, null);
+        return result;
+    }
+
+    private void audit(AuditDecision decision, OperationType operation, Object[] args,
+                       Object result, Throwable exception) {
+        try {
+            AuditEvent event = createEvent(decision, operation, args, result, exception);
+            AuditEventPipeline pipeline = pipelineProvider.getIfAvailable();
+            if (pipeline != null) {
+                pipeline.publish(event);
+            } else if (exception == null) {
+                log.info("AUDIT: {} operation on {} {} from IP: {}, URL: {}, User: {}",
+                        event.operation(), event.entityType(), orElse(event.entityId(), ""),
+                        orElse(event.ipAddress(), UNKNOWN), orElse(event.requestUri(), UNKNOWN),
+                        orElse(event.userName(), NO_HTTP_CONTEXT));
+            } else {
+                log.error("AUDIT FAILURE: {} operation on {} failed. Exception: {}, IP: {}, User: {}",
+                        event.operation(), event.entityType(), event.error(),
+                        orElse(event.ipAddress(), UNKNOWN), orElse(event.userName(), NO_HTTP_CONTEXT));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to audit operation: {}", e.getMessage());
+        }
+    }
+
+    private AuditEvent createEvent(AuditDecision decision, OperationType operation, Object[] args,
+                                   Object result, Throwable exception) {
+        Object entity = decision.entity(args, result);
+        RequestInfo request = SERVLET_PRESENT ? HttpContext.currentRequest() : null;
+        return new AuditEvent(
+                Instant.now(),
+                operation.name(),
+                decision.entityType(),
+                decision.entityId(args, entity),
+                exception == null,
+                exception != null ? exception.getMessage() : null,
+                request != null ? request.ipAddress() : null,
+                request != null ? request.requestUri() : null,
+                request != null ? request.userName() : null,
+                decision.logEntityContent() && entity != null ? serialize(entity) : null);
+    }
+
+    private String serialize(Object entity) {
+        ObjectMapper objectMapper = objectMapperProvider.getIfAvailable();
+        if (objectMapper == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(entity);
+        } catch (Exception e) {
+            log.debug("AUDIT DETAILS: Unable to serialize entity: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String orElse(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private record RequestInfo(String ipAddress, String requestUri, String userName) {
+    }
+
+    /**
+     * Доступ к текущему запросу; загружается только при наличии Servlet API.
+     */
+    private static final class HttpContext {
+
+        static RequestInfo currentRequest() {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+                return null;
+            }
+            HttpServletRequest request = servletAttributes.getRequest();
+            return new RequestInfo(request.getRemoteAddr(), request.getRequestURI(),
+                    orElse(request.getRemoteUser(), "Anonymous"));
+        }
+    }
+}
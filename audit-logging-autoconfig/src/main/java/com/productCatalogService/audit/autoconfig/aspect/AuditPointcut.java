@@ -0,0 +1,41 @@
+package com.productCatalogService.audit.autoconfig.aspect;
+
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+
+/**
+ * Точка среза аудита: методы {@code save*}, {@code update*} и {@code delete*}
+ * репозиториев, для которых в {@link AuditDecisionTable} есть решение.
+ *
+ * <p>Сопоставление выполняется при создании прокси; исключенные настройками методы
+ * вызываются без перехватчика аудита.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+public class AuditPointcut extends StaticMethodMatcherPointcut {
+
+    /**
+     * Методы репозиториев, к которым может применяться аудит.
+     */
+    public static final String REPOSITORY_OPERATIONS =
+            "execution(* com.productCatalogService..repository..*.save*(..))"
+                    + " || execution(* com.productCatalogService..repository..*.update*(..))"
+                    + " || execution(* com.productCatalogService..repository..*.delete*(..))";
+
+    private final AspectJExpressionPointcut scope = new AspectJExpressionPointcut();
+    private final AuditDecisionTable decisionTable;
+
+    public AuditPointcut(AuditDecisionTable decisionTable) {
+        this.scope.setExpression(REPOSITORY_OPERATIONS);
+        this.decisionTable = decisionTable;
+        setClassFilter(scope.getClassFilter());
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return scope.matches(method, targetClass) && decisionTable.get(method, targetClass) != null;
+    }
+}
@@ -0,0 +1,240 @@
+package com.productCatalogService.audit.autoconfig.aspect;
+
+import com.productCatalogService.audit.autoconfig.config.AuditProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Перехватчик, измеряющий время выполнения методов приложения.
+ *
+ * <p>Заменяет прежний {@code LoggingAspect}: вместо строкового логирования каждого
+ * вызова записывает таймер Micrometer {@value #METRIC_NAME} с тегами {@code class},
+ * {@code method} и {@code exception} для доли вызовов {@code sample-rate}. Остальные
+ * вызовы проходят без замеров: одна проверка случайного числа и переход к методу.
+ * Количество вызовов в таймере поэтому равно количеству замеров, а не всех вызовов;
+ * время и процентили остаются репрезентативными.</p>
+ *
+ * <p>При уровне DEBUG каждый вызов записывается одной строкой. Аргументы и результат
+ * выводятся ограниченно: для коллекций, словарей и массивов — только тип и размер,
+ * для строк, чисел, перечислений и дат — не более {@code max-argument-length} символов,
+ * для остальных объектов — тип и идентификатор ({@code getId()} или {@code id()}), а без
+ * {@code log-arguments} — только типы аргументов. {@code toString()} объектов не вызывается:
+ * для DTO и сущностей он строит полное представление со вложенными значениями, которое
+ * затем пришлось бы обрезать. Исключения логируются без стека:
+ * его один раз записывает обработчик исключений приложения.</p>
+ *
+ * <p>Методы выбираются выражениями {@code include}/{@code exclude} из
+ * {@link AuditProperties.LoggingProperties}.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ * @see AuditProperties.LoggingProperties
+ */
+@Slf4j
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    /**
+     * Имя таймера выполнения методов.
+     */
+    public static final String METRIC_NAME = "method.execution";
+
+    private static final String NO_EXCEPTION = "none";
+
+    /**
+     * Метод идентификатора класса ({@code getId()} или {@code id()} записи); вычисляется один раз на класс.
+     */
+    private static final ClassValue<Optional<Method>> ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> type) {
+            for (String name : new String[]{"getId", "id"}) {
+                try {
+                    Method method = type.getMethod(name);
+                    if (method.getReturnType() != void.class && method.trySetAccessible()) {
+                        return Optional.of(method);
+                    }
+                } catch (NoSuchMethodException | SecurityException ignored) {
+                    // пробуем следующее имя
+                }
+            }
+            return Optional.empty();
+        }
+    };
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final double sampleRate;
+    private final boolean logArguments;
+    private final int maxArgumentLength;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * @param meterRegistryProvider реестр метрик; разрешается при первом замере, чтобы не создавать
+     *                              реестр раньше его настройки. Если реестра нет, используется глобальный
+     * @param properties            настройки логирования методов
+     */
+    public MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                   AuditProperties.LoggingProperties properties) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.sampleRate = Math.max(0.0, Math.min(1.0, properties.getSampleRate()));
+        this.logArguments = properties.isLogArguments();
+        this.maxArgumentLength = properties.getMaxArgumentLength();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        boolean sampled = sampleRate >= 1.0
+                || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        boolean debug = log.isDebugEnabled();
+        if (!sampled && !debug) {
+            return invocation.proceed();
+        }
+
+        long started = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            long elapsed = System.nanoTime() - started;
+            if (sampled) {
+                timer(invocation).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            if (debug) {
+                log.debug("{}.{}({}) -> {} ({} мкс)", className(invocation), invocation.getMethod().getName(),
+                        renderArguments(invocation.getArguments()), render(result), elapsed / 1_000);
+            }
+            return result;
+        } catch (Throwable e) {
+            long elapsed = System.nanoTime() - started;
+            if (sampled) {
+                exceptionTimer(invocation, e).record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            if (debug) {
+                log.debug("{}.{}({}) завершился исключением {}: {} ({} мкс)", className(invocation),
+                        invocation.getMethod().getName(), renderArguments(invocation.getArguments()),
+                        e.getClass().getSimpleName(), e.getMessage(), elapsed / 1_000);
+            }
+            throw e;
+        }
+    }
+
+    private Timer timer(MethodInvocation invocation) {
+        Timer timer = timers.get(invocation.getMethod());
+        if (timer == null) {
+            timer = timers.computeIfAbsent(invocation.getMethod(), method -> timerBuilder(invocation, NO_EXCEPTION)
+                    .register(registry()));
+        }
+        return timer;
+    }
+
+    private Timer exceptionTimer(MethodInvocation invocation, Throwable exception) {
+        // Исключения редки, поэтому отдельный кеш не нужен: реестр вернет уже созданный таймер
+        return timerBuilder(invocation, exception.getClass().getSimpleName()).register(registry());
+    }
+
+    private Timer.Builder timerBuilder(MethodInvocation invocation, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Время выполнения метода приложения (выборочно)")
+                .tag("class", className(invocation))
+                .tag("method", invocation.getMethod().getName())
+                .tag("exception", exception);
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private static String className(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        return target != null
+                ? AopUtils.getTargetClass(target).getSimpleName()
+                : invocation.getMethod().getDeclaringClass().getSimpleName();
+    }
+
+    private String renderArguments(Object[] arguments) {
+        if (arguments.length == 0) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < arguments.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            Object argument = arguments[i];
+            text.append(logArguments || argument == null ? render(argument) : argument.getClass().getSimpleName());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Возвращает ограниченное строковое представление значения без обхода коллекций
+     * и без вызова {@code toString()} составных объектов.
+     */
+    String render(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.map(v -> "Optional[" + render(v) + "]").orElse("Optional.empty");
+        }
+        if (!logArguments) {
+            return value.getClass().getSimpleName();
+        }
+        if (value instanceof CharSequence text) {
+            // Обрезается до копирования: длинная строка не копируется целиком
+            return text.length() > maxArgumentLength
+                    ? text.subSequence(0, maxArgumentLength) + "…"
+                    : text.toString();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor || value instanceof UUID) {
+            // Представление таких значений короткое и не зависит от вложенных объектов
+            String text = value.toString();
+            return text.length() > maxArgumentLength ? text.substring(0, maxArgumentLength) + "…" : text;
+        }
+        return renderObject(value);
+    }
+
+    private String renderObject(Object value) {
+        String type = value.getClass().getSimpleName();
+        Optional<Method> idAccessor = ID_ACCESSORS.get(value.getClass());
+        if (idAccessor.isEmpty()) {
+            return type;
+        }
+        try {
+            Object id = idAccessor.get().invoke(value);
+            return type + "[id=" + render(id) + "]";
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return type;
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package com.productCatalogService.audit.autoconfig.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.productCatalogService.audit.autoconfig.aspect.AuditAspect;
-import com.productCatalogService.audit.autoconfig.aspect.LoggingAspect;
+import com.productCatalogService.audit.autoconfig.aspect.AuditDecisionTable;
+import com.productCatalogService.audit.autoconfig.aspect.AuditInterceptor;
+import com.productCatalogService.audit.autoconfig.aspect.AuditPointcut;
+import com.productCatalogService.audit.autoconfig.aspect.MethodTimingInterceptor;
+import com.productCatalogService.audit.autoconfig.pipeline.AuditEventPipeline;
+import com.productCatalogService.audit.autoconfig.pipeline.AuditPartitionManager;
+import com.productCatalogService.audit.autoconfig.query.AuditLogEndpoint;
+import com.productCatalogService.audit.autoconfig.query.AuditLogQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
 
 /**
  * Автоконфигурация для аспектов аудита и логирования.
@@ -19,44 +34,149 @@ import org.springframework.context.annotation.Configuration;
  * @see Configuration
  */
 @Configuration
-@ConditionalOnClass({AuditAspect.class, LoggingAspect.class})
+@ConditionalOnClass({AuditInterceptor.class, MethodTimingInterceptor.class})
 @EnableConfigurationProperties(AuditProperties.class)
 public class AuditAutoConfiguration {
 
     /**
-     * Создает бин LoggingAspect для автоматического логирования методов.
+     * Создает советник, измеряющий время выполнения методов из
+     * {@code product-catalog.audit.logging.include} (за вычетом {@code exclude}).
      * Бин создается только если отсутствует пользовательская реализация.
      *
-     * @return настроенный аспект логирования
+     * @param properties    свойства модуля аудита
+     * @param meterRegistry реестр метрик (разрешается при первом замере)
+     * @return советник с {@link MethodTimingInterceptor}
      */
     @Bean
-    @ConditionalOnMissingBean
+    @ConditionalOnMissingBean(name = "methodTimingAdvisor")
     @ConditionalOnProperty(
             prefix = "product-catalog.audit.logging",
             name = "enabled",
             havingValue = "true",
             matchIfMissing = true
     )
-    public LoggingAspect loggingAspect() {
-        return new LoggingAspect();
+    public Advisor methodTimingAdvisor(AuditProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(properties.getLogging().pointcutExpression());
+        return new DefaultPointcutAdvisor(pointcut,
+                new MethodTimingInterceptor(meterRegistry, properties.getLogging()));
     }
 
     /**
-     * Создает бин AuditAspect для автоматического аудита операций.
+     * Создает конвейер асинхронной записи событий аудита в таблицу
+     * {@code product-catalog.audit.pipeline.table}.
      * Бин создается только если отсутствует пользовательская реализация.
      *
-     * @param objectMapper маппер для сериализации объектов в JSON
-     * @return настроенный аспект аудита
+     * @param properties      свойства модуля аудита
+     * @param auditDataSource источник данных {@link AuditDataSource}, если он задан
+     * @param jdbcTemplate    общий шаблон приложения, если {@link AuditDataSource} нет
+     * @param meterRegistry   реестр метрик; если его нет, используется глобальный
+     * @return конвейер событий аудита
      */
     @Bean
     @ConditionalOnMissingBean
+    @ConditionalOnClass(JdbcTemplate.class)
+    @ConditionalOnProperty(
+            prefix = "product-catalog.audit.pipeline",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public AuditEventPipeline auditEventPipeline(AuditProperties properties,
+                                                 @AuditDataSource ObjectProvider<DataSource> auditDataSource,
+                                                 ObjectProvider<JdbcTemplate> jdbcTemplate,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AuditEventPipeline(auditJdbcTemplate(auditDataSource, jdbcTemplate), properties.getPipeline(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Создает обслуживание дневных секций таблицы аудита: секции создаются заранее,
+     * устаревшие удаляются по {@code product-catalog.audit.pipeline.retention}.
+     *
+     * @param properties      свойства модуля аудита
+     * @param auditDataSource источник данных {@link AuditDataSource}, если он задан
+     * @param jdbcTemplate    общий шаблон приложения, если {@link AuditDataSource} нет
+     * @return менеджер секций
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnClass(JdbcTemplate.class)
+    @ConditionalOnProperty(
+            prefix = "product-catalog.audit.pipeline",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public AuditPartitionManager auditPartitionManager(AuditProperties properties,
+                                                       @AuditDataSource ObjectProvider<DataSource> auditDataSource,
+                                                       ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        return new AuditPartitionManager(auditJdbcTemplate(auditDataSource, jdbcTemplate), properties.getPipeline());
+    }
+
+    /**
+     * Создает советник аудита операций репозиториев. Настройки
+     * {@code product-catalog.audit.operations} компилируются в {@link AuditDecisionTable}
+     * при создании прокси: исключенные методы вызываются без перехватчика.
+     * Бин создается только если отсутствует пользовательская реализация.
+     *
+     * @param properties   свойства модуля аудита
+     * @param objectMapper маппер для сериализации сущностей при {@code log-entity-content} (разрешается лениво)
+     * @param pipeline     конвейер событий аудита (если отключен, события пишутся в лог)
+     * @return советник с {@link AuditInterceptor}
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "auditAdvisor")
     @ConditionalOnProperty(
             prefix = "product-catalog.audit",
             name = "enabled",
             havingValue = "true",
             matchIfMissing = true
     )
-    public AuditAspect auditAspect(ObjectMapper objectMapper) {
-        return new AuditAspect(objectMapper);
+    public Advisor auditAdvisor(AuditProperties properties, ObjectProvider<ObjectMapper> objectMapper,
+                                ObjectProvider<AuditEventPipeline> pipeline) {
+        AuditDecisionTable decisionTable = new AuditDecisionTable(properties.getOperations());
+        return new DefaultPointcutAdvisor(new AuditPointcut(decisionTable),
+                new AuditInterceptor(decisionTable, objectMapper, pipeline));
+    }
+
+    /**
+     * Шаблон для журнала аудита: по источнику данных {@link AuditDataSource}, а без него —
+     * общий {@link JdbcTemplate} приложения.
+     */
+    private static JdbcTemplate auditJdbcTemplate(ObjectProvider<DataSource> auditDataSource,
+                                                  ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        DataSource dataSource = auditDataSource.getIfUnique();
+        return dataSource != null ? new JdbcTemplate(dataSource) : jdbcTemplate.getObject();
+    }
+
+    /**
+     * Чтение журнала аудита через {@code /actuator/auditlog}; создается при наличии actuator.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = {
+            "org.springframework.boot.actuate.endpoint.annotation.Endpoint",
+            "org.springframework.jdbc.core.JdbcTemplate"
+    })
+    @ConditionalOnProperty(
+            prefix = "product-catalog.audit.query",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    static class AuditQueryConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuditLogQuery auditLogQuery(@AuditDataSource ObjectProvider<DataSource> auditDataSource,
+                                           ObjectProvider<JdbcTemplate> jdbcTemplate, AuditProperties properties) {
+            return new AuditLogQuery(auditJdbcTemplate(auditDataSource, jdbcTemplate), properties);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuditLogEndpoint auditLogEndpoint(AuditLogQuery auditLogQuery) {
+            return new AuditLogEndpoint(auditLogQuery);
+        }
     }
-}
\ No newline at end of file
+}
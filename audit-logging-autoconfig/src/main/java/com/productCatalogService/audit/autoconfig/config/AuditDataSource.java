@@ -0,0 +1,33 @@
+package com.productCatalogService.audit.autoconfig.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Квалификатор {@link javax.sql.DataSource} для журнала аудита.
+ *
+ * <p>Если в контексте есть источник данных с этой аннотацией, запись событий, обслуживание
+ * секций и чтение журнала идут через него, а не через общий {@code JdbcTemplate} приложения.
+ * Так фоновая работа аудита не занимает соединения пула пользовательских запросов:</p>
+ * <pre>
+ * &#64;Bean
+ * &#64;AuditDataSource
+ * public DataSource auditDataSource() {
+ *     return adminPool;
+ * }
+ * </pre>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Qualifier
+public @interface AuditDataSource {
+}
@@ -3,6 +3,14 @@ package com.productCatalogService.audit.autoconfig.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Свойства конфигурации для модуля аудита и логирования.
  *
@@ -29,27 +37,67 @@ public class AuditProperties {
      */
     private OperationProperties operations = new OperationProperties();
 
+    /**
+     * Свойства асинхронной записи событий аудита в таблицу.
+     */
+    private PipelineProperties pipeline = new PipelineProperties();
+
+    /**
+     * Свойства чтения журнала аудита.
+     */
+    private QueryProperties query = new QueryProperties();
+
     @Data
     public static class LoggingProperties {
         /**
-         * Включение/отключение логирования методов.
+         * Включение/отключение замеров и логирования методов.
          */
         private boolean enabled = true;
 
         /**
-         * Уровень логирования для входа в методы.
+         * Доля вызовов (0..1), для которых записывается таймер {@code method.execution}.
          */
-        private String entryLevel = "DEBUG";
+        private double sampleRate = 0.1;
 
         /**
-         * Уровень логирования для выхода из методов.
+         * Выражения AspectJ для методов, которые измеряются (объединяются через ИЛИ).
+         * Запросы репозиториев по умолчанию не включены: их измеряют метрики {@code db.query}.
          */
-        private String exitLevel = "DEBUG";
+        private List<String> include = new ArrayList<>(List.of(
+                "execution(* com.productCatalogService..controller..*.*(..))",
+                "execution(* com.productCatalogService..service..*.*(..))"));
 
         /**
-         * Уровень логирования для исключений.
+         * Выражения AspectJ для методов, исключаемых из {@link #include}.
          */
-        private String exceptionLevel = "ERROR";
+        private List<String> exclude = new ArrayList<>();
+
+        /**
+         * Выводить значения аргументов и результата в DEBUG-логе (иначе только типы).
+         * Значения могут содержать конфиденциальные данные.
+         */
+        private boolean logArguments = false;
+
+        /**
+         * Максимальная длина значения аргумента или результата в DEBUG-логе.
+         */
+        private int maxArgumentLength = 100;
+
+        /**
+         * Собирает выражение точки среза из {@link #include} и {@link #exclude}.
+         *
+         * @return выражение AspectJ
+         */
+        public String pointcutExpression() {
+            if (include.isEmpty()) {
+                throw new IllegalStateException("product-catalog.audit.logging.include не должен быть пустым");
+            }
+            String expression = "(" + String.join(") || (", include) + ")";
+            if (!exclude.isEmpty()) {
+                expression = "(" + expression + ") && !((" + String.join(") || (", exclude) + "))";
+            }
+            return expression;
+        }
     }
 
     @Data
@@ -75,8 +123,149 @@ public class AuditProperties {
         private boolean delete = true;
 
         /**
-         * Логировать содержимое сущностей (может содержать конфиденциальные данные).
+         * Записывать содержимое сущностей в JSON (может содержать конфиденциальные данные).
          */
         private boolean logEntityContent = false;
+
+        /**
+         * Аудируемые типы сущностей (простое имя класса) и операции для каждого из них;
+         * пустой список операций — все операции. Если не задано, аудируются все типы.
+         * Флаги {@link #create}, {@link #update} и {@link #delete} действуют поверх этого списка.
+         */
+        private Map<String, Set<OperationType>> entities = new LinkedHashMap<>();
+
+        /**
+         * Возвращает операции, аудируемые для типа сущности.
+         *
+         * @param entityType простое имя класса сущности
+         * @return разрешенные операции (пустое множество — тип не аудируется)
+         */
+        public Set<OperationType> allowedOperations(String entityType) {
+            Set<OperationType> allowed = EnumSet.noneOf(OperationType.class);
+            if (!enabled) {
+                return allowed;
+            }
+            if (create) {
+                allowed.add(OperationType.CREATE);
+            }
+            if (update) {
+                allowed.add(OperationType.UPDATE);
+            }
+            if (delete) {
+                allowed.add(OperationType.DELETE);
+            }
+            if (!entities.isEmpty()) {
+                Set<OperationType> included = entities.get(entityType);
+                if (included == null) {
+                    allowed.clear();
+                } else if (!included.isEmpty()) {
+                    allowed.retainAll(included);
+                }
+            }
+            return allowed;
+        }
+    }
+
+    @Data
+    public static class PipelineProperties {
+        /**
+         * Включение/отключение записи событий в таблицу. При отключении события только логируются.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Таблица журнала аудита (схема.таблица).
+         */
+        private String table = "entity.audit_log";
+
+        /**
+         * Емкость кольцевого буфера событий (округляется вверх до степени двойки).
+         */
+        private int capacity = 8192;
+
+        /**
+         * Максимальное количество событий в одной пакетной вставке.
+         */
+        private int batchSize = 200;
+
+        /**
+         * Интервал ожидания новых событий фоновым потоком при пустом буфере.
+         */
+        private Duration flushInterval = Duration.ofMillis(200);
+
+        /**
+         * Поведение при заполненном буфере.
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * Максимальное ожидание места в буфере при {@link OverflowPolicy#BLOCK}; затем событие отбрасывается.
+         */
+        private Duration blockTimeout = Duration.ofMillis(100);
+
+        /**
+         * Количество дневных секций таблицы, создаваемых заранее (кроме текущего дня).
+         */
+        private int partitionsAhead = 3;
+
+        /**
+         * Срок хранения событий; секции старше удаляются целиком. Ноль — хранить без ограничения.
+         */
+        private Duration retention = Duration.ofDays(90);
+
+        /**
+         * Интервал проверки секций (создание новых и удаление устаревших).
+         */
+        private Duration partitionMaintenanceInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class QueryProperties {
+        /**
+         * Включение/отключение эндпоинта {@code /actuator/auditlog}.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Интервал поиска, если {@code from} не задан.
+         */
+        private Duration defaultRange = Duration.ofHours(24);
+
+        /**
+         * Максимальный интервал поиска; ограничивает количество просматриваемых секций.
+         */
+        private Duration maxRange = Duration.ofDays(31);
+
+        /**
+         * Размер страницы по умолчанию.
+         */
+        private int defaultLimit = 50;
+
+        /**
+         * Максимальный размер страницы.
+         */
+        private int maxLimit = 500;
+    }
+
+    /**
+     * Тип аудируемой операции репозитория.
+     */
+    public enum OperationType {
+        /** {@code save*} новой сущности (без идентификатора) и пакетные {@code save*}. */
+        CREATE,
+        /** {@code update*} и {@code save*} сущности с идентификатором. */
+        UPDATE,
+        /** {@code delete*}. */
+        DELETE
+    }
+
+    /**
+     * Поведение при заполненном буфере событий аудита.
+     */
+    public enum OverflowPolicy {
+        /** Отбросить событие, не задерживая запрос. */
+        DROP,
+        /** Ждать освобождения места не дольше {@code block-timeout}. */
+        BLOCK
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.productCatalogService.audit.autoconfig.pipeline;
+
+import java.time.Instant;
+
+/**
+ * Неизменяемое событие аудита, формируемое в потоке запроса.
+ *
+ * <p>Содержит только строки и примитивы, поэтому после создания не зависит
+ * от сущности и запроса и может быть записано в другом потоке.</p>
+ *
+ * @param occurredAt момент операции
+ * @param operation  тип операции ({@code CREATE}, {@code UPDATE}, {@code DELETE})
+ * @param entityType тип сущности
+ * @param entityId   идентификатор сущности или {@code null}
+ * @param success    завершилась ли операция без исключения
+ * @param error      сообщение исключения для неуспешной операции
+ * @param ipAddress  адрес клиента или {@code null} вне HTTP-запроса
+ * @param requestUri URI запроса или {@code null} вне HTTP-запроса
+ * @param userName   пользователь запроса или {@code null}
+ * @param details    JSON сущности, если включено {@code operations.log-entity-content}
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+public record AuditEvent(Instant occurredAt,
+                         String operation,
+                         String entityType,
+                         String entityId,
+                         boolean success,
+                         String error,
+                         String ipAddress,
+                         String requestUri,
+                         String userName,
+                         String details) {
+}
@@ -0,0 +1,222 @@
+package com.productCatalogService.audit.autoconfig.pipeline;
+
+import com.productCatalogService.audit.autoconfig.config.AuditProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Асинхронная запись событий аудита в таблицу.
+ *
+ * <p>Поток запроса только кладет готовое {@link AuditEvent} в {@link AuditRingBuffer};
+ * фоновый поток {@code audit-writer} забирает события пачками до {@code batch-size}
+ * и записывает их одной пакетной вставкой. При заполненном буфере событие
+ * отбрасывается ({@code DROP}) или поток запроса ждет места не дольше
+ * {@code block-timeout} ({@code BLOCK}).</p>
+ *
+ * <p>Метрики: {@code audit.queue.depth}, {@code audit.events.dropped},
+ * {@code audit.events.written}, {@code audit.events.failed} и время пакетной
+ * вставки {@code audit.batch.write}.</p>
+ *
+ * <p>Останавливается после веб-сервера и до закрытия источника данных,
+ * дописывая оставшиеся в буфере события.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+@Slf4j
+public class AuditEventPipeline implements SmartLifecycle {
+
+    /**
+     * Фаза ниже фаз веб-сервера: запуск раньше, остановка после завершения запросов.
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long STOP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AuditRingBuffer<AuditEvent> buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties.PipelineProperties properties;
+    private final String insertSql;
+
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchWrite;
+
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public AuditEventPipeline(JdbcTemplate jdbcTemplate,
+                              AuditProperties.PipelineProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.buffer = new AuditRingBuffer<>(properties.getCapacity());
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.insertSql = "/* audit.insertBatch */ INSERT INTO "
+                + AuditTable.parse(properties.getTable()).qualifiedName()
+                + " (occurred_at, operation, entity_type, entity_id, success, error,"
+                + " ip_address, request_uri, user_name, details)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        Gauge.builder("audit.queue.depth", buffer, AuditRingBuffer::size)
+                .description("Количество событий аудита, ожидающих записи")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.events.dropped")
+                .description("События аудита, отброшенные из-за заполненного буфера")
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.events.written")
+                .description("События аудита, записанные в таблицу")
+                .register(meterRegistry);
+        this.failed = Counter.builder("audit.events.failed")
+                .description("События аудита, потерянные из-за ошибки записи")
+                .register(meterRegistry);
+        this.batchWrite = Timer.builder("audit.batch.write")
+                .description("Время пакетной вставки событий аудита")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Передает событие на запись.
+     *
+     * @param event событие аудита
+     * @return false если событие отброшено
+     */
+    public boolean publish(AuditEvent event) {
+        if (offer(event)) {
+            return true;
+        }
+        if (properties.getOverflowPolicy() == AuditProperties.OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+            while (System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (offer(event)) {
+                    return true;
+                }
+            }
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private boolean offer(AuditEvent event) {
+        if (!buffer.offer(event)) {
+            LockSupport.unpark(writer);
+            return false;
+        }
+        if (buffer.size() >= properties.getBatchSize()) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::writeLoop, "audit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.NANOSECONDS.toMillis(STOP_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffer.size() > 0) {
+            log.warn("При остановке не записано событий аудита: {}", buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        long stopDeadline = 0;
+        while (true) {
+            batch.clear();
+            buffer.drainTo(batch, properties.getBatchSize());
+            if (!batch.isEmpty()) {
+                write(batch);
+                continue;
+            }
+            if (!running) {
+                // Дожидаемся событий, позиции которых уже заняты, но еще не опубликованы
+                if (stopDeadline == 0) {
+                    stopDeadline = System.nanoTime() + STOP_TIMEOUT_NANOS;
+                }
+                if (buffer.size() == 0 || System.nanoTime() - stopDeadline > 0) {
+                    return;
+                }
+                Thread.onSpinWait();
+                continue;
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        long started = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(insertSql, batch, batch.size(), (ps, event) -> {
+                ps.setTimestamp(1, Timestamp.from(event.occurredAt()));
+                ps.setString(2, event.operation());
+                ps.setString(3, event.entityType());
+                setNullableString(ps, 4, event.entityId());
+                ps.setBoolean(5, event.success());
+                setNullableString(ps, 6, event.error());
+                setNullableString(ps, 7, event.ipAddress());
+                setNullableString(ps, 8, event.requestUri());
+                setNullableString(ps, 9, event.userName());
+                setNullableString(ps, 10, event.details());
+            });
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            // Повтор мог бы бесконечно задерживать новые события, поэтому пакет теряется и учитывается
+            failed.increment(batch.size());
+            log.error("Ошибка записи {} событий аудита: {}", batch.size(), e.getMessage());
+        } finally {
+            batchWrite.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void setNullableString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.productCatalogService.audit.autoconfig.pipeline;
+
+import com.productCatalogService.audit.autoconfig.config.AuditProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Обслуживание дневных секций журнала аудита.
+ *
+ * <p>При старте (до запуска {@link AuditEventPipeline}) и затем с интервалом
+ * {@code partition-maintenance-interval} создает секции на текущий и
+ * {@code partitions-ahead} следующих дней (UTC) и удаляет секции, целиком
+ * вышедшие за {@code retention}. Старые события удаляются вместе с секцией,
+ * без построчного {@code DELETE}. Проверка выполняется в одной транзакции под
+ * advisory-блокировкой, поэтому несколько экземпляров приложения не мешают друг другу.</p>
+ *
+ * <p>Если таблица не секционирована, обслуживание пропускается.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+@Slf4j
+public class AuditPartitionManager implements SmartLifecycle {
+
+    private static final String FIND_RELKIND = "/* audit.partitions.relkind */ "
+            + "SELECT c.relkind FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+            + "WHERE n.nspname = ? AND c.relname = ?";
+
+    private static final String LOCK = "/* audit.partitions.lock */ SELECT pg_advisory_xact_lock(hashtext(?))";
+
+    private static final String FIND_PARTITIONS = "/* audit.partitions.list */ "
+            + "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid "
+            + "JOIN pg_class p ON p.oid = i.inhparent "
+            + "JOIN pg_namespace n ON n.oid = p.relnamespace "
+            + "WHERE n.nspname = ? AND p.relname = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties.PipelineProperties properties;
+    private final AuditTable table;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public AuditPartitionManager(JdbcTemplate jdbcTemplate, AuditProperties.PipelineProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.table = AuditTable.parse(properties.getTable());
+    }
+
+    @Override
+    public void start() {
+        maintain();
+        long interval = properties.getPartitionMaintenanceInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory());
+        scheduler.scheduleWithFixedDelay(this::maintain, interval, interval, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Запускается раньше конвейера, чтобы секция текущего дня существовала до первой вставки.
+     */
+    @Override
+    public int getPhase() {
+        return AuditEventPipeline.PHASE - 1;
+    }
+
+    /**
+     * Создает недостающие и удаляет устаревшие секции. Ошибки записываются в лог:
+     * следующая проверка повторит попытку.
+     */
+    public void maintain() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                    maintain(connection);
+                    connection.commit();
+                } catch (SQLException | RuntimeException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Не удалось обслужить секции {}: {}", table.qualifiedName(), e.getMessage());
+        }
+    }
+
+    private void maintain(Connection connection) throws SQLException {
+        if (!isPartitioned(connection)) {
+            log.debug("Таблица {} не секционирована, обслуживание секций пропущено", table.qualifiedName());
+            return;
+        }
+        try (PreparedStatement lock = connection.prepareStatement(LOCK)) {
+            lock.setString(1, table.qualifiedName());
+            lock.execute();
+        }
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<String> existing = findPartitions(connection);
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i <= properties.getPartitionsAhead(); i++) {
+                LocalDate day = today.plusDays(i);
+                String partition = table.partitionName(day);
+                if (!existing.contains(partition)) {
+                    statement.execute("/* audit.partitions.create */ CREATE TABLE IF NOT EXISTS "
+                            + table.schema() + "." + partition + " PARTITION OF " + table.qualifiedName()
+                            + " FOR VALUES FROM ('" + day + " 00:00:00+00')"
+                            + " TO ('" + day.plusDays(1) + " 00:00:00+00')");
+                    log.info("Создана секция журнала аудита {}", partition);
+                }
+            }
+
+            if (properties.getRetention().isZero() || properties.getRetention().isNegative()) {
+                return;
+            }
+            // Секция дня D содержит события до D+1 00:00 и удаляется, когда эта граница старше срока хранения
+            LocalDate retainedFrom = today.minusDays(properties.getRetention().toDays());
+            for (String partition : existing) {
+                LocalDate day = table.partitionDay(partition);
+                if (day != null && !day.plusDays(1).isAfter(retainedFrom)) {
+                    statement.execute("/* audit.partitions.drop */ DROP TABLE IF EXISTS "
+                            + table.schema() + "." + partition);
+                    log.info("Удалена секция журнала аудита {} (срок хранения {})", partition,
+                            properties.getRetention());
+                }
+            }
+        }
+    }
+
+    private boolean isPartitioned(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_RELKIND)) {
+            statement.setString(1, table.schema());
+            statement.setString(2, table.name());
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && "p".equals(rs.getString(1));
+            }
+        }
+    }
+
+    private List<String> findPartitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_PARTITIONS)) {
+            statement.setString(1, table.schema());
+            statement.setString(2, table.name());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    partitions.add(rs.getString(1));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private static CustomizableThreadFactory threadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("audit-partitions-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
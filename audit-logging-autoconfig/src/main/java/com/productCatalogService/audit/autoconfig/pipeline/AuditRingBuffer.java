@@ -0,0 +1,103 @@
+package com.productCatalogService.audit.autoconfig.pipeline;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ограниченный неблокирующий кольцевой буфер с несколькими производителями
+ * и одним потребителем.
+ *
+ * <p>Производитель занимает позицию CAS-операцией над {@code tail} и публикует
+ * элемент в ячейку; потребитель читает ячейки по порядку с {@code head} и
+ * освобождает их. Ячейка, занятая, но еще не опубликованная производителем,
+ * читается как пустая, и потребитель дожидается ее на следующем проходе,
+ * поэтому порядок элементов сохраняется.</p>
+ *
+ * @param <T> тип элементов
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+public class AuditRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity емкость; округляется вверх до степени двойки
+     */
+    public AuditRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Емкость буфера должна быть в интервале (0, 2^30]: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Добавляет элемент, если в буфере есть место.
+     *
+     * @param element элемент (не null)
+     * @return false если буфер заполнен
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        while (true) {
+            long position = tail.get();
+            if (position - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                slots.lazySet((int) (position & mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Переносит до {@code limit} опубликованных элементов в {@code target}.
+     * Вызывается только одним потоком-потребителем.
+     *
+     * @param target список для элементов
+     * @param limit  максимальное количество элементов
+     * @return количество перенесенных элементов
+     */
+    public int drainTo(List<T> target, int limit) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (position & mask);
+            T element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            position++;
+            drained++;
+        }
+        if (drained > 0) {
+            head.lazySet(position);
+        }
+        return drained;
+    }
+
+    /**
+     * Возвращает приблизительное количество элементов в буфере.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Возвращает емкость буфера.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,71 @@
+package com.productCatalogService.audit.autoconfig.pipeline;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Имя таблицы журнала аудита и ее дневных секций.
+ *
+ * <p>Имя подставляется в текст SQL, поэтому допускаются только идентификаторы
+ * без кавычек в форме {@code таблица} или {@code схема.таблица}. Секция дня
+ * называется {@code <таблица>_pYYYYMMDD} и находится в той же схеме.</p>
+ *
+ * @param schema схема (по умолчанию {@code public})
+ * @param name   имя таблицы
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+public record AuditTable(String schema, String name) {
+
+    private static final Pattern TABLE_NAME =
+            Pattern.compile("(?:([A-Za-z_][A-Za-z0-9_]*)\\.)?([A-Za-z_][A-Za-z0-9_]*)");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * Разбирает имя из {@code product-catalog.audit.pipeline.table}.
+     *
+     * @param qualifiedName {@code таблица} или {@code схема.таблица}
+     * @return имя таблицы
+     */
+    public static AuditTable parse(String qualifiedName) {
+        Matcher matcher = TABLE_NAME.matcher(qualifiedName == null ? "" : qualifiedName);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Некорректное имя таблицы аудита: " + qualifiedName);
+        }
+        // Идентификаторы без кавычек PostgreSQL приводит к нижнему регистру, как и pg_class.relname
+        String schema = matcher.group(1) != null ? matcher.group(1) : "public";
+        return new AuditTable(schema.toLowerCase(Locale.ROOT), matcher.group(2).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Возвращает имя для SQL в форме {@code схема.таблица}.
+     */
+    public String qualifiedName() {
+        return schema + "." + name;
+    }
+
+    /**
+     * Возвращает имя секции дня без схемы.
+     */
+    public String partitionName(LocalDate day) {
+        return name + "_p" + PARTITION_SUFFIX.format(day);
+    }
+
+    /**
+     * Возвращает день секции по ее имени или {@code null} для посторонних таблиц.
+     */
+    public LocalDate partitionDay(String partitionName) {
+        String prefix = name + "_p";
+        if (!partitionName.startsWith(prefix) || partitionName.length() != prefix.length() + 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partitionName.substring(prefix.length()), PARTITION_SUFFIX);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
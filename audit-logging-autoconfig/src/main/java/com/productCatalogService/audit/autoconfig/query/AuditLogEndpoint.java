@@ -0,0 +1,67 @@
+package com.productCatalogService.audit.autoconfig.query;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Эндпоинт {@code /actuator/auditlog}: поиск в журнале аудита.
+ *
+ * <p>Пример — кто менял товар 123 за последний час:</p>
+ * <pre>
+ * GET /actuator/auditlog?entityType=Product&amp;entityId=123&amp;from=PT1H
+ * </pre>
+ * <p>{@code from} и {@code to} принимают момент ISO-8601 ({@code 2024-05-01T10:00:00Z})
+ * или длительность ({@code PT1H}), отсчитываемую назад от текущего момента. Следующая
+ * страница запрашивается с {@code cursor} из ответа.</p>
+ *
+ * <p>Журнал содержит пользователей и значения аргументов операций, а эндпоинт не проверяет
+ * доступ сам: приложение открывает его через {@code management.endpoints.web.exposure.include}
+ * только вместе с собственной проверкой роли.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ * @see AuditLogQuery
+ */
+@Endpoint(id = "auditlog")
+public class AuditLogEndpoint {
+
+    private final AuditLogQuery auditLogQuery;
+
+    public AuditLogEndpoint(AuditLogQuery auditLogQuery) {
+        this.auditLogQuery = auditLogQuery;
+    }
+
+    /**
+     * Возвращает страницу журнала от новых записей к старым.
+     */
+    @ReadOperation
+    public AuditLogPage auditLog(@Nullable String entityType, @Nullable String entityId,
+                                 @Nullable String from, @Nullable String to,
+                                 @Nullable Integer limit, @Nullable String cursor) {
+        try {
+            return auditLogQuery.find(entityType, entityId, parseTime("from", from), parseTime("to", to),
+                    limit, cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+
+    private static Instant parseTime(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return value.startsWith("P") || value.startsWith("p")
+                    ? Instant.now().minus(Duration.parse(value))
+                    : Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Некорректное значение " + name + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.productCatalogService.audit.autoconfig.query;
+
+import java.time.Instant;
+
+/**
+ * Запись журнала аудита.
+ *
+ * @param id         идентификатор записи
+ * @param occurredAt момент операции
+ * @param operation  тип операции
+ * @param entityType тип сущности
+ * @param entityId   идентификатор сущности
+ * @param success    завершилась ли операция без исключения
+ * @param error      сообщение исключения
+ * @param ipAddress  адрес клиента
+ * @param requestUri URI запроса
+ * @param userName   пользователь запроса
+ * @param details    JSON сущности
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+public record AuditLogEntry(long id,
+                            Instant occurredAt,
+                            String operation,
+                            String entityType,
+                            String entityId,
+                            boolean success,
+                            String error,
+                            String ipAddress,
+                            String requestUri,
+                            String userName,
+                            String details) {
+}
@@ -0,0 +1,14 @@
+package com.productCatalogService.audit.autoconfig.query;
+
+import java.util.List;
+
+/**
+ * Страница журнала аудита, от новых записей к старым.
+ *
+ * @param items      записи страницы
+ * @param nextCursor курсор следующей страницы или {@code null}, если страница последняя
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+public record AuditLogPage(List<AuditLogEntry> items, String nextCursor) {
+}
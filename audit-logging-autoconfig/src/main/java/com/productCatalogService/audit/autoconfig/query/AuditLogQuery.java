@@ -0,0 +1,142 @@
+package com.productCatalogService.audit.autoconfig.query;
+
+import com.productCatalogService.audit.autoconfig.config.AuditProperties;
+import com.productCatalogService.audit.autoconfig.pipeline.AuditTable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Чтение журнала аудита с постраничной выборкой по ключу.
+ *
+ * <p>Записи возвращаются от новых к старым по {@code (occurred_at, id)}; следующая
+ * страница начинается строго после последней записи предыдущей (курсор), поэтому
+ * стоимость чтения не зависит от номера страницы. Интервал времени обязателен и
+ * ограничен {@code max-range}: по нему PostgreSQL отбрасывает лишние дневные секции.
+ * Поиск по сущности использует индекс {@code (entity_type, entity_id, occurred_at, id)},
+ * поиск по времени — первичный ключ {@code (occurred_at, id)}.</p>
+ *
+ * @author Product Catalog Service Team
+ * @since 1.1.0
+ */
+public class AuditLogQuery {
+
+    private static final String COLUMNS = "id, occurred_at, operation, entity_type, entity_id, success, error,"
+            + " ip_address, request_uri, user_name, details";
+
+    private static final RowMapper<AuditLogEntry> ROW_MAPPER = (rs, rowNum) -> new AuditLogEntry(
+            rs.getLong("id"),
+            rs.getTimestamp("occurred_at").toInstant(),
+            rs.getString("operation"),
+            rs.getString("entity_type"),
+            rs.getString("entity_id"),
+            rs.getBoolean("success"),
+            rs.getString("error"),
+            rs.getString("ip_address"),
+            rs.getString("request_uri"),
+            rs.getString("user_name"),
+            rs.getString("details"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties.QueryProperties properties;
+    private final String table;
+
+    public AuditLogQuery(JdbcTemplate jdbcTemplate, AuditProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties.getQuery();
+        this.table = AuditTable.parse(properties.getPipeline().getTable()).qualifiedName();
+    }
+
+    /**
+     * Возвращает страницу журнала.
+     *
+     * @param entityType тип сущности или {@code null}
+     * @param entityId   идентификатор сущности (только вместе с {@code entityType}) или {@code null}
+     * @param from       начало интервала или {@code null} — {@code to} минус {@code default-range}
+     * @param to         конец интервала (не включается) или {@code null} — текущий момент
+     * @param limit      размер страницы или {@code null} — {@code default-limit}
+     * @param cursor     курсор из предыдущей страницы или {@code null}
+     * @return страница записей
+     * @throws IllegalArgumentException при некорректных параметрах
+     */
+    public AuditLogPage find(String entityType, String entityId, Instant from, Instant to,
+                             Integer limit, String cursor) {
+        if (entityId != null && entityType == null) {
+            throw new IllegalArgumentException("entityId задается только вместе с entityType");
+        }
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(properties.getDefaultRange());
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from должен быть раньше to");
+        }
+        if (Duration.between(start, end).compareTo(properties.getMaxRange()) > 0) {
+            throw new IllegalArgumentException("Интервал больше " + properties.getMaxRange());
+        }
+        int pageSize = limit != null ? limit : properties.getDefaultLimit();
+        if (pageSize <= 0 || pageSize > properties.getMaxLimit()) {
+            throw new IllegalArgumentException("limit должен быть в интервале [1, " + properties.getMaxLimit() + "]");
+        }
+
+        List<Object> args = new ArrayList<>();
+        String name = entityType != null ? "/* audit.findByEntity */" : "/* audit.findByTime */";
+        StringBuilder sql = new StringBuilder(name)
+                .append(" SELECT ").append(COLUMNS).append(" FROM ").append(table)
+                .append(" WHERE occurred_at >= ? AND occurred_at < ?");
+        args.add(Timestamp.from(start));
+        args.add(Timestamp.from(end));
+        if (entityType != null) {
+            sql.append(" AND entity_type = ?");
+            args.add(entityType);
+        }
+        if (entityId != null) {
+            sql.append(" AND entity_id = ?");
+            args.add(entityId);
+        }
+        if (cursor != null) {
+            Position position = Position.decode(cursor);
+            sql.append(" AND (occurred_at, id) < (?, ?)");
+            args.add(Timestamp.from(position.occurredAt()));
+            args.add(position.id());
+        }
+        // Лишняя строка показывает, есть ли следующая страница
+        sql.append(" ORDER BY occurred_at DESC, id DESC LIMIT ?");
+        args.add(pageSize + 1);
+
+        List<AuditLogEntry> rows = jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+        if (rows.size() <= pageSize) {
+            return new AuditLogPage(rows, null);
+        }
+        List<AuditLogEntry> page = rows.subList(0, pageSize);
+        AuditLogEntry last = page.get(pageSize - 1);
+        return new AuditLogPage(List.copyOf(page), new Position(last.occurredAt(), last.id()).encode());
+    }
+
+    /**
+     * Позиция последней записи страницы; в курсоре кодируется base64url.
+     */
+    private record Position(Instant occurredAt, long id) {
+
+        String encode() {
+            String value = occurredAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Position decode(String cursor) {
+            try {
+                String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = value.indexOf('|');
+                return new Position(Instant.parse(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Некорректный курсор: " + cursor);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+#!/bin/bash
+# Запуск реплики: при пустом каталоге данных снимает базовую копию с основного
+# сервера (pg_basebackup -R создает standby.signal и primary_conninfo), затем
+# запускает postgres в режиме горячего резерва.
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    until pg_isready -h "$PRIMARY_HOST" -p 5432 -U "$REPLICATION_USER"; do
+        echo "Ожидание основного сервера $PRIMARY_HOST..."
+        sleep 2
+    done
+
+    mkdir -p "$PGDATA"
+    chown -R postgres:postgres "$PGDATA"
+    chmod 700 "$PGDATA"
+    export PGPASSWORD="$REPLICATION_PASSWORD"
+    gosu postgres pg_basebackup -h "$PRIMARY_HOST" -p 5432 -U "$REPLICATION_USER" \
+        -D "$PGDATA" -X stream -R -P
+fi
+
+exec gosu postgres postgres -c hot_standby=on
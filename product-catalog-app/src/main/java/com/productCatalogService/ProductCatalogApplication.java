@@ -3,8 +3,10 @@ package com.productCatalogService;
 import com.productCatalogService.swagger.EnableSwagger;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Основной класс Spring Boot приложения Product Catalog Service.
@@ -16,6 +18,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  *   <li>Включение аудита JPA сущностей</li>
  *   <li>Активация модуля аудита и логирования</li>
  *   <li>Сканирование компонентов во всех пакетах приложения</li>
+ *   <li>Регистрация классов настроек {@code @ConfigurationProperties}</li>
+ *   <li>Выполнение фоновых задач по расписанию</li>
  * </ul>
  *
  * @author Product Catalog Service Team
@@ -23,8 +27,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * @see SpringBootApplication
  */
 @SpringBootApplication(scanBasePackages = "com.productCatalogService")
+@ConfigurationPropertiesScan
 @EnableJpaAuditing
 @EnableAspectJAutoProxy
+@EnableScheduling
 @EnableSwagger
 public class ProductCatalogApplication {
 
@@ -0,0 +1,43 @@
+package com.productCatalogService.aspect;
+
+import com.productCatalogService.event.jfr.RepositoryCallEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Записывает вызовы методов репозиториев как {@link RepositoryCallEvent}.
+ *
+ * <p>Пока запись JFR не идет, событие выключено и метод вызывается без
+ * замеров; проверка {@link jdk.jfr.Event#isEnabled()} сводится к чтению флага.</p>
+ */
+@Aspect
+@Component
+public class RepositoryJfrAspect {
+
+    @Around("execution(public * com.productCatalogService.repository.impl.*RepositoryImpl.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.success = failure == null;
+                event.error = failure != null ? failure.getClass().getName() : null;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.productCatalogService.aspect;
+
+import com.productCatalogService.config.UseWorkload;
+import com.productCatalogService.config.WorkloadContext;
+import com.productCatalogService.config.WorkloadType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * Устанавливает тип нагрузки из {@link UseWorkload} на время вызова метода.
+ *
+ * <p>Аспект выполняется раньше транзакционного перехватчика, поэтому
+ * соединение транзакции берется уже из объявленного пула.</p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    @Around("@within(com.productCatalogService.config.UseWorkload) "
+            + "|| @annotation(com.productCatalogService.config.UseWorkload)")
+    public Object withWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+        UseWorkload workload = resolve(joinPoint);
+        if (workload == null) {
+            return joinPoint.proceed();
+        }
+        WorkloadType previous = WorkloadContext.enter(workload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private UseWorkload resolve(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method specific = AopUtils.getMostSpecificMethod(method, targetClass);
+
+        UseWorkload annotation = AnnotatedElementUtils.findMergedAnnotation(specific, UseWorkload.class);
+        return annotation != null
+                ? annotation
+                : AnnotatedElementUtils.findMergedAnnotation(targetClass, UseWorkload.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.productCatalogService.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productCatalogService.dto.ErrorResponse;
+import com.productCatalogService.entity.Role;
+import com.productCatalogService.entity.User;
+import com.productCatalogService.util.AuthUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ограничивает эндпоинты actuator из {@code app.diagnostics.admin-endpoints} пользователями
+ * с ролью ADMIN: без действующего токена в {@code Authorization} возвращается 401, с токеном
+ * другой роли — 403. Остальные эндпоинты actuator фильтр пропускает.
+ *
+ * <p>Путь сравнивается так же, как его сопоставляет Spring MVC: по сегментам, декодированным
+ * и без параметров после {@code ;}. Поэтому варианты вроде {@code /actuator/jfr;x=1} или
+ * {@code /actuator/%6Afr}, которые попадают в тот же эндпоинт, тоже требуют токен.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ActuatorAdminFilter extends OncePerRequestFilter {
+
+    private final AuthUtil authUtil;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> protectedPatterns;
+
+    public ActuatorAdminFilter(AuthUtil authUtil, ObjectMapper objectMapper, DiagnosticsProperties properties,
+                               @Value("${management.endpoints.web.base-path:/actuator}") String basePath) {
+        this.authUtil = authUtil;
+        this.objectMapper = objectMapper;
+        // "/**" совпадает и с самим эндпоинтом, и с его подпутями ({id}, завершающий "/")
+        this.protectedPatterns = properties.getAdminEndpoints().stream()
+                .map(id -> PathPatternParser.defaultInstance.parse(basePath + "/" + id + "/**"))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+                .pathWithinApplication();
+        for (PathPattern pattern : protectedPatterns) {
+            if (pattern.matches(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        User user = authorization != null ? authUtil.getUserByAuthHeader(authorization) : null;
+        if (user == null) {
+            reject(response, HttpStatus.UNAUTHORIZED, "Неавторизованный доступ");
+            return;
+        }
+        if (user.getRole() != Role.ADMIN) {
+            log.warn("Access denied: {} {} for user {}", request.getMethod(), request.getRequestURI(),
+                    user.getUserName());
+            reject(response, HttpStatus.FORBIDDEN, "Доступ запрещен. Требуется роль ADMIN");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,63 @@
+package com.productCatalogService.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Метрики асинхронных аппендеров логов ({@link MeteredAsyncAppender}, профиль prod):
+ * {@code logback.async.dropped{appender, reason}} — отброшенные события
+ * ({@code reason=threshold} — TRACE/DEBUG/INFO при заполненной очереди,
+ * {@code reason=full} — любые события при полной очереди) и
+ * {@code logback.async.queue.size{appender}} — текущее заполнение очереди.
+ */
+@Component
+public class AsyncLoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+        for (MeteredAsyncAppender appender : findAppenders(context)) {
+            FunctionCounter.builder("logback.async.dropped", appender, MeteredAsyncAppender::getDiscardedCount)
+                    .description("События лога, отброшенные асинхронным аппендером")
+                    .tag("appender", appender.getName())
+                    .tag("reason", "threshold")
+                    .register(registry);
+            FunctionCounter.builder("logback.async.dropped", appender, MeteredAsyncAppender::getDroppedCount)
+                    .description("События лога, отброшенные асинхронным аппендером")
+                    .tag("appender", appender.getName())
+                    .tag("reason", "full")
+                    .register(registry);
+            Gauge.builder("logback.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .description("События лога в очереди асинхронного аппендера")
+                    .tag("appender", appender.getName())
+                    .register(registry);
+        }
+    }
+
+    private static Set<MeteredAsyncAppender> findAppenders(LoggerContext context) {
+        Set<MeteredAsyncAppender> appenders = new LinkedHashSet<>();
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof MeteredAsyncAppender appender) {
+                    appenders.add(appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
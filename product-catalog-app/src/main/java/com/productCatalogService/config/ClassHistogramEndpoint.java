@@ -0,0 +1,106 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.dto.DiagnosticsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Эндпоинт {@code /actuator/classhistogram}: классы кучи по занимаемому объему
+ * (диагностическая команда {@code GC.class_histogram}).
+ *
+ * <p>По умолчанию перед подсчетом выполняется полная сборка мусора, и учитываются
+ * только достижимые объекты. С {@code ?all=true} сборка не выполняется, но в итог
+ * попадает и мусор. В обоих случаях команда останавливает приложение на время обхода
+ * кучи, поэтому одновременно выполняется не больше одной.</p>
+ *
+ * <p>Доступен только администратору ({@link ActuatorAdminFilter}).</p>
+ */
+@Component
+@Endpoint(id = "classhistogram")
+@RequiredArgsConstructor
+public class ClassHistogramEndpoint {
+
+    private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+
+    private static final Pattern ENTRY =
+            Pattern.compile("^\\s*(\\d+):\\s+(\\d+)\\s+(\\d+)\\s+(\\S+)(?:\\s+\\((.+)\\))?\\s*$");
+    private static final Pattern TOTAL = Pattern.compile("^\\s*Total\\s+(\\d+)\\s+(\\d+)\\s*$");
+
+    private final DiagnosticsProperties properties;
+
+    /**
+     * Снимает гистограмму.
+     *
+     * @param limit количество классов в ответе
+     * @param all   учитывать недостижимые объекты без полной сборки мусора
+     */
+    @ReadOperation
+    public synchronized DiagnosticsDTO.ClassHistogram histogram(@Nullable Integer limit, @Nullable Boolean all) {
+        DiagnosticsProperties.ClassHistogram settings = properties.getClassHistogram();
+        int maxEntries = Math.max(1, Math.min(limit != null ? limit : settings.getDefaultLimit(),
+                settings.getMaxLimit()));
+        boolean includeUnreachable = Boolean.TRUE.equals(all);
+        return parse(execute(includeUnreachable), maxEntries, includeUnreachable);
+    }
+
+    private static String execute(boolean all) {
+        try {
+            return (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName(DIAGNOSTIC_COMMAND),
+                    "gcClassHistogram",
+                    new Object[]{all ? new String[]{"-all"} : new String[0]},
+                    new String[]{String[].class.getName()});
+        } catch (JMException e) {
+            throw new IllegalStateException("Команда GC.class_histogram недоступна: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Разбирает вывод {@code GC.class_histogram}: строки {@code "номер: экземпляры байты класс (модуль)"}
+     * и итоговую строку {@code "Total экземпляры байты"}.
+     */
+    static DiagnosticsDTO.ClassHistogram parse(String output, int limit, boolean all) {
+        List<DiagnosticsDTO.ClassHistogramEntry> entries = new ArrayList<>(limit);
+        long totalInstances = 0;
+        long totalBytes = 0;
+        for (String line : output.split("\\R")) {
+            Matcher entry = ENTRY.matcher(line);
+            if (entry.matches()) {
+                if (entries.size() < limit) {
+                    entries.add(DiagnosticsDTO.ClassHistogramEntry.builder()
+                            .rank(Integer.parseInt(entry.group(1)))
+                            .instances(Long.parseLong(entry.group(2)))
+                            .bytes(Long.parseLong(entry.group(3)))
+                            .className(entry.group(4))
+                            .module(entry.group(5))
+                            .build());
+                }
+                continue;
+            }
+            Matcher total = TOTAL.matcher(line);
+            if (total.matches()) {
+                totalInstances = Long.parseLong(total.group(1));
+                totalBytes = Long.parseLong(total.group(2));
+            }
+        }
+        return DiagnosticsDTO.ClassHistogram.builder()
+                .timestamp(Instant.now())
+                .all(all)
+                .totalInstances(totalInstances)
+                .totalBytes(totalBytes)
+                .entries(entries)
+                .build();
+    }
+}
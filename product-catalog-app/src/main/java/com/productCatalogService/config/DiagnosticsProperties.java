@@ -0,0 +1,75 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Настройки диагностических эндпоинтов: записи JFR и гистограммы классов.
+ *
+ * @see JfrEndpoint
+ * @see ClassHistogramEndpoint
+ */
+@Data
+@ConfigurationProperties(prefix = "app.diagnostics")
+public class DiagnosticsProperties {
+
+    /**
+     * Эндпоинты actuator, доступные только пользователю с ролью ADMIN. Журнал медленных
+     * запросов содержит SQL со значениями параметров и очищается через DELETE, журнал аудита —
+     * пользователей и аргументы операций.
+     */
+    private List<String> adminEndpoints = List.of("jfr", "classhistogram", "slowqueries", "auditlog");
+
+    private Jfr jfr = new Jfr();
+
+    private ClassHistogram classHistogram = new ClassHistogram();
+
+    @Data
+    public static class Jfr {
+
+        /**
+         * Каталог файлов {@code .jfr}.
+         */
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "product-catalog-jfr");
+
+        /**
+         * Длительность записи, если она не указана в запросе.
+         */
+        private Duration defaultDuration = Duration.ofMinutes(1);
+
+        /**
+         * Максимальная длительность одной записи.
+         */
+        private Duration maxDuration = Duration.ofMinutes(30);
+
+        /**
+         * Ограничение размера данных одной записи; старые фрагменты отбрасываются.
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+
+        /**
+         * Количество хранимых записей (идущих и завершенных). При превышении удаляется самая
+         * старая завершенная запись вместе с файлом.
+         */
+        private int maxRecordings = 5;
+    }
+
+    @Data
+    public static class ClassHistogram {
+
+        /**
+         * Количество классов в ответе, если параметр {@code limit} не указан.
+         */
+        private int defaultLimit = 50;
+
+        /**
+         * Максимальное значение параметра {@code limit}.
+         */
+        private int maxLimit = 1000;
+    }
+}
@@ -0,0 +1,71 @@
+package com.productCatalogService.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Количество выполняющихся запросов по эндпоинтам:
+ * {@code http.server.requests.in.flight{method, uri}}, где {@code uri} — шаблон
+ * сопоставления контроллера (как в {@code http.server.requests}).
+ *
+ * <p>Запрос учитывается с момента выбора обработчика до завершения, включая
+ * асинхронную обработку: повторная диспетчеризация не считается новым запросом.</p>
+ *
+ * @see HttpMetricsConfig
+ */
+public class HttpInFlightInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String METRIC_NAME = "http.server.requests.in.flight";
+
+    private static final String COUNTER_ATTRIBUTE = HttpInFlightInterceptor.class.getName() + ".counter";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public HttpInFlightInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(COUNTER_ATTRIBUTE) == null) {
+            AtomicInteger counter = counter(request);
+            counter.incrementAndGet();
+            request.setAttribute(COUNTER_ATTRIBUTE, counter);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(COUNTER_ATTRIBUTE) instanceof AtomicInteger counter) {
+            counter.decrementAndGet();
+            request.removeAttribute(COUNTER_ATTRIBUTE);
+        }
+    }
+
+    private AtomicInteger counter(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        return inFlight.computeIfAbsent(method + " " + uri, key -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder(METRIC_NAME, counter, AtomicInteger::get)
+                    .description("Выполняющиеся HTTP-запросы")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.productCatalogService.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * HTTP-метрики по эндпоинтам контроллеров.
+ *
+ * <p>Время, количество и классы ответов дает стандартный таймер
+ * {@code http.server.requests{method, uri, status, outcome}}; гистограмма
+ * с процентилями и SLO-границами включается в {@code management.metrics.distribution}.
+ * Здесь добавляется только {@link HttpInFlightInterceptor}, так как стандартный
+ * {@code http.server.requests.active} не знает шаблон URI в момент начала запроса.</p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HttpMetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HttpInFlightInterceptor(meterRegistry));
+    }
+}
@@ -0,0 +1,104 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.dto.DiagnosticsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Эндпоинт {@code /actuator/jfr}: записи Java Flight Recorder по запросу.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} — список записей;</li>
+ *   <li>{@code POST /actuator/jfr} {@code {"settings":"profile","duration":"2m","name":"..."}} — запуск;</li>
+ *   <li>{@code POST /actuator/jfr/{id}} — остановка;</li>
+ *   <li>{@code GET /actuator/jfr/{id}} — файл {@code .jfr} (для идущей записи — снимок);</li>
+ *   <li>{@code DELETE /actuator/jfr/{id}} — удаление записи и файлов.</li>
+ * </ul>
+ *
+ * <p>Доступен только администратору ({@link ActuatorAdminFilter}).</p>
+ *
+ * @see JfrRecordings
+ */
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private static final String JFR_CONTENT_TYPE = "application/octet-stream";
+
+    private final JfrRecordings recordings;
+
+    /**
+     * Возвращает хранимые записи.
+     */
+    @ReadOperation
+    public List<DiagnosticsDTO.JfrRecording> recordings() {
+        return recordings.list();
+    }
+
+    /**
+     * Запускает запись.
+     *
+     * @param settings профиль настроек JDK: {@code default} или {@code profile}
+     * @param duration длительность ({@code 90s}, {@code 5m}, {@code PT5M})
+     * @param name     имя записи
+     */
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable String settings, @Nullable Duration duration,
+                                             @Nullable String name) {
+        try {
+            return new WebEndpointResponse<>(recordings.start(settings, duration, name));
+        } catch (IllegalArgumentException e) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, e);
+        } catch (IllegalStateException e) {
+            return error(409, e);
+        }
+    }
+
+    /**
+     * Останавливает запись; после этого файл доступен по {@code GET /actuator/jfr/{id}}.
+     */
+    @WriteOperation
+    public WebEndpointResponse<Object> stop(@Selector long id) {
+        return recordings.stop(id)
+                .<WebEndpointResponse<Object>>map(WebEndpointResponse::new)
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    /**
+     * Возвращает файл записи.
+     */
+    @ReadOperation(produces = JFR_CONTENT_TYPE)
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        return recordings.file(id)
+                .<WebEndpointResponse<Resource>>map(file -> new WebEndpointResponse<>(new FileSystemResource(file)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    /**
+     * Удаляет запись и ее файлы.
+     */
+    @DeleteOperation
+    public WebEndpointResponse<Void> delete(@Selector long id) {
+        return new WebEndpointResponse<>(recordings.delete(id)
+                ? WebEndpointResponse.STATUS_NO_CONTENT
+                : WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    private static WebEndpointResponse<Object> error(int status, RuntimeException e) {
+        return new WebEndpointResponse<>(Map.of("message", e.getMessage()), status);
+    }
+}
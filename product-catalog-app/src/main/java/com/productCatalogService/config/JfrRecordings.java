@@ -0,0 +1,252 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.dto.DiagnosticsDTO;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Записи Java Flight Recorder, запущенные через {@code /actuator/jfr}.
+ *
+ * <p>Каждая запись пишется в {@code <directory>/recording-<id>.jfr}: при остановке
+ * (вручную или по истечении длительности) JVM сохраняет данные в этот файл. Для идущей
+ * записи {@link #file(long)} сохраняет снимок накопленных данных, не останавливая ее.
+ * Хранится не более {@code max-recordings} записей; лишняя завершенная запись удаляется
+ * вместе с файлами.</p>
+ *
+ * <p>При остановке приложения идущие записи останавливаются, файлы остаются на диске.</p>
+ */
+@Slf4j
+@Component
+public class JfrRecordings implements DisposableBean {
+
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final DiagnosticsProperties.Jfr properties;
+    private final Map<Long, ManagedRecording> recordings = new LinkedHashMap<>();
+
+    public JfrRecordings(DiagnosticsProperties properties) {
+        this.properties = properties.getJfr();
+    }
+
+    /**
+     * Запускает запись.
+     *
+     * @param settings профиль настроек JDK ({@code default} — фоновый, {@code profile} — с
+     *                 профилированием); {@code null} — {@code default}
+     * @param duration длительность; {@code null} — {@code default-duration}
+     * @param name     имя записи; {@code null} — сгенерированное
+     * @return запущенная запись
+     * @throws IllegalArgumentException неизвестный профиль, некорректные длительность или имя
+     * @throws IllegalStateException    все хранимые записи еще идут
+     */
+    public synchronized DiagnosticsDTO.JfrRecording start(String settings, Duration duration, String name) {
+        String settingsName = settings != null ? settings : "default";
+        Duration recordingDuration = duration != null ? duration : properties.getDefaultDuration();
+        if (recordingDuration.isZero() || recordingDuration.isNegative()
+                || recordingDuration.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("Длительность записи должна быть от 1 мс до "
+                    + properties.getMaxDuration());
+        }
+        if (name != null && !VALID_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Имя записи может содержать только латинские буквы, цифры, '.', '_' "
+                    + "и '-' (до 64 символов)");
+        }
+        Configuration configuration = configuration(settingsName);
+        evictStopped();
+
+        Recording recording = new Recording(configuration);
+        try {
+            Files.createDirectories(properties.getDirectory());
+            recording.setName(name != null ? name : "product-catalog-" + recording.getId());
+            recording.setToDisk(true);
+            recording.setDuration(recordingDuration);
+            recording.setMaxSize(properties.getMaxSize().toBytes());
+            recording.setDestination(recordingFile(recording.getId()));
+            recording.start();
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException("Не удалось создать файл записи JFR", e);
+        }
+        recordings.put(recording.getId(), new ManagedRecording(recording, settingsName));
+        log.info("Запущена запись JFR {} ({}, профиль {}, длительность {})",
+                recording.getId(), recording.getName(), settingsName, recordingDuration);
+        return toDto(recordings.get(recording.getId()));
+    }
+
+    /**
+     * Возвращает хранимые записи в порядке запуска.
+     */
+    public synchronized List<DiagnosticsDTO.JfrRecording> list() {
+        return recordings.values().stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Останавливает запись; данные сохраняются в файл записи.
+     *
+     * @param id идентификатор записи
+     * @return остановленная запись или пустой результат, если записи нет
+     */
+    public synchronized Optional<DiagnosticsDTO.JfrRecording> stop(long id) {
+        ManagedRecording managed = recordings.get(id);
+        if (managed == null) {
+            return Optional.empty();
+        }
+        Recording recording = managed.recording();
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+            log.info("Остановлена запись JFR {} ({})", id, recording.getName());
+        }
+        return Optional.of(toDto(managed));
+    }
+
+    /**
+     * Возвращает файл записи. Для идущей записи сохраняет снимок данных на текущий момент.
+     *
+     * @param id идентификатор записи
+     * @return файл {@code .jfr} или пустой результат, если записи нет
+     */
+    public synchronized Optional<Path> file(long id) {
+        ManagedRecording managed = recordings.get(id);
+        if (managed == null) {
+            return Optional.empty();
+        }
+        Recording recording = managed.recording();
+        if (isFinished(recording)) {
+            Path file = recordingFile(id);
+            return Files.exists(file) ? Optional.of(file) : Optional.empty();
+        }
+        if (recording.getState() != RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        Path snapshot = snapshotFile(id);
+        try (Recording copy = recording.copy(true)) {
+            copy.dump(snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось сохранить снимок записи JFR " + id, e);
+        }
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Закрывает запись и удаляет ее файлы.
+     *
+     * @param id идентификатор записи
+     * @return {@code false}, если записи нет
+     */
+    public synchronized boolean delete(long id) {
+        ManagedRecording managed = recordings.remove(id);
+        if (managed == null) {
+            return false;
+        }
+        close(managed.recording());
+        log.info("Удалена запись JFR {} ({})", id, managed.recording().getName());
+        return true;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        for (ManagedRecording managed : recordings.values()) {
+            Recording recording = managed.recording();
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.close();
+        }
+        recordings.clear();
+    }
+
+    private void evictStopped() {
+        if (recordings.size() < properties.getMaxRecordings()) {
+            return;
+        }
+        Recording oldest = recordings.values().stream()
+                .map(ManagedRecording::recording)
+                .filter(JfrRecordings::isFinished)
+                .min(Comparator.comparing(Recording::getId))
+                .orElseThrow(() -> new IllegalStateException("Идут " + recordings.size()
+                        + " записи JFR; остановите или удалите одну из них"));
+        recordings.remove(oldest.getId());
+        close(oldest);
+        log.info("Удалена старая запись JFR {} ({})", oldest.getId(), oldest.getName());
+    }
+
+    private void close(Recording recording) {
+        recording.close();
+        try {
+            Files.deleteIfExists(recordingFile(recording.getId()));
+            Files.deleteIfExists(snapshotFile(recording.getId()));
+        } catch (IOException e) {
+            log.warn("Не удалось удалить файлы записи JFR {}: {}", recording.getId(), e.getMessage());
+        }
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Неизвестный профиль настроек JFR: " + settings + ". Доступны: "
+                    + Configuration.getConfigurations().stream().map(Configuration::getName).toList());
+        }
+    }
+
+    /**
+     * Запись с файлом назначения JVM закрывает сразу после сохранения, поэтому завершенная
+     * запись может быть как {@code STOPPED}, так и {@code CLOSED}.
+     */
+    private static boolean isFinished(Recording recording) {
+        return recording.getState() == RecordingState.STOPPED || recording.getState() == RecordingState.CLOSED;
+    }
+
+    private DiagnosticsDTO.JfrRecording toDto(ManagedRecording managed) {
+        Recording recording = managed.recording();
+        return DiagnosticsDTO.JfrRecording.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .settings(managed.settings())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .duration(recording.getDuration())
+                .size(isFinished(recording) ? fileSize(recording.getId()) : 0L)
+                .build();
+    }
+
+    private long fileSize(long id) {
+        try {
+            return Files.size(recordingFile(id));
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private Path recordingFile(long id) {
+        return properties.getDirectory().resolve("recording-" + id + ".jfr");
+    }
+
+    private Path snapshotFile(long id) {
+        return properties.getDirectory().resolve("recording-" + id + "-snapshot.jfr");
+    }
+
+    /**
+     * Запись и имя профиля, с которым она запущена.
+     */
+    private record ManagedRecording(Recording recording, String settings) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.productCatalogService.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки ограничения частоты попыток входа.
+ *
+ * @see com.productCatalogService.util.LoginRateLimiter
+ */
+@Data
+@ConfigurationProperties(prefix = "app.security.login-rate-limit")
+public class LoginRateLimitProperties {
+
+    /**
+     * Включение/отключение ограничения попыток входа.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Лимит попыток с одного IP-адреса.
+     */
+    private Bucket perIp = new Bucket(20, 1.0);
+
+    /**
+     * Лимит попыток для одного имени пользователя.
+     */
+    private Bucket perUsername = new Bucket(5, 0.2);
+
+    /**
+     * Количество ячеек в строке таблицы ограничителя (округляется до степени двойки).
+     */
+    private int sketchWidth = 4096;
+
+    /**
+     * Количество строк (хеш-функций) таблицы ограничителя.
+     */
+    private int sketchDepth = 4;
+
+    /**
+     * Брать IP клиента из заголовка X-Forwarded-For (только за доверенным прокси).
+     */
+    private boolean trustForwardedFor = false;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        /**
+         * Емкость бакета — допустимый всплеск попыток.
+         */
+        private int capacity;
+
+        /**
+         * Скорость пополнения токенов в секунду.
+         */
+        private double refillPerSecond;
+    }
+}
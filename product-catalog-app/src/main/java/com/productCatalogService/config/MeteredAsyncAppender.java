@@ -0,0 +1,55 @@
+package com.productCatalogService.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} с учетом отброшенных событий.
+ *
+ * <p>Поведение то же, что у {@code AsyncAppender}: при заполнении очереди больше чем на
+ * {@code queueSize - discardingThreshold} события TRACE/DEBUG/INFO отбрасываются, а с
+ * {@code neverBlock=true} поток запроса не ждет места и при полной очереди теряет событие
+ * любого уровня. Оба случая считаются отдельно и публикуются {@link AsyncLoggingMetrics}.
+ * Учет полной очереди приблизительный: событие, не поместившееся из-за гонки между
+ * проверкой и вставкой, не считается.</p>
+ *
+ * @see AsyncLoggingMetrics
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (!isStarted()) {
+            return;
+        }
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            discarded.increment();
+            return;
+        }
+        if (remaining == 0 && isNeverBlock()) {
+            dropped.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    /**
+     * Возвращает количество событий TRACE/DEBUG/INFO, отброшенных по порогу заполнения.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    /**
+     * Возвращает количество событий, потерянных из-за полной очереди.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
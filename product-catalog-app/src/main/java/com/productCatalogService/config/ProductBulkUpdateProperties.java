@@ -0,0 +1,24 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки массового обновления остатков и цен товаров.
+ *
+ * @see com.productCatalogService.service.impl.ProductServiceImpl#bulkUpdateStockAndPrice
+ */
+@Data
+@ConfigurationProperties(prefix = "app.products.bulk-update")
+public class ProductBulkUpdateProperties {
+
+    /**
+     * Количество строк в одном пакете JDBC.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Максимальное количество строк в одном запросе.
+     */
+    private int maxItems = 10_000;
+}
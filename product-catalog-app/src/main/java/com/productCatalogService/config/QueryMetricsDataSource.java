@@ -0,0 +1,356 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.util.QueryName;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Источник данных, измеряющий каждый выполненный SQL-запрос.
+ *
+ * <p>Запрос относится к имени из комментария {@link QueryName} в начале текста
+ * (например, {@code product.findById}); запросы без имени учитываются под
+ * {@value QueryName#UNNAMED}. По каждому имени публикуются:</p>
+ * <ul>
+ *   <li>{@code db.query} — время выполнения (HDR-гистограмма и процентили);</li>
+ *   <li>{@code db.query.rows} — прочитанные строки для SELECT и измененные для DML;</li>
+ *   <li>{@code db.query.errors} — ошибки с тегом {@code sqlstate}.</li>
+ * </ul>
+ *
+ * <p>Время SELECT измеряется до возврата {@code ResultSet}: без {@code fetchSize}
+ * драйвер PostgreSQL к этому моменту уже получил все строки. Метры кешируются
+ * по тексту именованного запроса, поэтому на каждый запрос приходится один
+ * поиск в хеш-таблице по строковой константе с закешированным хешем.</p>
+ *
+ * <p>Если задан {@link SlowQueryLog}, значения параметров {@code set*} запоминаются,
+ * а запросы дольше порога передаются в журнал медленных запросов.</p>
+ *
+ * <p>При {@code app.metrics.queries.enabled=false} источник не создается
+ * и накладных расходов нет.</p>
+ */
+@Slf4j
+public class QueryMetricsDataSource extends DelegatingDataSource {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryMetricsProperties properties;
+    /**
+     * Предел кеша по тексту запроса: динамически собранный SQL (например, IN с
+     * переменным числом параметров) не должен расти без ограничений.
+     */
+    private static final int MAX_CACHED_STATEMENTS = 1000;
+
+    private final Map<String, QueryMeters> metersBySql = new ConcurrentHashMap<>();
+    private final Map<String, QueryMeters> metersByName = new ConcurrentHashMap<>();
+    private final QueryMeters unnamed;
+    private final SlowQueryLog slowQueryLog;
+    private final long slowThresholdNanos;
+
+    public QueryMetricsDataSource(DataSource targetDataSource,
+                                  MeterRegistry meterRegistry,
+                                  QueryMetricsProperties properties,
+                                  SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.unnamed = meters(QueryName.UNNAMED);
+        this.slowQueryLog = slowQueryLog;
+        this.slowThresholdNanos = slowQueryLog != null ? slowQueryLog.thresholdNanos() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private QueryMeters metersForSql(String sql) {
+        if (!QueryName.isNamed(sql)) {
+            return unnamed;
+        }
+        QueryMeters meters = metersBySql.get(sql);
+        if (meters == null) {
+            meters = meters(QueryName.extract(sql));
+            if (metersBySql.size() < MAX_CACHED_STATEMENTS) {
+                metersBySql.put(sql, meters);
+            }
+        }
+        return meters;
+    }
+
+    private QueryMeters meters(String name) {
+        return metersByName.computeIfAbsent(name, key -> new QueryMeters(key,
+                Timer.builder("db.query")
+                        .description("Время выполнения SQL-запроса")
+                        .tag("name", key)
+                        .publishPercentiles(properties.getPercentiles())
+                        .publishPercentileHistogram(properties.isHistogram())
+                        .minimumExpectedValue(properties.getMinimumExpectedValue())
+                        .maximumExpectedValue(properties.getMaximumExpectedValue())
+                        .register(meterRegistry),
+                DistributionSummary.builder("db.query.rows")
+                        .description("Строки, прочитанные или измененные SQL-запросом")
+                        .tag("name", key)
+                        .register(meterRegistry)));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                QueryMetricsDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Метры одного именованного запроса.
+     */
+    private final class QueryMeters {
+        private final String name;
+        private final Timer timer;
+        private final DistributionSummary rows;
+
+        private QueryMeters(String name, Timer timer, DistributionSummary rows) {
+            this.name = name;
+            this.timer = timer;
+            this.rows = rows;
+        }
+
+        private void error(Throwable cause) {
+            String sqlState = cause instanceof SQLException sqlException && sqlException.getSQLState() != null
+                    ? sqlException.getSQLState()
+                    : "unknown";
+            Counter.builder("db.query.errors")
+                    .description("Ошибки выполнения SQL-запроса")
+                    .tag("name", name)
+                    .tag("sqlstate", sqlState)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Оборачивает создаваемые соединением выражения.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Соединение с метриками запросов [" + target + "]";
+                default:
+                    break;
+            }
+
+            Object result = QueryMetricsDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                String sql = (String) args[0];
+                return wrapStatement(statement, CallableStatement.class, sql, metersForSql(sql));
+            }
+            if (result instanceof PreparedStatement statement) {
+                String sql = (String) args[0];
+                return wrapStatement(statement, PreparedStatement.class, sql, metersForSql(sql));
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(statement, Statement.class, null, null);
+            }
+            return result;
+        }
+
+        private Object wrapStatement(Statement statement, Class<?> type, String sql, QueryMeters meters) {
+            return Proxy.newProxyInstance(
+                    QueryMetricsDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler(statement, sql, meters));
+        }
+    }
+
+    /**
+     * Измеряет методы {@code execute*}. Для {@link PreparedStatement} имя известно
+     * при создании, для {@link Statement} определяется по тексту в {@code execute*(sql)}.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private final QueryMeters preparedMeters;
+        private List<Object> parameters;
+
+        private StatementHandler(Statement target, String preparedSql, QueryMeters preparedMeters) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.preparedMeters = preparedMeters;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if ("equals".equals(name)) {
+                    return proxy == args[0];
+                }
+                if ("hashCode".equals(name)) {
+                    return System.identityHashCode(proxy);
+                }
+                if (slowQueryLog != null) {
+                    rememberParameter(name, args);
+                }
+                return QueryMetricsDataSource.invoke(target, method, args);
+            }
+
+            String sql = preparedSql;
+            QueryMeters meters = preparedMeters;
+            if (meters == null) {
+                sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                meters = sql != null ? metersForSql(sql) : unnamed;
+            }
+
+            long started = System.nanoTime();
+            Object result;
+            try {
+                result = QueryMetricsDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                meters.timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                meters.error(e);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - started;
+            meters.timer.record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed >= slowThresholdNanos && sql != null) {
+                recordSlow(sql, elapsed);
+            }
+            return recordRows(result, meters);
+        }
+
+        /**
+         * Запоминает значение из {@code setXxx(index, value, ...)} для журнала медленных запросов.
+         */
+        private void rememberParameter(String name, Object[] args) {
+            if ("clearParameters".equals(name)) {
+                parameters = null;
+                return;
+            }
+            if (!name.startsWith("set") || args == null || args.length < 2 || !(args[0] instanceof Integer index)) {
+                return;
+            }
+            if (parameters == null) {
+                parameters = new ArrayList<>();
+            }
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, "setNull".equals(name) ? null : args[1]);
+        }
+
+        private void recordSlow(String sql, long elapsed) {
+            try {
+                slowQueryLog.record(sql, parameters != null ? parameters : List.of(), elapsed);
+            } catch (RuntimeException e) {
+                // Журнал медленных запросов не должен влиять на результат запроса
+                log.warn("Ошибка записи медленного запроса", e);
+            }
+        }
+
+        private Object recordRows(Object result, QueryMeters meters) {
+            if (result instanceof ResultSet resultSet) {
+                return Proxy.newProxyInstance(
+                        QueryMetricsDataSource.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class},
+                        new ResultSetHandler(resultSet, meters));
+            }
+            if (result instanceof Integer count) {
+                meters.rows.record(Math.max(count, 0));
+            } else if (result instanceof Long count) {
+                meters.rows.record(Math.max(count, 0));
+            } else if (result instanceof int[] counts) {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                meters.rows.record(total);
+            } else if (result instanceof long[] counts) {
+                long total = 0;
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+                meters.rows.record(total);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Считает прочитанные строки и записывает их количество при закрытии.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final QueryMeters meters;
+        private long rows;
+        private boolean recorded;
+
+        private ResultSetHandler(ResultSet target, QueryMeters meters) {
+            this.target = target;
+            this.meters = meters;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("next".equals(name)) {
+                Object hasNext = QueryMetricsDataSource.invoke(target, method, args);
+                if (Boolean.TRUE.equals(hasNext)) {
+                    rows++;
+                }
+                return hasNext;
+            }
+            if ("close".equals(name) && !recorded) {
+                recorded = true;
+                meters.rows.record(rows);
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+            return QueryMetricsDataSource.invoke(target, method, args);
+        }
+    }
+}
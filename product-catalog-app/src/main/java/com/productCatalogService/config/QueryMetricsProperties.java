@@ -0,0 +1,41 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки метрик SQL-запросов.
+ *
+ * @see QueryMetricsDataSource
+ */
+@Data
+@ConfigurationProperties(prefix = "app.metrics.queries")
+public class QueryMetricsProperties {
+
+    /**
+     * Включение/отключение метрик. При отключении источник данных не оборачивается.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Процентили, вычисляемые в приложении (HDR-гистограмма Micrometer).
+     */
+    private double[] percentiles = {0.5, 0.95, 0.99};
+
+    /**
+     * Публикация гистограммы с корзинами (для агрегирования процентилей в Prometheus).
+     */
+    private boolean histogram = true;
+
+    /**
+     * Нижняя граница диапазона гистограммы.
+     */
+    private Duration minimumExpectedValue = Duration.ofMillis(1);
+
+    /**
+     * Верхняя граница диапазона гистограммы.
+     */
+    private Duration maximumExpectedValue = Duration.ofSeconds(30);
+}
@@ -0,0 +1,69 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки маршрутизации транзакций только для чтения на реплики PostgreSQL.
+ *
+ * @see RoutingDataSourceConfig
+ * @see ReplicaRoutingDataSource
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Включение/отключение маршрутизации. При отключении используется только основной источник данных.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Реплики, на которые распределяются транзакции только для чтения.
+     */
+    private List<Replica> instances = new ArrayList<>();
+
+    /**
+     * Максимальный размер пула соединений каждой реплики.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Минимальное количество простаивающих соединений в пуле реплики.
+     */
+    private int minimumIdle = 2;
+
+    /**
+     * Время ожидания соединения из пула реплики. Должно быть коротким:
+     * по его истечении запрос уходит на основной источник данных.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Период проверки доступности реплик.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        /**
+         * JDBC URL реплики.
+         */
+        private String url;
+
+        /**
+         * Имя пользователя; по умолчанию как у основного источника данных.
+         */
+        private String username;
+
+        /**
+         * Пароль; по умолчанию как у основного источника данных.
+         */
+        private String password;
+    }
+}
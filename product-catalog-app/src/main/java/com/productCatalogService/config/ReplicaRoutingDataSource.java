@@ -0,0 +1,164 @@
+package com.productCatalogService.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Источник данных, направляющий транзакции только для чтения на реплики.
+ *
+ * <p>Соединение для транзакции {@code @Transactional(readOnly = true)} берется
+ * из пула очередной доступной реплики (циклический перебор); все остальные
+ * соединения, чтение с нагрузкой {@link WorkloadType#ADMIN} (выгрузки, статистика,
+ * аналитика, перестройка фильтра Блума — им нужны свежие данные и таймаут пула admin,
+ * а не короткий таймаут реплик), а также чтение при недоступности всех реплик идут
+ * на основной источник данных. Реплика, не выдавшая соединение, исключается из перебора
+ * до следующей успешной проверки {@link #checkHealth()}.</p>
+ *
+ * <p>Решение принимается в момент получения соединения, поэтому источник
+ * используется только через {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * прокси откладывает получение соединения до первого запроса, когда признак
+ * read-only транзакции уже установлен.</p>
+ *
+ * <p>Метрики: {@code db.routing.connections} с тегом {@code target}
+ * ({@code primary}, {@code replica}, {@code fallback}) и {@code db.replicas.healthy}.</p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbackConnections;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(ReplicaPool::new).toList();
+
+        this.primaryConnections = Counter.builder("db.routing.connections")
+                .description("Соединения, выданные маршрутизирующим источником данных")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        this.replicaConnections = Counter.builder("db.routing.connections")
+                .description("Соединения, выданные маршрутизирующим источником данных")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        this.fallbackConnections = Counter.builder("db.routing.connections")
+                .description("Соединения, выданные маршрутизирующим источником данных")
+                .tag("target", "fallback")
+                .register(meterRegistry);
+        Gauge.builder("db.replicas.healthy", this, ReplicaRoutingDataSource::healthyReplicas)
+                .description("Количество доступных реплик")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || WorkloadContext.current() == WorkloadType.ADMIN) {
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+        return readOnlyConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Пулы Hikari не выдают соединения под другими учетными данными
+        return getConnection();
+    }
+
+    /**
+     * Проверяет доступность реплик и возвращает восстановившиеся в перебор.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (ReplicaPool replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(1)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown(null);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private Connection readOnlyConnection() throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaConnections.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        fallbackConnections.increment();
+        return primary.getConnection();
+    }
+
+    private int healthyReplicas() {
+        int healthy = 0;
+        for (ReplicaPool replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    /**
+     * Пул соединений реплики и её текущее состояние.
+     */
+    private static final class ReplicaPool {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private ReplicaPool(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Реплика {} снова доступна", dataSource.getPoolName());
+            }
+        }
+
+        private void markDown(SQLException cause) {
+            if (healthy) {
+                healthy = false;
+                log.warn("Реплика {} недоступна, чтение переключено на другие источники: {}",
+                        dataSource.getPoolName(), cause != null ? cause.getMessage() : "соединение невалидно");
+            }
+        }
+    }
+}
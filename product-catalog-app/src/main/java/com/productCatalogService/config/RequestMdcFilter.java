@@ -0,0 +1,69 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.entity.User;
+import com.productCatalogService.util.AuthUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Заполняет MDC для всех сообщений лога, записанных при обработке запроса:
+ * {@code requestId} (из заголовка {@value #REQUEST_ID_HEADER} или сгенерированный),
+ * {@code userId} (по токену из {@code Authorization}) и {@code endpoint} (метод и путь).
+ * Идентификатор запроса возвращается в том же заголовке ответа.
+ *
+ * <p>В профиле prod поля попадают в JSON-лог в объект {@code mdc}.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestMdcFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID = "requestId";
+    public static final String USER_ID = "userId";
+    public static final String ENDPOINT = "endpoint";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final AuthUtil authUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        MDC.put(REQUEST_ID, requestId);
+        MDC.put(ENDPOINT, request.getMethod() + " " + request.getRequestURI());
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null) {
+            User user = authUtil.getUserByAuthHeader(authorization);
+            if (user != null && user.getId() != null) {
+                MDC.put(USER_ID, user.getId().toString());
+            }
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(ENDPOINT);
+            MDC.remove(USER_ID);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.audit.autoconfig.config.AuditDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Конфигурация источников данных приложения.
+ *
+ * <p>Вместо одного пула автоконфигурации создаются отдельные пулы для каждого
+ * {@link WorkloadType} ({@link WorkloadRoutingDataSource}) и, при
+ * {@code app.datasource.replicas.enabled}, пулы реплик для транзакций только
+ * для чтения ({@link ReplicaRoutingDataSource}). Общие параметры пулов берутся из
+ * {@code spring.datasource} и {@code spring.datasource.hikari}, размеры и таймауты —
+ * из {@code app.datasource.pools}. Приложению (JPA, JdbcTemplate, Liquibase) отдается
+ * {@link LazyConnectionDataSourceProxy}, чтобы пул выбирался при первом запросе,
+ * когда параметры транзакции уже известны. При {@code app.metrics.queries.enabled}
+ * прокси дополнительно оборачивается в {@link QueryMetricsDataSource}, который
+ * передает медленные запросы в {@link SlowQueryLog}.</p>
+ *
+ * <p>Пулы не регистрируются как бины, поэтому метрики {@code hikaricp.*}
+ * подключаются здесь; тег {@code pool} равен имени пула. Миграции Liquibase
+ * выполняются на соединениях пула {@link WorkloadType#ADMIN}, журнал аудита пишется через него же.</p>
+ */
+@Slf4j
+@Configuration
+public class RoutingDataSourceConfig {
+
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig baseHikariConfig(DataSourceProperties dataSourceProperties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(dataSourceProperties.determineUrl());
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        return config;
+    }
+
+    @Bean
+    public WorkloadRoutingDataSource workloadRoutingDataSource(HikariConfig baseHikariConfig,
+                                                               WorkloadPoolProperties poolProperties,
+                                                               MeterRegistry meterRegistry) {
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            WorkloadPoolProperties.Pool pool = poolProperties.get(workload);
+            HikariConfig config = copyOf(baseHikariConfig, workload.getPoolName());
+            config.setMaximumPoolSize(pool.getMaximumPoolSize());
+            config.setMinimumIdle(pool.getMinimumIdle());
+            config.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+            applyStatementTimeout(config, pool.getStatementTimeout());
+            config.setMetricRegistry(meterRegistry);
+            pools.put(workload, new HikariDataSource(config));
+            log.info("Пул соединений {}: до {} соединений, statement_timeout {}",
+                    workload.getPoolName(), pool.getMaximumPoolSize(), pool.getStatementTimeout());
+        }
+        return new WorkloadRoutingDataSource(pools);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(WorkloadRoutingDataSource workloadRoutingDataSource,
+                                                             HikariConfig baseHikariConfig,
+                                                             ReplicaDataSourceProperties replicaProperties,
+                                                             WorkloadPoolProperties poolProperties,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getInstances().size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaProperties.getInstances().get(i);
+            HikariConfig config = copyOf(baseHikariConfig, "replica-" + i);
+            config.setJdbcUrl(replica.getUrl());
+            if (replica.getUsername() != null) {
+                config.setUsername(replica.getUsername());
+            }
+            if (replica.getPassword() != null) {
+                config.setPassword(replica.getPassword());
+            }
+            config.setReadOnly(true);
+            config.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            config.setMinimumIdle(replicaProperties.getMinimumIdle());
+            config.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+            // На репликах выполняется только чтение покупателей, чтение admin идет на основной сервер
+            applyStatementTimeout(config, poolProperties.getCustomerRead().getStatementTimeout());
+            // Недоступная при старте реплика не должна мешать запуску приложения
+            config.setInitializationFailTimeout(-1);
+            config.setMetricRegistry(meterRegistry);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(workloadRoutingDataSource, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadRoutingDataSource workloadRoutingDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                                 QueryMetricsProperties queryMetricsProperties,
+                                 SlowQueryProperties slowQueryProperties,
+                                 SlowQueryLog slowQueryLog,
+                                 MeterRegistry meterRegistry) {
+        DataSource target = replicaRoutingDataSource.getIfAvailable();
+        DataSource lazy = new LazyConnectionDataSourceProxy(target != null ? target : workloadRoutingDataSource);
+        return queryMetricsProperties.isEnabled()
+                ? new QueryMetricsDataSource(lazy, meterRegistry, queryMetricsProperties,
+                        slowQueryProperties.isEnabled() ? slowQueryLog : null)
+                : lazy;
+    }
+
+    /**
+     * Источник данных Liquibase: пул административных операций с его {@code statement_timeout}.
+     * Без него автоконфигурация пытается построить отдельный пул по образцу основного
+     * источника данных, что невозможно для маршрутизирующего прокси.
+     *
+     * <p>Схемы служебных таблиц Liquibase ({@code liquibase-schema}) и объектов по умолчанию
+     * ({@code default-schema}) создаются заранее: Liquibase их не создает, а changeset 001
+     * выполняется уже после обращения к служебным таблицам.</p>
+     */
+    @Bean
+    @LiquibaseDataSource
+    public DataSource liquibaseDataSource(WorkloadRoutingDataSource workloadRoutingDataSource,
+                                          LiquibaseProperties liquibaseProperties) {
+        // Обертка не дает автоконфигурации повторно подключать метрики и закрывать пул
+        DataSource dataSource = new DelegatingDataSource(workloadRoutingDataSource.getPool(WorkloadType.ADMIN));
+        if (liquibaseProperties.isEnabled()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            for (String schema : new String[]{liquibaseProperties.getLiquibaseSchema(),
+                    liquibaseProperties.getDefaultSchema()}) {
+                if (schema != null && SCHEMA_NAME.matcher(schema).matches()) {
+                    jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+                }
+            }
+        }
+        return dataSource;
+    }
+
+    /**
+     * Источник данных журнала аудита: пул административных операций. Запись пакетов событий,
+     * создание секций и чтение {@code /actuator/auditlog} не занимают соединения пулов
+     * пользовательских запросов и не выходят на реплики.
+     */
+    @Bean
+    @AuditDataSource
+    public DataSource auditDataSource(WorkloadRoutingDataSource workloadRoutingDataSource) {
+        return new DelegatingDataSource(workloadRoutingDataSource.getPool(WorkloadType.ADMIN));
+    }
+
+    private static HikariConfig copyOf(HikariConfig base, String poolName) {
+        HikariConfig config = new HikariConfig();
+        base.copyStateTo(config);
+        Properties dataSourceProperties = new Properties();
+        dataSourceProperties.putAll(base.getDataSourceProperties());
+        config.setDataSourceProperties(dataSourceProperties);
+        config.setPoolName(poolName);
+        return config;
+    }
+
+    /**
+     * Задает {@code statement_timeout} параметром подключения PostgreSQL,
+     * поэтому ограничение действует с первого запроса каждого соединения.
+     */
+    private static void applyStatementTimeout(HikariConfig config, Duration statementTimeout) {
+        if (statementTimeout == null || statementTimeout.isZero()
+                || config.getJdbcUrl() == null || !config.getJdbcUrl().startsWith("jdbc:postgresql:")) {
+            return;
+        }
+        config.addDataSourceProperty("options", "-c statement_timeout=" + statementTimeout.toMillis());
+    }
+}
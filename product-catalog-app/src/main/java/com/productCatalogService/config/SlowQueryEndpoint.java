@@ -0,0 +1,40 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.dto.SlowQueryDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Эндпоинт {@code /actuator/slowqueries}: последние медленные SQL-запросы
+ * с параметрами и планами выполнения.
+ *
+ * @see SlowQueryLog
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Возвращает журнал, начиная с самого нового запроса.
+     */
+    @ReadOperation
+    public List<SlowQueryDTO> slowQueries() {
+        return slowQueryLog.snapshot();
+    }
+
+    /**
+     * Очищает журнал.
+     */
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,256 @@
+package com.productCatalogService.config;
+
+import com.productCatalogService.dto.SlowQueryDTO;
+import com.productCatalogService.dto.SlowQueryDTO.PlanStatus;
+import com.productCatalogService.util.QueryName;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Журнал медленных SQL-запросов.
+ *
+ * <p>{@link QueryMetricsDataSource} передает сюда запросы дольше
+ * {@code app.metrics.slow-queries.threshold} вместе со значениями параметров.
+ * Запрос записывается в лог и в ограниченное кольцо последних запросов
+ * ({@code /actuator/slowqueries}). Для доли {@code explain-sample-rate} запросов SELECT
+ * в отдельном потоке выполняется {@code EXPLAIN (ANALYZE, BUFFERS)} на соединении
+ * из пула {@link WorkloadType#ADMIN}, поэтому повторное выполнение не занимает
+ * соединения покупателей и не попадает в метрики запросов.</p>
+ *
+ * <p>{@code EXPLAIN ANALYZE} действительно выполняет запрос, поэтому он идет
+ * в транзакции только для чтения с откатом и собственным {@code statement_timeout};
+ * изменяющие запросы не объясняются. План строится на основном сервере, даже если
+ * исходный запрос выполнялся на реплике.</p>
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS) ";
+
+    private final SlowQueryProperties properties;
+    private final DataSource explainDataSource;
+    private final ThreadPoolExecutor explainExecutor;
+    private final Deque<SlowQueryDTO> entries = new ArrayDeque<>();
+
+    public SlowQueryLog(SlowQueryProperties properties, WorkloadRoutingDataSource workloadRoutingDataSource) {
+        this.properties = properties;
+        this.explainDataSource = workloadRoutingDataSource.getPool(WorkloadType.ADMIN);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("slow-query-explain-");
+        threadFactory.setDaemon(true);
+        // Один поток и короткая очередь: при всплеске медленных запросов лишние планы пропускаются
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getExplainQueueCapacity())), threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    /**
+     * Возвращает порог медленного запроса в наносекундах.
+     */
+    public long thresholdNanos() {
+        return properties.getThreshold().toNanos();
+    }
+
+    /**
+     * Записывает медленный запрос. Вызывается в потоке запроса, пока соединение
+     * и значения параметров еще доступны.
+     *
+     * @param sql           текст запроса
+     * @param parameters    значения параметров по индексу (с нуля), может быть пустым
+     * @param durationNanos время выполнения
+     */
+    public void record(String sql, List<Object> parameters, long durationNanos) {
+        String name = QueryName.extract(sql);
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        boolean masked = properties.getMaskedQueries().contains(name);
+        List<String> printable = new ArrayList<>(parameters.size());
+        for (Object parameter : parameters) {
+            printable.add(masked ? "***" : format(parameter));
+        }
+        log.warn("Медленный запрос {} ({} мс), параметры {}: {}", name, durationMs, printable, sql.strip());
+
+        SlowQueryDTO entry = SlowQueryDTO.builder()
+                .timestamp(Instant.now())
+                .name(name)
+                .sql(sql.strip())
+                .parameters(printable)
+                .durationMs(durationMs)
+                .planStatus(PlanStatus.NOT_SAMPLED)
+                .build();
+        if (ThreadLocalRandom.current().nextDouble() < properties.getExplainSampleRate()) {
+            scheduleExplain(entry, sql, parameters);
+        }
+        add(entry);
+    }
+
+    /**
+     * Возвращает копию журнала, начиная с самого нового запроса.
+     */
+    public List<SlowQueryDTO> snapshot() {
+        synchronized (entries) {
+            List<SlowQueryDTO> copy = new ArrayList<>(entries.size());
+            for (SlowQueryDTO entry : entries) {
+                copy.add(entry.toBuilder().build());
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * Очищает журнал.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void add(SlowQueryDTO entry) {
+        synchronized (entries) {
+            entries.addFirst(entry);
+            while (entries.size() > properties.getCapacity()) {
+                entries.removeLast();
+            }
+        }
+    }
+
+    private void scheduleExplain(SlowQueryDTO entry, String sql, List<Object> parameters) {
+        if (!isSelect(sql)) {
+            entry.setPlanStatus(PlanStatus.SKIPPED);
+            entry.setPlan("Объясняются только запросы SELECT");
+            return;
+        }
+        List<Object> bound;
+        try {
+            bound = detach(parameters);
+        } catch (SQLException e) {
+            entry.setPlanStatus(PlanStatus.FAILED);
+            entry.setPlan("Не удалось прочитать параметры: " + e.getMessage());
+            return;
+        }
+        entry.setPlanStatus(PlanStatus.PENDING);
+        try {
+            explainExecutor.execute(() -> explain(entry, sql, bound));
+        } catch (RejectedExecutionException e) {
+            entry.setPlanStatus(PlanStatus.SKIPPED);
+            entry.setPlan("Очередь EXPLAIN переполнена");
+        }
+    }
+
+    private void explain(SlowQueryDTO entry, String sql, List<Object> parameters) {
+        PlanStatus status;
+        String plan;
+        try (Connection connection = explainDataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET LOCAL statement_timeout = " + properties.getExplainTimeout().toMillis());
+                }
+                try (PreparedStatement statement = connection.prepareStatement(EXPLAIN_PREFIX + sql)) {
+                    for (int i = 0; i < parameters.size(); i++) {
+                        bind(connection, statement, i + 1, parameters.get(i));
+                    }
+                    StringBuilder text = new StringBuilder();
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            text.append(resultSet.getString(1)).append('\n');
+                        }
+                    }
+                    status = PlanStatus.DONE;
+                    plan = text.toString();
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Ошибка EXPLAIN для запроса {}", entry.getName(), e);
+            status = PlanStatus.FAILED;
+            plan = e.getMessage();
+        }
+        synchronized (entries) {
+            entry.setPlanStatus(status);
+            entry.setPlan(plan);
+        }
+        if (status == PlanStatus.DONE) {
+            log.info("План медленного запроса {}:\n{}", entry.getName(), plan);
+        }
+    }
+
+    /**
+     * Копирует значения, привязанные к исходному соединению ({@link Array}),
+     * чтобы их можно было передать в запрос на другом соединении.
+     */
+    private static List<Object> detach(List<Object> parameters) throws SQLException {
+        List<Object> detached = new ArrayList<>(parameters.size());
+        for (Object parameter : parameters) {
+            if (parameter instanceof Array array) {
+                detached.add(new ArrayValue(array.getBaseTypeName(), (Object[]) array.getArray()));
+            } else {
+                detached.add(parameter);
+            }
+        }
+        return detached;
+    }
+
+    private static void bind(Connection connection, PreparedStatement statement,
+                             int index, Object value) throws SQLException {
+        if (value instanceof ArrayValue array) {
+            statement.setArray(index, connection.createArrayOf(array.baseTypeName(), array.elements()));
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        String text = sql.strip();
+        if (QueryName.isNamed(text)) {
+            text = text.substring(text.indexOf("*/") + 2).strip();
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        return lower.startsWith("select") || lower.startsWith("with");
+    }
+
+    private String format(Object parameter) {
+        String text;
+        if (parameter instanceof byte[] bytes) {
+            text = "<" + bytes.length + " байт>";
+        } else if (parameter instanceof Object[] array) {
+            text = Arrays.toString(array);
+        } else {
+            text = String.valueOf(parameter);
+        }
+        int limit = properties.getMaxParameterLength();
+        return text.length() > limit ? text.substring(0, limit) + "…" : text;
+    }
+
+    private record ArrayValue(String baseTypeName, Object[] elements) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Настройки журнала медленных SQL-запросов.
+ *
+ * @see SlowQueryLog
+ */
+@Data
+@ConfigurationProperties(prefix = "app.metrics.slow-queries")
+public class SlowQueryProperties {
+
+    /**
+     * Включение/отключение журнала. Работает только вместе с {@code app.metrics.queries.enabled}.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Порог времени выполнения, начиная с которого запрос считается медленным.
+     */
+    private Duration threshold = Duration.ofMillis(500);
+
+    /**
+     * Доля медленных запросов (0..1), для которых выполняется {@code EXPLAIN (ANALYZE, BUFFERS)}.
+     */
+    private double explainSampleRate = 0.1;
+
+    /**
+     * Ограничение времени выполнения {@code EXPLAIN ANALYZE} (повторно выполняет запрос).
+     */
+    private Duration explainTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Максимальное количество ожидающих {@code EXPLAIN}; лишние пропускаются.
+     */
+    private int explainQueueCapacity = 10;
+
+    /**
+     * Количество последних медленных запросов, хранимых в памяти.
+     */
+    private int capacity = 100;
+
+    /**
+     * Максимальная длина значения параметра в журнале; длинные значения обрезаются.
+     */
+    private int maxParameterLength = 200;
+
+    /**
+     * Имена запросов, значения параметров которых не записываются (например, хеши паролей).
+     */
+    private List<String> maskedQueries = List.of("user.insert", "user.update");
+}
@@ -0,0 +1,243 @@
+package com.productCatalogService.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productCatalogService.dto.BasketDTO;
+import com.productCatalogService.dto.CategoryDTO;
+import com.productCatalogService.dto.ProductDTO;
+import com.productCatalogService.dto.ProductPageDTO;
+import com.productCatalogService.entity.Product;
+import com.productCatalogService.exception.AuthenticationException;
+import com.productCatalogService.mapper.BasketMapper;
+import com.productCatalogService.service.AuthService;
+import com.productCatalogService.service.CategoryService;
+import com.productCatalogService.service.ProductService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Прогрев приложения перед открытием приема трафика.
+ *
+ * <p>Spring Boot переводит готовность ({@code /actuator/health/readiness}) в
+ * {@link ReadinessState#ACCEPTING_TRAFFIC} только после выполнения всех
+ * {@link ApplicationRunner}, поэтому на время прогрева экземпляр остается
+ * в {@link ReadinessState#REFUSING_TRAFFIC} и балансировщик не направляет на него запросы.</p>
+ *
+ * <p>Прогрев открывает соединения пулов {@link WorkloadType} до {@code maximum-pool-size},
+ * затем в {@code threads} потоках выполняет {@code iterations} итераций синтетической
+ * нагрузки через слой сервисов: страница каталога и карточки товаров, список категорий
+ * и товары категории, проверка токена, сборка корзины и сериализация ответов в JSON.
+ * Так до первого запроса компилируются горячие методы, драйвер подготавливает
+ * серверные запросы на соединениях, а MapStruct и Jackson строят сериализаторы.
+ * Итерации только читают данные.</p>
+ *
+ * <p>По истечении {@code timeout} оставшиеся итерации прерываются и прием трафика
+ * открывается. Длительность записывается в таймер {@code app.warmup{outcome}}
+ * ({@code completed} или {@code timeout}).</p>
+ *
+ * @see WarmupProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup implements ApplicationRunner {
+
+    private final WarmupProperties properties;
+    private final WorkloadRoutingDataSource workloadRoutingDataSource;
+    private final ProductService productService;
+    private final CategoryService categoryService;
+    private final AuthService authService;
+    private final BasketMapper basketMapper;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationContext applicationContext;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+        log.info("Прогрев приложения: {} итераций в {} потоках, не дольше {}",
+                properties.getIterations(), properties.getThreads(), properties.getTimeout());
+
+        long started = System.nanoTime();
+        long deadline = started + properties.getTimeout().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()),
+                threadFactory());
+        boolean completed;
+        try {
+            completed = fillPools(executor, deadline) && runIterations(executor, deadline);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - started);
+        String outcome = completed ? "completed" : "timeout";
+        Timer.builder("app.warmup")
+                .description("Длительность прогрева перед открытием приема трафика")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(duration);
+        if (completed) {
+            log.info("Прогрев завершен за {} мс, ошибок: {}", duration.toMillis(), failures.get());
+        } else {
+            log.warn("Прогрев прерван по таймауту {} через {} мс, ошибок: {}",
+                    properties.getTimeout(), duration.toMillis(), failures.get());
+        }
+    }
+
+    private boolean fillPools(ExecutorService executor, long deadline) {
+        if (!properties.isFillPools()) {
+            return true;
+        }
+        List<Future<?>> tasks = new ArrayList<>();
+        for (WorkloadType workload : WorkloadType.values()) {
+            HikariDataSource pool = workloadRoutingDataSource.getPool(workload);
+            tasks.add(executor.submit(() -> fillPool(pool)));
+        }
+        return await(tasks, deadline);
+    }
+
+    /**
+     * Одновременно занимает все соединения пула и возвращает их: Hikari сохраняет
+     * открытые соединения до {@code idle-timeout}.
+     */
+    private void fillPool(HikariDataSource pool) {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            while (connections.size() < pool.getMaximumPoolSize() && !Thread.currentThread().isInterrupted()) {
+                connections.add(pool.getConnection());
+            }
+        } catch (SQLException e) {
+            failures.incrementAndGet();
+            log.warn("Не удалось заполнить пул {}: открыто {} соединений, {}",
+                    pool.getPoolName(), connections.size(), e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Ошибка возврата соединения в пул {}: {}", pool.getPoolName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean runIterations(ExecutorService executor, long deadline) {
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < properties.getIterations(); i++) {
+            int iteration = i;
+            tasks.add(executor.submit(() -> runIteration(iteration)));
+        }
+        return await(tasks, deadline);
+    }
+
+    private void runIteration(int iteration) {
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        try {
+            int page = iteration % Math.max(1, properties.getPages());
+            ProductPageDTO productPage = productService.getPaginatedProducts(page, properties.getPageSize());
+            serialize(productPage);
+            productPage.getProducts().stream()
+                    .limit(properties.getProductsPerPage())
+                    .map(ProductDTO::getId)
+                    .forEach(id -> serialize(productService.getProductById(id)));
+
+            List<CategoryDTO> categories = categoryService.getAllCategories();
+            serialize(categories);
+            if (!categories.isEmpty()) {
+                Long categoryId = categories.get(iteration % categories.size()).getId();
+                serialize(categoryService.getProductsByCategoryIdDto(categoryId));
+            }
+
+            try {
+                authService.validateToken("warmup-" + iteration);
+            } catch (AuthenticationException expected) {
+                // Синтетический токен не соответствует сессии; прогревается путь проверки
+            }
+
+            Map<Long, Product> basket = new LinkedHashMap<>();
+            for (Product product : productService.findAllPaginated(page, properties.getPageSize())) {
+                if (basket.size() >= properties.getProductsPerPage()) {
+                    break;
+                }
+                basket.put(product.getId(), product);
+            }
+            BasketDTO basketDTO = basketMapper.toBasketDTO(basket);
+            serialize(basketDTO);
+        } catch (RuntimeException e) {
+            if (failures.getAndIncrement() == 0) {
+                log.warn("Ошибка итерации прогрева: {}", e.getMessage());
+            } else {
+                log.debug("Ошибка итерации прогрева: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void serialize(Object value) {
+        try {
+            objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Ошибка сериализации " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Ожидает завершения задач до {@code deadline}.
+     *
+     * @return {@code false}, если время истекло или ожидание было прервано
+     */
+    private static boolean await(List<Future<?>> tasks, long deadline) {
+        for (Future<?> task : tasks) {
+            // Завершенная задача возвращается и при нулевом остатке времени
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            try {
+                task.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                log.debug("Ошибка задачи прогрева: {}", e.getCause().getMessage());
+            }
+        }
+        return true;
+    }
+
+    private static CustomizableThreadFactory threadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("warmup-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
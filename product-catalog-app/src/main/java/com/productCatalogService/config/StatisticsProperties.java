@@ -0,0 +1,84 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки расчета статистики системы.
+ *
+ * @see com.productCatalogService.service.impl.StatisticsServiceImpl
+ */
+@Data
+@ConfigurationProperties(prefix = "app.statistics")
+public class StatisticsProperties {
+
+    /**
+     * Время жизни закешированного снимка статистики.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Количество потоков для параллельного выполнения агрегирующих запросов.
+     */
+    private int executorThreads = 3;
+
+    /**
+     * Максимальное время ожидания расчета снимка.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Настройки аналитики склада на материализованных представлениях.
+     */
+    private Inventory inventory = new Inventory();
+
+    @Data
+    public static class Inventory {
+
+        /**
+         * Количество изменений товаров и корзин, после которого представления обновляются досрочно.
+         */
+        private long refreshAfterWrites = 500;
+
+        /**
+         * Максимальный возраст данных представлений; по истечении обновление выполняется
+         * даже без учтенных изменений (например, сделанных другим экземпляром приложения).
+         */
+        private Duration maxStaleness = Duration.ofMinutes(5);
+
+        /**
+         * Минимальный интервал между окончанием обновления и началом следующего обновления
+         * по числу изменений. Не дает полному пересчету идти подряд при постоянной записи.
+         */
+        private Duration minRefreshInterval = Duration.ofMinutes(1);
+
+        /**
+         * Интервал после обновления не короче длительности этого обновления, умноженной
+         * на коэффициент: при 10 обновления занимают не больше ~10% времени основного сервера,
+         * как бы ни росли таблицы. 0 — учитывать только {@code min-refresh-interval}.
+         */
+        private double refreshCooldownFactor = 10;
+
+        /**
+         * Период проверки необходимости обновления.
+         */
+        private Duration checkInterval = Duration.ofSeconds(10);
+
+        /**
+         * Порог остатка по умолчанию для списка товаров с низким остатком.
+         */
+        private int lowStockThreshold = 5;
+
+        /**
+         * Размер списков товаров по умолчанию.
+         */
+        private int defaultLimit = 10;
+
+        /**
+         * Максимальный размер списков товаров.
+         */
+        private int maxLimit = 100;
+    }
+}
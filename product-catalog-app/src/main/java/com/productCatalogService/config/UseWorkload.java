@@ -0,0 +1,28 @@
+package com.productCatalogService.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Объявляет пул соединений, который нужен методу или всем методам класса.
+ * Аннотация на методе имеет приоритет над аннотацией на классе.
+ *
+ * <p>Без аннотации транзакции {@code readOnly = true} получают соединения
+ * из пула {@link WorkloadType#CUSTOMER_READ}, остальные —
+ * из {@link WorkloadType#CUSTOMER_WRITE}.</p>
+ *
+ * @see com.productCatalogService.aspect.WorkloadAspect
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface UseWorkload {
+
+    /**
+     * Тип нагрузки.
+     */
+    WorkloadType value();
+}
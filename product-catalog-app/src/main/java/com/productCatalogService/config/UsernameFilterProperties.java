@@ -0,0 +1,42 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки фильтра Блума имен пользователей.
+ *
+ * @see com.productCatalogService.repository.impl.UsernameBloomFilter
+ */
+@Data
+@ConfigurationProperties(prefix = "app.users.bloom-filter")
+public class UsernameFilterProperties {
+
+    /**
+     * Включение/отключение фильтра. При отключении все проверки идут в базу данных.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Минимальное ожидаемое количество пользователей, под которое рассчитывается размер фильтра.
+     */
+    private long expectedInsertions = 1_000_000;
+
+    /**
+     * Желаемая вероятность ложноположительного ответа.
+     */
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * Интервал полной перестройки фильтра (подхватывает пользователей,
+     * созданных другими экземплярами приложения).
+     */
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    /**
+     * Размер порции строк при потоковом чтении имен пользователей.
+     */
+    private int scanFetchSize = 1000;
+}
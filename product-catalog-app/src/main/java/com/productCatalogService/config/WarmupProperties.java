@@ -0,0 +1,57 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки прогрева приложения перед открытием приема трафика.
+ *
+ * @see StartupWarmup
+ */
+@Data
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+    /**
+     * Включение/отключение прогрева; без него готовность объявляется сразу после старта.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Максимальная длительность прогрева; по истечении прием трафика открывается
+     * без ожидания оставшихся итераций.
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+
+    /**
+     * Количество итераций синтетической нагрузки.
+     */
+    private int iterations = 200;
+
+    /**
+     * Количество потоков, выполняющих итерации параллельно.
+     */
+    private int threads = 4;
+
+    /**
+     * Количество первых страниц каталога, которые читаются по очереди.
+     */
+    private int pages = 5;
+
+    /**
+     * Размер страницы каталога.
+     */
+    private int pageSize = 20;
+
+    /**
+     * Количество карточек товаров страницы, запрашиваемых в одной итерации.
+     */
+    private int productsPerPage = 5;
+
+    /**
+     * Открытие соединений каждого пула до {@code maximum-pool-size} перед нагрузкой.
+     */
+    private boolean fillPools = true;
+}
@@ -0,0 +1,80 @@
+package com.productCatalogService.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Тип нагрузки текущего потока.
+ *
+ * <p>Устанавливается {@link com.productCatalogService.aspect.WorkloadAspect}
+ * для методов с {@link UseWorkload}. Код, который уходит в другие потоки или
+ * вызывает собственные методы в обход прокси, задает тип явно через
+ * {@link #callIn} и {@link #runIn}.</p>
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * Возвращает явно объявленный тип нагрузки или {@code null}.
+     */
+    public static WorkloadType current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Выполняет действие с указанным типом нагрузки и восстанавливает предыдущий.
+     *
+     * @param workload тип нагрузки
+     * @param action   действие
+     * @return результат действия
+     */
+    public static <T> T callIn(WorkloadType workload, Supplier<T> action) {
+        WorkloadType previous = enter(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Выполняет действие с указанным типом нагрузки и восстанавливает предыдущий.
+     *
+     * @param workload тип нагрузки
+     * @param action   действие
+     */
+    public static void runIn(WorkloadType workload, Runnable action) {
+        callIn(workload, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Устанавливает тип нагрузки текущего потока.
+     *
+     * @param workload тип нагрузки
+     * @return предыдущий тип для передачи в {@link #restore}
+     */
+    public static WorkloadType enter(WorkloadType workload) {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    /**
+     * Восстанавливает тип нагрузки, действовавший до {@link #enter}.
+     *
+     * @param previous значение, возвращенное {@link #enter}
+     */
+    public static void restore(WorkloadType previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.productCatalogService.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки раздельных пулов соединений по типам нагрузки.
+ *
+ * <p>Общие параметры пулов (URL, учетные данные, {@code connection-init-sql},
+ * {@code data-source-properties}) берутся из {@code spring.datasource};
+ * здесь задаются только размер и таймауты каждого пула.</p>
+ *
+ * @see WorkloadRoutingDataSource
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.pools")
+public class WorkloadPoolProperties {
+
+    /**
+     * Пул чтения каталога покупателями.
+     */
+    private Pool customerRead = new Pool(10, 2, Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+    /**
+     * Пул записи покупателей.
+     */
+    private Pool customerWrite = new Pool(6, 2, Duration.ofSeconds(5), Duration.ofSeconds(10));
+
+    /**
+     * Пул административных и пакетных операций.
+     */
+    private Pool admin = new Pool(3, 0, Duration.ofSeconds(30), Duration.ofMinutes(10));
+
+    /**
+     * Возвращает настройки пула для типа нагрузки.
+     */
+    public Pool get(WorkloadType workload) {
+        return switch (workload) {
+            case CUSTOMER_READ -> customerRead;
+            case CUSTOMER_WRITE -> customerWrite;
+            case ADMIN -> admin;
+        };
+    }
+
+    @Data
+    public static class Pool {
+
+        /**
+         * Максимальный размер пула.
+         */
+        private int maximumPoolSize;
+
+        /**
+         * Минимальное количество простаивающих соединений.
+         */
+        private int minimumIdle;
+
+        /**
+         * Максимальное время ожидания свободного соединения.
+         */
+        private Duration connectionTimeout;
+
+        /**
+         * Ограничение времени выполнения одного запроса ({@code statement_timeout}).
+         * Нулевое значение снимает ограничение.
+         */
+        private Duration statementTimeout;
+
+        public Pool() {
+        }
+
+        public Pool(int maximumPoolSize, int minimumIdle, Duration connectionTimeout, Duration statementTimeout) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+            this.connectionTimeout = connectionTimeout;
+            this.statementTimeout = statementTimeout;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.productCatalogService.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Источник данных, выдающий соединения из отдельного пула для каждого типа нагрузки.
+ *
+ * <p>Пул выбирается по {@link WorkloadContext#current()}, а если тип нагрузки
+ * не объявлен — по признаку транзакции: {@code readOnly = true} получает
+ * {@link WorkloadType#CUSTOMER_READ}, остальные — {@link WorkloadType#CUSTOMER_WRITE}.
+ * Поэтому массовая административная операция исчерпывает только свой пул
+ * и не задерживает запросы покупателей.</p>
+ *
+ * <p>Как и {@link ReplicaRoutingDataSource}, используется только через
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.</p>
+ */
+public class WorkloadRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final Map<WorkloadType, HikariDataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<WorkloadType, HikariDataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+        for (WorkloadType workload : WorkloadType.values()) {
+            if (!this.pools.containsKey(workload)) {
+                throw new IllegalArgumentException("Не задан пул соединений для нагрузки " + workload);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return pools.get(currentWorkload()).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Пулы Hikari не выдают соединения под другими учетными данными
+        return getConnection();
+    }
+
+    /**
+     * Возвращает пул соединений для типа нагрузки.
+     */
+    public HikariDataSource getPool(WorkloadType workload) {
+        return pools.get(workload);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    private static WorkloadType currentWorkload() {
+        WorkloadType declared = WorkloadContext.current();
+        if (declared != null) {
+            return declared;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? WorkloadType.CUSTOMER_READ
+                : WorkloadType.CUSTOMER_WRITE;
+    }
+}
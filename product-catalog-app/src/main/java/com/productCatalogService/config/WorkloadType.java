@@ -0,0 +1,39 @@
+package com.productCatalogService.config;
+
+/**
+ * Тип нагрузки, определяющий пул соединений с базой данных.
+ *
+ * @see WorkloadRoutingDataSource
+ * @see UseWorkload
+ */
+public enum WorkloadType {
+
+    /**
+     * Чтение каталога покупателями: короткие запросы, много одновременных.
+     */
+    CUSTOMER_READ("customer-read"),
+
+    /**
+     * Запись покупателей (корзина, регистрация, вход).
+     */
+    CUSTOMER_WRITE("customer-write"),
+
+    /**
+     * Административные и пакетные операции: импорт, массовые обновления,
+     * выгрузка, статистика, фоновые перестройки.
+     */
+    ADMIN("admin");
+
+    private final String poolName;
+
+    WorkloadType(String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * Возвращает имя пула соединений (используется в метриках {@code hikaricp.*}).
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+}
@@ -2,6 +2,8 @@ package com.productCatalogService.controller;
 
 import com.productCatalogService.dto.UserDTO;
 import com.productCatalogService.service.AuthService;
+import com.productCatalogService.util.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -26,6 +28,7 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * Регистрирует нового пользователя в системе.
@@ -38,9 +41,13 @@ public class AuthController {
 
     /**
      * Выполняет вход пользователя в систему.
+     * Попытки сверх лимита по IP или имени пользователя отклоняются
+     * до обращения к базе данных и проверки пароля.
      */
     @PostMapping("/login")
-    public ResponseEntity<UserDTO.AuthResponse> login(@Valid @RequestBody UserDTO.LoginRequest loginRequest) {
+    public ResponseEntity<UserDTO.AuthResponse> login(@Valid @RequestBody UserDTO.LoginRequest loginRequest,
+                                                      HttpServletRequest request) {
+        loginRateLimiter.checkLogin(loginRateLimiter.resolveClientIp(request), loginRequest.getUserName());
         UserDTO.AuthResponse response = authService.login(loginRequest);
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,46 @@
+package com.productCatalogService.controller;
+
+import com.productCatalogService.service.CatalogDumpService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Контроллер сырой выгрузки таблиц каталога.
+ * Архив пишется прямо в поток ответа, без буферизации в памяти.
+ */
+@RestController
+@RequestMapping("/admin/dump")
+@RequiredArgsConstructor
+public class CatalogDumpController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final CatalogDumpService catalogDumpService;
+
+    @GetMapping
+    public void dump(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) List<String> tables,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "true") boolean compress,
+            HttpServletResponse response) throws IOException {
+
+        // Ошибки доступа и параметров должны вернуться до записи заголовков архива
+        catalogDumpService.validateDump(token, tables, format);
+
+        String fileName = "catalog-dump-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".zip";
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        catalogDumpService.dump(token, tables, format, compress, response.getOutputStream());
+    }
+}
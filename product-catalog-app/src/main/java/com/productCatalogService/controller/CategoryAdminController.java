@@ -45,4 +45,43 @@ public class CategoryAdminController {
         categoryService.deleteCategory(token, id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Удаляет категорию, перенеся её товары в категорию {@code reassignTo}.
+     */
+    @DeleteMapping(value = "/{id}", params = "reassignTo")
+    public ResponseEntity<CategoryDTO.ReassignResult> deleteCategoryAndReassign(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long id,
+            @RequestParam Long reassignTo) {
+
+        CategoryDTO.ReassignResult result = categoryService.deleteCategoryAndReassign(token, id, reassignTo);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Переносит все товары категории в категорию {@code targetId}.
+     */
+    @PostMapping("/{id}/products/move")
+    public ResponseEntity<CategoryDTO.ReassignResult> moveProducts(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long id,
+            @RequestParam Long targetId) {
+
+        CategoryDTO.ReassignResult result = categoryService.moveProducts(token, id, targetId);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Сливает перечисленные категории в категорию {@code id}.
+     */
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<CategoryDTO.ReassignResult> mergeCategories(
+            @RequestHeader("Authorization") String token,
+            @PathVariable Long id,
+            @Valid @RequestBody CategoryDTO.MergeCategories merge) {
+
+        CategoryDTO.ReassignResult result = categoryService.mergeCategories(token, id, merge);
+        return ResponseEntity.ok(result);
+    }
 }
\ No newline at end of file
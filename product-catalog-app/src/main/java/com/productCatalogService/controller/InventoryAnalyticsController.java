@@ -0,0 +1,30 @@
+package com.productCatalogService.controller;
+
+import com.productCatalogService.dto.InventoryAnalyticsDTO;
+import com.productCatalogService.service.InventoryAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Контроллер аналитики склада.
+ * Данные берутся из материализованных представлений и отстают от таблиц
+ * не более чем на интервал их обновления.
+ */
+@RestController
+@RequestMapping("/admin/statistics/inventory")
+@RequiredArgsConstructor
+public class InventoryAnalyticsController {
+
+    private final InventoryAnalyticsService inventoryAnalyticsService;
+
+    @GetMapping
+    public ResponseEntity<InventoryAnalyticsDTO> getInventoryAnalytics(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) Integer lowStockThreshold,
+            @RequestParam(required = false) Integer limit) {
+
+        InventoryAnalyticsDTO analytics = inventoryAnalyticsService.getInventoryAnalytics(token, lowStockThreshold, limit);
+        return ResponseEntity.ok(analytics);
+    }
+}
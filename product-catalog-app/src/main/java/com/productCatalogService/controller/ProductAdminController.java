@@ -2,12 +2,18 @@ package com.productCatalogService.controller;
 
 import com.productCatalogService.dto.ProductDTO;
 import com.productCatalogService.service.ProductService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Контроллер для административного управления товарами.
  */
@@ -45,4 +51,34 @@ public class ProductAdminController {
         productService.deleteProduct(token, id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Массовый импорт товаров. Тело запроса не буферизуется и передается
+     * в базу данных потоком, поэтому размер файла не ограничен памятью.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ProductDTO.ImportResult> importProducts(
+            @RequestHeader("Authorization") String token,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request) throws IOException {
+
+        ProductDTO.ImportFormat format = "x-ndjson".equals(contentType.getSubtype())
+                ? ProductDTO.ImportFormat.NDJSON
+                : ProductDTO.ImportFormat.CSV;
+        ProductDTO.ImportResult result = productService.importProducts(token, request.getInputStream(), format);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Массовое частичное обновление остатков и цен.
+     * Ответ содержит результат по каждой строке в порядке запроса.
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<ProductDTO.BulkUpdateResult> bulkUpdateStockAndPrice(
+            @RequestHeader("Authorization") String token,
+            @RequestBody List<ProductDTO.StockPriceUpdate> updates) {
+
+        ProductDTO.BulkUpdateResult result = productService.bulkUpdateStockAndPrice(token, updates);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -2,8 +2,10 @@ package com.productCatalogService.dto;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.Map;
 
@@ -86,6 +88,8 @@ public class BasketDTO {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class UpdateBasketItemRequest {
         @NotNull(message = "Количество обязательно")
         @Min(value = 0, message = "Количество не может быть отрицательным")
@@ -0,0 +1,98 @@
+package com.productCatalogService.dto;
+
+import java.util.Locale;
+
+/**
+ * Параметры выгрузки каталога через {@code COPY ... TO STDOUT}.
+ *
+ * @see CatalogDumpDTO.Table
+ * @see CatalogDumpDTO.Format
+ */
+public final class CatalogDumpDTO {
+
+    private CatalogDumpDTO() {
+    }
+
+    /**
+     * Таблицы, доступные для выгрузки. Таблица пользователей не выгружается:
+     * она содержит хеши паролей.
+     */
+    public enum Table {
+        CATEGORIES("categories", "entity.categories"),
+        PRODUCTS("products", "entity.products"),
+        USER_BASKET("user_basket", "entity.user_basket");
+
+        private final String fileName;
+        private final String qualifiedName;
+
+        Table(String fileName, String qualifiedName) {
+            this.fileName = fileName;
+            this.qualifiedName = qualifiedName;
+        }
+
+        /** Имя файла таблицы в архиве (без расширения). */
+        public String getFileName() {
+            return fileName;
+        }
+
+        /** Имя таблицы в базе данных со схемой. */
+        public String getQualifiedName() {
+            return qualifiedName;
+        }
+
+        /**
+         * Находит таблицу по имени без учета регистра.
+         *
+         * @param name имя таблицы, например {@code user_basket}
+         * @return таблица
+         * @throws IllegalArgumentException если таблица не поддерживается
+         */
+        public static Table fromName(String name) {
+            for (Table table : values()) {
+                if (table.fileName.equalsIgnoreCase(name.trim())) {
+                    return table;
+                }
+            }
+            throw new IllegalArgumentException("Неизвестная таблица: " + name);
+        }
+    }
+
+    /**
+     * Формат выгрузки, соответствует опции FORMAT команды COPY.
+     */
+    public enum Format {
+        /** CSV с заголовком. */
+        CSV("csv", "csv"),
+        /** Бинарный формат PostgreSQL — быстрее для загрузки обратно через COPY FROM. */
+        BINARY("binary", "bin");
+
+        private final String copyOption;
+        private final String extension;
+
+        Format(String copyOption, String extension) {
+            this.copyOption = copyOption;
+            this.extension = extension;
+        }
+
+        /** Значение опции FORMAT для COPY. */
+        public String getCopyOption() {
+            return copyOption;
+        }
+
+        /** Расширение файла в архиве. */
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Находит формат по имени без учета регистра.
+         *
+         * @param name имя формата ({@code csv} или {@code binary})
+         * @return формат
+         * @throws IllegalArgumentException если формат не поддерживается
+         */
+        public static Format fromName(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.productCatalogService.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 /**
  * Data Transfer Object (DTO) для категории товаров.
@@ -49,4 +54,41 @@ public class CategoryDTO {
         @NotBlank(message = "Название категории обязательно")
         private String name;
     }
-}
\ No newline at end of file
+
+    /**
+     * DTO для слияния категорий: товары категорий-источников переносятся
+     * в целевую категорию, источники удаляются.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MergeCategories {
+
+        /** Идентификаторы категорий, сливаемых в целевую. Обязательное поле. */
+        @NotEmpty(message = "Список категорий для слияния обязателен")
+        private List<Long> sourceIds;
+    }
+
+    /**
+     * Результат массового переноса товаров между категориями.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReassignResult {
+
+        /** Категория, в которую перенесены товары. */
+        private Long targetCategoryId;
+
+        /** Категории, из которых перенесены товары. */
+        private List<Long> sourceCategoryIds;
+
+        /** Количество перенесенных товаров. */
+        private int movedProducts;
+
+        /** Количество удаленных категорий. */
+        private int deletedCategories;
+    }
+}
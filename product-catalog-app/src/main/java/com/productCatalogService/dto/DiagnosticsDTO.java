@@ -0,0 +1,91 @@
+package com.productCatalogService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO диагностических эндпоинтов {@code /actuator/jfr} и {@code /actuator/classhistogram}.
+ */
+public class DiagnosticsDTO {
+
+    /**
+     * Запись Java Flight Recorder.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JfrRecording {
+
+        /** Идентификатор записи в JVM; используется в пути {@code /actuator/jfr/{id}}. */
+        private long id;
+
+        private String name;
+
+        /** Профиль настроек JDK ({@code default}, {@code profile}). */
+        private String settings;
+
+        /** {@code NEW}, {@code DELAYED}, {@code RUNNING}, {@code STOPPED} или {@code CLOSED}. */
+        private String state;
+
+        private Instant startTime;
+
+        private Instant stopTime;
+
+        /** Заданная длительность; по ее истечении запись останавливается сама. */
+        private Duration duration;
+
+        /** Размер файла записи в байтах или 0, пока запись идет. */
+        private long size;
+    }
+
+    /**
+     * Гистограмма классов кучи ({@code GC.class_histogram}).
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClassHistogram {
+
+        /** Момент снятия гистограммы. */
+        private Instant timestamp;
+
+        /** Были ли учтены недостижимые объекты (без предварительной полной сборки). */
+        private boolean all;
+
+        private long totalInstances;
+
+        private long totalBytes;
+
+        /** Классы по убыванию занимаемого объема, не более {@code limit}. */
+        private List<ClassHistogramEntry> entries;
+    }
+
+    /**
+     * Строка гистограммы классов.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClassHistogramEntry {
+
+        private int rank;
+
+        private long instances;
+
+        private long bytes;
+
+        private String className;
+
+        /** Модуль класса, если JVM его выводит. */
+        private String module;
+    }
+}
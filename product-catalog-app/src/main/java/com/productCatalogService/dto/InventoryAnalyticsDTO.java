@@ -0,0 +1,71 @@
+package com.productCatalogService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO аналитики склада, рассчитанной по материализованным представлениям.
+ *
+ * <p>Данные актуальны на момент {@link #refreshedAt} последнего обновления представлений.
+ * Все денежные значения указаны в копейках, как и цены товаров.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryAnalyticsDTO {
+
+    /** Момент последнего обновления представлений. */
+    private Instant refreshedAt;
+
+    /** Суммарная стоимость остатков по всем категориям. */
+    private long totalInventoryValue;
+
+    /** Суммарное количество единиц товара, находящихся в корзинах. */
+    private long totalReservedUnits;
+
+    /** Стоимость остатков и резерв по категориям. */
+    private List<CategorySummary> categories;
+
+    /** Товары с остатком не выше порога, по возрастанию остатка. */
+    private List<ProductSummary> lowStockProducts;
+
+    /** Товары, чаще всего находящиеся в корзинах пользователей. */
+    private List<ProductSummary> mostInBaskets;
+
+    /**
+     * Сводка по категории.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategorySummary {
+        private Long categoryId;
+        private String categoryName;
+        private long productCount;
+        private long totalUnits;
+        private long inventoryValue;
+        private long reservedUnits;
+    }
+
+    /**
+     * Сводка по товару.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductSummary {
+        private Long productId;
+        private String name;
+        private Long categoryId;
+        private int quantity;
+        private long stockValue;
+        private long reservedUnits;
+        private long basketUsers;
+    }
+}
@@ -3,8 +3,12 @@ package com.productCatalogService.dto;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 /**
  * Data Transfer Object (DTO) для товара (Product).
@@ -14,6 +18,9 @@ import lombok.Data;
  *
  * @see ProductDTO.CreateProduct
  * @see ProductDTO.UpdateProduct
+ * @see ProductDTO.ImportResult
+ * @see ProductDTO.StockPriceUpdate
+ * @see ProductDTO.BulkUpdateResult
  */
 @Data
 @Builder
@@ -113,4 +120,128 @@ public class ProductDTO {
         @NotNull(message = "ID категории обязательно")
         private Long categoryId;
     }
-}
\ No newline at end of file
+
+    /**
+     * Формат файла массового импорта товаров.
+     */
+    public enum ImportFormat {
+        /** CSV с заголовком: id,name,quantity,price,categoryId. */
+        CSV,
+        /** JSON-объект на каждой строке с полями id, name, quantity, price, categoryId. */
+        NDJSON
+    }
+
+    /**
+     * Результат массового импорта товаров.
+     * Строки без id добавляются, строки с id обновляют существующий товар;
+     * некорректные строки, строки с неизвестным id или категорией и повторы id отклоняются.
+     */
+    @Data
+    @Builder
+    public static class ImportResult {
+
+        /**
+         * Количество добавленных товаров.
+         */
+        private long inserted;
+
+        /**
+         * Количество обновленных товаров.
+         */
+        private long updated;
+
+        /**
+         * Количество отклоненных строк.
+         */
+        private long rejected;
+    }
+
+    /**
+     * Частичное обновление товара в массовом запросе.
+     * Незаполненное поле (null) остается без изменений.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StockPriceUpdate {
+
+        /**
+         * Идентификатор товара. Обязательное поле.
+         */
+        private Long id;
+
+        /**
+         * Новое количество товара на складе.
+         */
+        private Integer quantity;
+
+        /**
+         * Новая цена товара.
+         */
+        private Integer price;
+    }
+
+    /**
+     * Статус обработки строки массового обновления.
+     */
+    public enum BulkUpdateStatus {
+        /** Товар обновлен. */
+        UPDATED,
+        /** Товар с таким id не найден. */
+        NOT_FOUND,
+        /** Строка не прошла проверку и не отправлялась в базу данных. */
+        REJECTED
+    }
+
+    /**
+     * Результат обработки одной строки массового обновления.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class BulkUpdateItemResult {
+
+        /**
+         * Идентификатор товара из запроса.
+         */
+        private Long id;
+
+        /**
+         * Статус обработки строки.
+         */
+        private BulkUpdateStatus status;
+
+        /**
+         * Причина отклонения строки (только для REJECTED).
+         */
+        private String message;
+    }
+
+    /**
+     * Результат массового обновления. Результаты строк идут в порядке запроса.
+     */
+    @Data
+    @Builder
+    public static class BulkUpdateResult {
+
+        /**
+         * Количество обновленных товаров.
+         */
+        private long updated;
+
+        /**
+         * Количество строк с несуществующим id.
+         */
+        private long notFound;
+
+        /**
+         * Количество отклоненных строк.
+         */
+        private long rejected;
+
+        /**
+         * Результаты по каждой строке.
+         */
+        private List<BulkUpdateItemResult> results;
+    }
+}
@@ -0,0 +1,56 @@
+package com.productCatalogService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO медленного SQL-запроса из журнала {@code /actuator/slowqueries}.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQueryDTO {
+
+    /** Момент завершения запроса. */
+    private Instant timestamp;
+
+    /** Имя запроса ({@link com.productCatalogService.util.QueryName}). */
+    private String name;
+
+    /** Текст запроса. */
+    private String sql;
+
+    /** Значения параметров по порядку (для пакета — последнего набора). */
+    private List<String> parameters;
+
+    /** Время выполнения в миллисекундах. */
+    private long durationMs;
+
+    /** Состояние плана. */
+    private PlanStatus planStatus;
+
+    /** Вывод {@code EXPLAIN (ANALYZE, BUFFERS)} или причина, по которой плана нет. */
+    private String plan;
+
+    /**
+     * Состояние {@code EXPLAIN} для медленного запроса.
+     */
+    public enum PlanStatus {
+        /** Запрос не попал в выборку. */
+        NOT_SAMPLED,
+        /** План ожидает выполнения. */
+        PENDING,
+        /** План получен. */
+        DONE,
+        /** Запрос не является SELECT или очередь переполнена. */
+        SKIPPED,
+        /** Ошибка получения плана. */
+        FAILED
+    }
+}
@@ -0,0 +1,14 @@
+package com.productCatalogService.event;
+
+import java.util.List;
+
+/**
+ * Событие массового изменения структуры каталога: перенос товаров между
+ * категориями, слияние или удаление категорий. Публикуется один раз на операцию,
+ * слушатели сбрасывают зависящие от категорий кеши после фиксации транзакции.
+ *
+ * @param categoryIds   затронутые категории (источники и целевая)
+ * @param movedProducts количество перенесенных товаров
+ */
+public record CategoriesChangedEvent(List<Long> categoryIds, int movedProducts) {
+}
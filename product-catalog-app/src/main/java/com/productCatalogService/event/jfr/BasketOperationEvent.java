@@ -0,0 +1,121 @@
+package com.productCatalogService.event.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * Событие JFR: операция с корзиной пользователя.
+ *
+ * <p>Длительность события — время операции в репозитории корзины. Вместе с
+ * {@link RepositoryCallEvent} и событиями JDK (блокировки, GC, сокеты) позволяет
+ * связать медленные операции корзины с причиной в одной записи.</p>
+ */
+@Name(BasketOperationEvent.NAME)
+@Label("Basket Operation")
+@Category({"Product Catalog", "Basket"})
+@Description("Операция с корзиной пользователя")
+@StackTrace(false)
+public class BasketOperationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.productCatalogService.BasketOperation";
+
+    /**
+     * Тип операции.
+     */
+    public enum Operation {
+        READ, ADD, REMOVE, CLEAR
+    }
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Product Id")
+    @Description("0 для операций со всей корзиной")
+    public long productId;
+
+    @Label("Quantity")
+    public int quantity;
+
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * Начинает событие, если оно включено в текущей записи, иначе возвращает {@code null}.
+     *
+     * @param operation тип операции
+     * @param userId    идентификатор пользователя
+     * @param productId идентификатор товара или {@code null}
+     * @param quantity  количество или 0
+     */
+    public static BasketOperationEvent begin(Operation operation, Long userId, Long productId, int quantity) {
+        BasketOperationEvent event = new BasketOperationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.operation = operation.name();
+        event.userId = userId != null ? userId : 0L;
+        event.productId = productId != null ? productId : 0L;
+        event.quantity = quantity;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Завершает событие, начатое {@link #begin(Operation, Long, Long, int)}; допускает {@code null}.
+     *
+     * @param event   событие
+     * @param success завершилась ли операция без исключения
+     */
+    public static void commit(BasketOperationEvent event, boolean success) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * Выполняет операцию с корзиной внутри события.
+     *
+     * @param operation тип операции
+     * @param userId    идентификатор пользователя
+     * @param productId идентификатор товара или {@code null}
+     * @param quantity  количество или 0
+     * @param action    операция
+     * @return результат операции
+     */
+    public static <T> T call(Operation operation, Long userId, Long productId, int quantity, Supplier<T> action) {
+        BasketOperationEvent event = begin(operation, userId, productId, quantity);
+        boolean success = false;
+        try {
+            T result = action.get();
+            success = true;
+            return result;
+        } finally {
+            commit(event, success);
+        }
+    }
+
+    /**
+     * Выполняет операцию с корзиной без результата внутри события.
+     *
+     * @see #call(Operation, Long, Long, int, Supplier)
+     */
+    public static void run(Operation operation, Long userId, Long productId, int quantity, Runnable action) {
+        call(operation, userId, productId, quantity, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
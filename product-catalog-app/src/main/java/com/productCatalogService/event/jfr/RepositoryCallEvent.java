@@ -0,0 +1,39 @@
+package com.productCatalogService.event.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR: вызов метода репозитория.
+ *
+ * <p>Длительность события — время всего вызова, включая все выполненные им запросы.
+ * Событие создается только во время записи JFR; без записи аспект вызывает метод
+ * напрямую.</p>
+ *
+ * @see com.productCatalogService.aspect.RepositoryJfrAspect
+ */
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Category({"Product Catalog", "Repository"})
+@Description("Вызов метода репозитория")
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.productCatalogService.RepositoryCall";
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Error")
+    @Description("Класс исключения, если вызов завершился ошибкой")
+    public String error;
+}
@@ -0,0 +1,19 @@
+package com.productCatalogService.exception;
+
+/**
+ * Исключение, выбрасываемое при превышении лимита частоты запросов.
+ * Содержит рекомендуемое время ожидания для заголовка Retry-After.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.productCatalogService.repository;
+
+import com.productCatalogService.dto.CatalogDumpDTO;
+
+import java.io.OutputStream;
+
+/**
+ * Репозиторий выгрузки таблиц каталога через {@code COPY ... TO STDOUT}.
+ */
+public interface CatalogDumpRepository {
+
+    /**
+     * Выгружает таблицу в поток без промежуточных объектов строк.
+     * Для согласованной выгрузки нескольких таблиц вызывается внутри одной
+     * транзакции REPEATABLE READ.
+     *
+     * @param table  таблица
+     * @param format формат выгрузки
+     * @param out    поток назначения (не закрывается)
+     * @return количество выгруженных строк
+     */
+    long copyOut(CatalogDumpDTO.Table table, CatalogDumpDTO.Format format, OutputStream out);
+}
@@ -109,6 +109,31 @@ public interface CategoryRepository {
      */
     boolean deleteById(Long id);
 
+    /**
+     * Удаляет несколько категорий одним запросом.
+     *
+     * @param ids идентификаторы категорий для удаления
+     * @return количество удаленных категорий
+     * @throws org.springframework.dao.DataIntegrityViolationException если в категориях остались товары
+     * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
+     */
+    int deleteAllById(List<Long> ids);
+
+    /**
+     * Блокирует строки категорий до конца текущей транзакции ({@code FOR UPDATE}).
+     * <p>
+     * Пока блокировка удерживается, другие транзакции не могут добавить товары
+     * в эти категории, поэтому массовый перенос товаров и удаление категорий
+     * не конфликтуют с параллельными вставками. Строки блокируются в порядке
+     * возрастания идентификаторов, чтобы исключить взаимные блокировки.
+     * </p>
+     *
+     * @param ids идентификаторы категорий
+     * @return идентификаторы найденных и заблокированных категорий
+     * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
+     */
+    List<Long> lockByIds(List<Long> ids);
+
     /**
      * Проверяет существование категории по идентификатору.
      * <p>
@@ -124,4 +149,12 @@ public interface CategoryRepository {
      * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
      */
     boolean existsById(Long id);
+
+    /**
+     * Возвращает общее количество категорий.
+     *
+     * @return количество категорий в хранилище
+     * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
+     */
+    Long count();
 }
\ No newline at end of file
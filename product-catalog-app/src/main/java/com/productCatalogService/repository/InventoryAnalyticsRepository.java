@@ -0,0 +1,54 @@
+package com.productCatalogService.repository;
+
+import com.productCatalogService.dto.InventoryAnalyticsDTO;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Репозиторий аналитики склада.
+ * Читает только материализованные представления {@code inventory_category_summary}
+ * и {@code inventory_product_summary} и отвечает за их обновление.
+ */
+public interface InventoryAnalyticsRepository {
+
+    /**
+     * Возвращает сводку по всем категориям.
+     *
+     * @return список сводок, отсортированный по стоимости остатков по убыванию
+     */
+    List<InventoryAnalyticsDTO.CategorySummary> findCategorySummaries();
+
+    /**
+     * Возвращает товары с остатком не выше порога.
+     *
+     * @param threshold порог остатка
+     * @param limit     максимальное количество товаров
+     * @return товары по возрастанию остатка
+     */
+    List<InventoryAnalyticsDTO.ProductSummary> findLowStock(int threshold, int limit);
+
+    /**
+     * Возвращает товары, которые находятся в наибольшем числе корзин.
+     *
+     * @param limit максимальное количество товаров
+     * @return товары по убыванию количества корзин
+     */
+    List<InventoryAnalyticsDTO.ProductSummary> findMostInBaskets(int limit);
+
+    /**
+     * Возвращает момент последнего обновления представлений.
+     *
+     * @return Optional с моментом обновления или empty если категорий нет
+     */
+    Optional<Instant> findRefreshedAt();
+
+    /**
+     * Обновляет представления через {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}.
+     * Если обновление уже выполняет другой экземпляр приложения, ничего не делает.
+     *
+     * @return true если представления были обновлены
+     */
+    boolean refresh();
+}
@@ -0,0 +1,43 @@
+package com.productCatalogService.repository;
+
+import com.productCatalogService.dto.ProductDTO;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Репозиторий массовых операций с товарами.
+ * Работает напрямую с протоколом PostgreSQL, минуя построчные INSERT.
+ */
+public interface ProductBulkRepository {
+
+    /**
+     * Загружает товары из CSV потоком через {@code COPY ... FROM STDIN} во временную
+     * таблицу и объединяет их с таблицей товаров одним запросом. Идентификаторы новых
+     * товаров выделяются в SQL блоками последовательности того же размера, что у
+     * {@link com.productCatalogService.util.PooledIdGenerator}, без передачи через память приложения.
+     * Должен вызываться внутри транзакции: временная таблица удаляется при её завершении.
+     *
+     * <p>Колонки CSV: id, name, quantity, price, categoryId. Строки без id добавляются,
+     * строки с id обновляют существующий товар. Строка с другим числом полей, незакрытой
+     * кавычкой или некорректными значениями учитывается в {@code rejected}, остальные
+     * строки файла загружаются.</p>
+     *
+     * @param csv       поток CSV в UTF-8
+     * @param hasHeader содержит ли первая строка заголовок
+     * @return количество добавленных, обновленных и отклоненных строк
+     * @throws com.productCatalogService.exception.BadRequestException если поток целиком некорректен
+     *         (не UTF-8, управляющие символы {@code \x01}/{@code \x02}, смешанные окончания строк)
+     */
+    ProductDTO.ImportResult importCsv(InputStream csv, boolean hasHeader);
+
+    /**
+     * Частично обновляет остатки и цены товаров пакетами JDBC.
+     * Поле со значением null сохраняет текущее значение в базе данных.
+     *
+     * @param updates   обновления (id обязателен)
+     * @param chunkSize количество строк в одном пакете
+     * @return количество обновленных строк для каждого элемента в порядке {@code updates}
+     */
+    int[] updateStockAndPrice(List<ProductDTO.StockPriceUpdate> updates, int chunkSize);
+}
@@ -91,6 +91,17 @@ public interface ProductRepository {
      */
     List<Product> findByCategoryId(Long categoryId);
 
+    /**
+     * Переносит все товары указанных категорий в целевую категорию
+     * одним запросом {@code UPDATE}.
+     *
+     * @param sourceCategoryIds категории, из которых переносятся товары
+     * @param targetCategoryId  целевая категория
+     * @return количество перенесенных товаров
+     * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
+     */
+    int moveToCategory(List<Long> sourceCategoryIds, Long targetCategoryId);
+
     /**
      * Удаляет товар по его идентификатору.
      * <p>
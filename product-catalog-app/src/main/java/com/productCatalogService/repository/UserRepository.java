@@ -47,6 +47,7 @@ public interface UserRepository {
 
     /**
      * Проверяет существование пользователя с указанным именем.
+     * Заведомо отсутствующие имена отсекаются фильтром Блума без запроса к базе данных.
      *
      * @param username имя пользователя для проверки
      * @return true если пользователь существует, иначе false
@@ -60,6 +61,13 @@ public interface UserRepository {
      */
     List<User> findAllUser();
 
+    /**
+     * Возвращает общее количество пользователей.
+     *
+     * @return количество пользователей в базе данных
+     */
+    Long count();
+
     /**
      * Добавляет продукт в корзину пользователя или обновляет количество
      */
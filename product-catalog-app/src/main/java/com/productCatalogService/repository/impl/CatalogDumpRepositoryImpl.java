@@ -0,0 +1,46 @@
+package com.productCatalogService.repository.impl;
+
+import com.productCatalogService.dto.CatalogDumpDTO;
+import com.productCatalogService.repository.CatalogDumpRepository;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Реализация выгрузки таблиц каталога через pgjdbc {@link CopyManager}.
+ * Данные COPY передаются из драйвера прямо в поток назначения.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogDumpRepositoryImpl implements CatalogDumpRepository {
+
+    private static final String COPY_OUT_SQL = "COPY %s TO STDOUT WITH (FORMAT %s%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long copyOut(CatalogDumpDTO.Table table, CatalogDumpDTO.Format format, OutputStream out) {
+        // Имя таблицы и формат берутся только из перечислений, поэтому подстановка безопасна
+        String sql = COPY_OUT_SQL.formatted(
+                table.getQualifiedName(),
+                format.getCopyOption(),
+                format == CatalogDumpDTO.Format.CSV ? ", HEADER true" : "");
+
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyOut(sql, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Ошибка записи выгрузки таблицы " + table.getFileName(), e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+}
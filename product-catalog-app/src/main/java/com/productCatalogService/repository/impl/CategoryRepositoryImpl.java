@@ -2,15 +2,14 @@ package com.productCatalogService.repository.impl;
 
 import com.productCatalogService.entity.Category;
 import com.productCatalogService.repository.CategoryRepository;
+import com.productCatalogService.util.PooledIdGenerator;
+import com.productCatalogService.util.QueryName;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,30 +18,50 @@ import java.util.Optional;
 public class CategoryRepositoryImpl implements CategoryRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final PooledIdGenerator idGenerator;
+
+    private static final String ID_SEQUENCE = "seq_schema.categories_id_seq";
 
     private static final String SELECT_ALL = """
         SELECT id, name
         FROM entity.categories
         """;
 
-    private static final String SELECT_BY_ID = SELECT_ALL + " WHERE id = ?";
+    private static final String FIND_ALL = QueryName.of("category.findAll", SELECT_ALL);
 
-    private static final String SELECT_BY_NAME = SELECT_ALL + " WHERE name = ?";
+    private static final String SELECT_BY_ID = QueryName.of("category.findById", SELECT_ALL + " WHERE id = ?");
 
-    private static final String INSERT = """
-        INSERT INTO entity.categories (name)
-        VALUES (?)
-        """;
+    private static final String SELECT_BY_NAME = QueryName.of("category.findByName", SELECT_ALL + " WHERE name = ?");
+
+    private static final String INSERT = QueryName.of("category.insert", """
+        INSERT INTO entity.categories (id, name)
+        VALUES (?, ?)
+        """);
 
-    private static final String UPDATE = """
+    private static final String UPDATE = QueryName.of("category.update", """
         UPDATE entity.categories
         SET name = ?
         WHERE id = ?
-        """;
+        """);
 
-    private static final String DELETE = "DELETE FROM entity.categories WHERE id = ?";
+    private static final String DELETE = QueryName.of("category.deleteById",
+            "DELETE FROM entity.categories WHERE id = ?");
 
-    private static final String EXISTS_BY_ID = "SELECT COUNT(*) FROM entity.categories WHERE id = ?";
+    private static final String DELETE_ALL_BY_ID = QueryName.of("category.deleteAllById",
+            "DELETE FROM entity.categories WHERE id = ANY(?)");
+
+    private static final String LOCK_BY_IDS = QueryName.of("category.lockByIds", """
+        SELECT id
+        FROM entity.categories
+        WHERE id = ANY(?)
+        ORDER BY id
+        FOR UPDATE
+        """);
+
+    private static final String EXISTS_BY_ID = QueryName.of("category.existsById",
+            "SELECT COUNT(*) FROM entity.categories WHERE id = ?");
+
+    private static final String COUNT_ALL = QueryName.of("category.count", "SELECT COUNT(*) FROM entity.categories");
 
     private final RowMapper<Category> categoryRowMapper = (resultSet, rowNum) -> {
         Category category = new Category();
@@ -53,7 +72,7 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
     @Override
     public List<Category> findAll() {
-        return jdbcTemplate.query(SELECT_ALL, categoryRowMapper);
+        return jdbcTemplate.query(FIND_ALL, categoryRowMapper);
     }
 
     @Override
@@ -79,14 +98,8 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     @Override
     public Category save(Category category) {
         if (category.getId() == null) {
-            KeyHolder keyHolder = new GeneratedKeyHolder();
-            jdbcTemplate.update(connection -> {
-                PreparedStatement preparedStatement = connection.prepareStatement(INSERT, new String[]{"id"});
-                preparedStatement.setString(1, category.getName());
-                return preparedStatement;
-            }, keyHolder);
-
-            category.setId(keyHolder.getKey().longValue());
+            category.setId(idGenerator.nextId(ID_SEQUENCE));
+            jdbcTemplate.update(INSERT, category.getId(), category.getName());
         } else {
             jdbcTemplate.update(UPDATE,
                     category.getName(),
@@ -101,9 +114,25 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         return rowsAffected > 0;
     }
 
+    @Override
+    public int deleteAllById(List<Long> ids) {
+        return jdbcTemplate.update(DELETE_ALL_BY_ID, (Object) ids.toArray(Long[]::new));
+    }
+
+    @Override
+    public List<Long> lockByIds(List<Long> ids) {
+        return jdbcTemplate.queryForList(LOCK_BY_IDS, Long.class, (Object) ids.toArray(Long[]::new));
+    }
+
     @Override
     public boolean existsById(Long id) {
         Integer count = jdbcTemplate.queryForObject(EXISTS_BY_ID, Integer.class, id);
         return count != null && count > 0;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Long count() {
+        Long count = jdbcTemplate.queryForObject(COUNT_ALL, Long.class);
+        return count != null ? count : 0;
+    }
+}
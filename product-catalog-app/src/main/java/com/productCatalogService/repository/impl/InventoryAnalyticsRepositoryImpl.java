@@ -0,0 +1,123 @@
+package com.productCatalogService.repository.impl;
+
+import com.productCatalogService.dto.InventoryAnalyticsDTO;
+import com.productCatalogService.repository.InventoryAnalyticsRepository;
+import com.productCatalogService.util.QueryName;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Реализация репозитория аналитики склада с использованием JDBC.
+ */
+@Repository
+public class InventoryAnalyticsRepositoryImpl implements InventoryAnalyticsRepository {
+
+    private static final String FIND_CATEGORY_SUMMARIES_SQL = QueryName.of("inventory.findCategorySummaries", """
+            SELECT category_id, category_name, product_count, total_units, inventory_value, reserved_units
+            FROM entity.inventory_category_summary
+            ORDER BY inventory_value DESC, category_id
+            """);
+
+    private static final String PRODUCT_SUMMARY_COLUMNS = """
+            SELECT product_id, name, category_id, quantity, stock_value, reserved_units, basket_users
+            FROM entity.inventory_product_summary
+            """;
+
+    private static final String FIND_LOW_STOCK_SQL = QueryName.of("inventory.findLowStock",
+            PRODUCT_SUMMARY_COLUMNS + """
+            WHERE quantity <= ?
+            ORDER BY quantity, product_id
+            LIMIT ?
+            """);
+
+    private static final String FIND_MOST_IN_BASKETS_SQL = QueryName.of("inventory.findMostInBaskets",
+            PRODUCT_SUMMARY_COLUMNS + """
+            WHERE basket_users > 0
+            ORDER BY basket_users DESC, product_id
+            LIMIT ?
+            """);
+
+    private static final String FIND_REFRESHED_AT_SQL = QueryName.of("inventory.findRefreshedAt",
+            "SELECT MAX(refreshed_at) FROM entity.inventory_category_summary");
+
+    /**
+     * Блокировка уровня транзакции, чтобы несколько экземпляров не обновляли представления одновременно.
+     */
+    private static final String TRY_LOCK_SQL = QueryName.of("inventory.tryRefreshLock",
+            "SELECT pg_try_advisory_xact_lock(hashtext('entity.inventory_summary_refresh'))");
+
+    private static final String REFRESH_PRODUCT_SUMMARY_SQL = QueryName.of("inventory.refreshProductSummary",
+            "REFRESH MATERIALIZED VIEW CONCURRENTLY entity.inventory_product_summary");
+    private static final String REFRESH_CATEGORY_SUMMARY_SQL = QueryName.of("inventory.refreshCategorySummary",
+            "REFRESH MATERIALIZED VIEW CONCURRENTLY entity.inventory_category_summary");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final RowMapper<InventoryAnalyticsDTO.CategorySummary> categorySummaryRowMapper = (rs, rowNum) ->
+            new InventoryAnalyticsDTO.CategorySummary(
+                    rs.getLong("category_id"),
+                    rs.getString("category_name"),
+                    rs.getLong("product_count"),
+                    rs.getLong("total_units"),
+                    rs.getLong("inventory_value"),
+                    rs.getLong("reserved_units"));
+
+    private final RowMapper<InventoryAnalyticsDTO.ProductSummary> productSummaryRowMapper = (rs, rowNum) ->
+            new InventoryAnalyticsDTO.ProductSummary(
+                    rs.getLong("product_id"),
+                    rs.getString("name"),
+                    rs.getLong("category_id"),
+                    rs.getInt("quantity"),
+                    rs.getLong("stock_value"),
+                    rs.getLong("reserved_units"),
+                    rs.getLong("basket_users"));
+
+    public InventoryAnalyticsRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<InventoryAnalyticsDTO.CategorySummary> findCategorySummaries() {
+        return jdbcTemplate.query(FIND_CATEGORY_SUMMARIES_SQL, categorySummaryRowMapper);
+    }
+
+    @Override
+    public List<InventoryAnalyticsDTO.ProductSummary> findLowStock(int threshold, int limit) {
+        return jdbcTemplate.query(FIND_LOW_STOCK_SQL, productSummaryRowMapper, threshold, limit);
+    }
+
+    @Override
+    public List<InventoryAnalyticsDTO.ProductSummary> findMostInBaskets(int limit) {
+        return jdbcTemplate.query(FIND_MOST_IN_BASKETS_SQL, productSummaryRowMapper, limit);
+    }
+
+    @Override
+    public Optional<Instant> findRefreshedAt() {
+        Timestamp refreshedAt = jdbcTemplate.queryForObject(FIND_REFRESHED_AT_SQL, Timestamp.class);
+        return Optional.ofNullable(refreshedAt).map(Timestamp::toInstant);
+    }
+
+    @Override
+    public boolean refresh() {
+        Boolean refreshed = transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(TRY_LOCK_SQL, Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                return false;
+            }
+            jdbcTemplate.execute(REFRESH_PRODUCT_SUMMARY_SQL);
+            jdbcTemplate.execute(REFRESH_CATEGORY_SUMMARY_SQL);
+            return true;
+        });
+        return Boolean.TRUE.equals(refreshed);
+    }
+}
@@ -0,0 +1,229 @@
+package com.productCatalogService.repository.impl;
+
+import com.productCatalogService.dto.ProductDTO;
+import com.productCatalogService.exception.BadRequestException;
+import com.productCatalogService.repository.ProductBulkRepository;
+import com.productCatalogService.util.InventoryChangeTracker;
+import com.productCatalogService.util.PooledIdGenerator;
+import com.productCatalogService.util.QueryName;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Реализация массовых операций с товарами через PostgreSQL {@code COPY}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepositoryImpl implements ProductBulkRepository {
+
+    /**
+     * Класс кодов SQLSTATE «ошибка данных» — некорректное содержимое файла, а не сбой базы.
+     * После построчной загрузки остаются только ошибки всего файла: неверная кодировка
+     * управляющие символы {@code \x01}, {@code \x02} и смешанные окончания строк.
+     */
+    private static final String DATA_EXCEPTION_CLASS = "22";
+
+    private static final String ID_SEQUENCE = "seq_schema.products_id_seq";
+
+    private static final String CREATE_STAGING_SQL = QueryName.of("productImport.createStaging", """
+            CREATE TEMP TABLE product_import_staging (
+                line_no BIGINT GENERATED ALWAYS AS IDENTITY,
+                line    TEXT
+            ) ON COMMIT DROP
+            """);
+
+    /**
+     * Каждая строка файла загружается целиком в одну колонку: разделитель и кавычка COPY —
+     * управляющие символы, которых нет в CSV. Поля разбираются в {@link #CREATE_VALID_SQL},
+     * поэтому строка с неверным числом колонок или незакрытой кавычкой отклоняется одна,
+     * а не прерывает весь импорт.
+     */
+    private static final String COPY_SQL = """
+            COPY product_import_staging (line)
+            FROM STDIN WITH (FORMAT csv, HEADER %s, DELIMITER E'\\x01', QUOTE E'\\x02', ENCODING 'UTF8')
+            """;
+
+    /**
+     * Разбирает строку CSV из пяти полей: строка без кавычек делится по запятым, строка
+     * с кавычками — через {@code regexp_match} (поле в кавычках с {@code ""} внутри или без
+     * кавычек и запятых); строка с другим числом полей отклоняется. Поля вычисляются
+     * один раз на строку ({@code MATERIALIZED}), а не при каждом обращении к элементу массива.
+     * Признак {@code valid} тоже материализуется: по цепочке регулярных выражений планировщик
+     * оценивает результат в одну строку и соединяет с категориями вложенным циклом.
+     * Затем проверяет поля регулярными выражениями до приведения типов, поэтому
+     * некорректная строка отклоняется, а не прерывает весь импорт. Из повторов
+     * одного id остается последний; строки с неизвестной категорией отбрасываются.
+     */
+    private static final String CREATE_VALID_SQL = QueryName.of("productImport.createValid", """
+            CREATE TEMP TABLE product_import_valid ON COMMIT DROP AS
+            WITH fields AS MATERIALIZED (
+                SELECT s.line_no,
+                       CASE WHEN strpos(s.line, '"') = 0 THEN string_to_array(s.line, ',')
+                            ELSE (SELECT array_agg(CASE WHEN u.v LIKE '"%'
+                                                        THEN replace(substr(u.v, 2, length(u.v) - 2), '""', '"')
+                                                        ELSE u.v END ORDER BY u.n)
+                                  FROM unnest(regexp_match(s.line,
+                                          '^("(?:[^"]|"")*"|[^,"]*),("(?:[^"]|"")*"|[^,"]*),'
+                                          || '("(?:[^"]|"")*"|[^,"]*),("(?:[^"]|"")*"|[^,"]*),'
+                                          || '("(?:[^"]|"")*"|[^,"]*)$')) WITH ORDINALITY AS u(v, n))
+                       END AS f
+                FROM product_import_staging s
+                WHERE s.line <> ''
+            ),
+            s AS MATERIALIZED (
+                SELECT line_no, f[1] AS id, f[2] AS name, f[3] AS quantity, f[4] AS price, f[5] AS category_id,
+                       cardinality(f) = 5
+                           AND (trim(f[1]) = '' OR trim(f[1]) ~ '^[0-9]{1,18}$')
+                           AND trim(f[2]) <> ''
+                           AND trim(f[3]) ~ '^[0-9]{1,9}$'
+                           AND trim(f[4]) ~ '^[0-9]{1,9}$'
+                           AND trim(f[5]) ~ '^[0-9]{1,18}$' AS valid
+                FROM fields
+            ),
+            parsed AS (
+                SELECT s.line_no,
+                       NULLIF(trim(s.id), '')::BIGINT AS id,
+                       trim(s.name)                   AS name,
+                       trim(s.quantity)::INTEGER      AS quantity,
+                       trim(s.price)::INTEGER         AS price,
+                       trim(s.category_id)::BIGINT    AS category_id
+                FROM s
+                WHERE s.valid
+            )
+            SELECT DISTINCT ON (COALESCE(p.id, -p.line_no)) p.*, NULL::BIGINT AS new_id
+            FROM parsed p
+            JOIN entity.categories c ON c.id = p.category_id
+            ORDER BY COALESCE(p.id, -p.line_no), p.line_no DESC
+            """);
+
+    /**
+     * Раздает новым строкам идентификаторы целыми блоками последовательности, как
+     * {@link PooledIdGenerator}: {@code nextval} резервирует блок {@code [start, start + N - 1]},
+     * строка с номером {@code n} (с нуля, в порядке строк файла) получает
+     * {@code start[n / N] + n % N}. Идентификаторы не проходят через память приложения.
+     * Параметры: последовательность и трижды размер блока N.
+     */
+    private static final String ASSIGN_IDS_SQL = QueryName.of("productImport.assignIds", """
+            WITH numbered AS (
+                SELECT line_no, row_number() OVER (ORDER BY line_no) - 1 AS n
+                FROM product_import_valid
+                WHERE id IS NULL
+            ),
+            blocks AS (
+                SELECT b - 1 AS block_no, nextval(?::regclass) AS block_start
+                FROM generate_series(1, (SELECT ceil(COUNT(*) / ?::NUMERIC)::BIGINT FROM numbered)) b
+            )
+            UPDATE product_import_valid v
+            SET new_id = bl.block_start + nb.n % ?
+            FROM numbered nb
+            JOIN blocks bl ON bl.block_no = nb.n / ?
+            WHERE v.line_no = nb.line_no
+            """);
+
+    private static final String MERGE_SQL = QueryName.of("productImport.merge", """
+            WITH updated AS (
+                UPDATE entity.products p
+                SET name = v.name, quantity = v.quantity, price = v.price, category_id = v.category_id
+                FROM product_import_valid v
+                WHERE v.id IS NOT NULL AND p.id = v.id
+                RETURNING p.id
+            ),
+            inserted AS (
+                INSERT INTO entity.products (id, name, quantity, price, category_id)
+                SELECT v.new_id, v.name, v.quantity, v.price, v.category_id
+                FROM product_import_valid v
+                WHERE v.id IS NULL
+                ORDER BY v.line_no
+                RETURNING id
+            )
+            SELECT (SELECT COUNT(*) FROM product_import_staging WHERE line <> '') AS total,
+                   (SELECT COUNT(*) FROM inserted)               AS inserted,
+                   (SELECT COUNT(*) FROM updated)                AS updated
+            """);
+
+    /**
+     * Одна форма запроса для всех вариантов (только остаток, только цена, оба),
+     * чтобы все строки попадали в один пакет.
+     */
+    private static final String UPDATE_STOCK_AND_PRICE_SQL = QueryName.of("product.updateStockAndPrice", """
+            UPDATE entity.products
+            SET quantity = COALESCE(?, quantity),
+                price    = COALESCE(?, price)
+            WHERE id = ?
+            """);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryChangeTracker inventoryChangeTracker;
+    private final PooledIdGenerator idGenerator;
+
+    @Override
+    public ProductDTO.ImportResult importCsv(InputStream csv, boolean hasHeader) {
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(COPY_SQL.formatted(hasHeader), csv);
+            } catch (SQLException e) {
+                if (e.getSQLState() != null && e.getSQLState().startsWith(DATA_EXCEPTION_CLASS)) {
+                    throw new BadRequestException("Некорректный файл импорта: " + e.getMessage());
+                }
+                throw e;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Ошибка чтения файла импорта", e);
+            }
+        });
+
+        // Идентификаторы новых товаров берутся блоками, как при вставке по одному:
+        // DEFAULT nextval при шаге последовательности 50 расходовал бы блок на строку
+        jdbcTemplate.execute(CREATE_VALID_SQL);
+        long blockSize = idGenerator.blockSize(ID_SEQUENCE);
+        jdbcTemplate.update(ASSIGN_IDS_SQL, ID_SEQUENCE, blockSize, blockSize, blockSize);
+
+        Map<String, Object> counts = jdbcTemplate.queryForMap(MERGE_SQL);
+        long total = ((Number) counts.get("total")).longValue();
+        long inserted = ((Number) counts.get("inserted")).longValue();
+        long updated = ((Number) counts.get("updated")).longValue();
+
+        inventoryChangeTracker.record(inserted + updated);
+
+        return ProductDTO.ImportResult.builder()
+                .inserted(inserted)
+                .updated(updated)
+                .rejected(total - inserted - updated)
+                .build();
+    }
+
+    @Override
+    public int[] updateStockAndPrice(List<ProductDTO.StockPriceUpdate> updates, int chunkSize) {
+        int[][] chunks = jdbcTemplate.batchUpdate(UPDATE_STOCK_AND_PRICE_SQL, updates, chunkSize, (ps, update) -> {
+            ps.setObject(1, update.getQuantity(), Types.INTEGER);
+            ps.setObject(2, update.getPrice(), Types.INTEGER);
+            ps.setLong(3, update.getId());
+        });
+
+        int[] counts = new int[updates.size()];
+        int index = 0;
+        long changed = 0;
+        for (int[] chunk : chunks) {
+            for (int count : chunk) {
+                counts[index++] = count;
+                changed += Math.max(count, 0);
+            }
+        }
+        inventoryChangeTracker.record(changed);
+        return counts;
+    }
+}
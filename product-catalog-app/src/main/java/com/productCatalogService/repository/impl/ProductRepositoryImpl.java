@@ -2,15 +2,15 @@ package com.productCatalogService.repository.impl;
 
 import com.productCatalogService.entity.Product;
 import com.productCatalogService.repository.ProductRepository;
+import com.productCatalogService.util.InventoryChangeTracker;
+import com.productCatalogService.util.PooledIdGenerator;
+import com.productCatalogService.util.QueryName;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -24,47 +24,63 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
     private final JdbcTemplate jdbcTemplate;
+    private final InventoryChangeTracker inventoryChangeTracker;
+    private final PooledIdGenerator idGenerator;
+
+    private static final String ID_SEQUENCE = "seq_schema.products_id_seq";
 
     private static final String SELECT_ALL = """
             SELECT * FROM entity.products
             """;
-    private static final String SELECT_BY_ID = SELECT_ALL + " WHERE id = ?";
 
-    private static final String SELECT_BY_CATEGORY_ID = SELECT_ALL + " WHERE category_id = ?";
+    private static final String FIND_ALL = QueryName.of("product.findAll", SELECT_ALL);
+
+    private static final String SELECT_BY_ID = QueryName.of("product.findById", SELECT_ALL + " WHERE id = ?");
+
+    private static final String SELECT_BY_CATEGORY_ID = QueryName.of("product.findByCategoryId",
+            SELECT_ALL + " WHERE category_id = ?");
+
+    private static final String MOVE_TO_CATEGORY = QueryName.of("product.moveToCategory", """
+            UPDATE entity.products
+            SET category_id = ?
+            WHERE category_id = ANY(?)
+            """);
 
-    private static final String INSERT = """
-        INSERT INTO entity.products (name, quantity, price, category_id)
-        VALUES (?, ?, ?, ?)
-        """;
+    private static final String INSERT = QueryName.of("product.insert", """
+        INSERT INTO entity.products (id, name, quantity, price, category_id)
+        VALUES (?, ?, ?, ?, ?)
+        """);
 
-    private static final String UPDATE = """
+    private static final String UPDATE = QueryName.of("product.update", """
         UPDATE entity.products
         SET name = ?, quantity = ?, price = ?, category_id = ?
         WHERE id = ?
-        """;
+        """);
 
-    private static final String DECREASE_QUANTITY_SQL = """
+    private static final String DECREASE_QUANTITY_SQL = QueryName.of("product.decreaseQuantity", """
         UPDATE entity.products
         SET quantity = quantity - ?
         WHERE id = ? AND quantity >= ?
-        """;
+        """);
 
-    private static final String INCREASE_QUANTITY_SQL = """
+    private static final String INCREASE_QUANTITY_SQL = QueryName.of("product.increaseQuantity", """
         UPDATE entity.products
         SET quantity = quantity + ?
         WHERE id = ?
-        """;
-    private static final String DELETE = "DELETE FROM entity.products WHERE id = ?";
+        """);
+    private static final String DELETE = QueryName.of("product.deleteById", "DELETE FROM entity.products WHERE id = ?");
 
-    private static final String EXISTS_BY_ID = "SELECT COUNT(*) FROM entity.products WHERE id = ?";
+    private static final String EXISTS_BY_ID = QueryName.of("product.existsById",
+            "SELECT COUNT(*) FROM entity.products WHERE id = ?");
 
-    private static final String SELECT_PAGINATED = SELECT_ALL + " ORDER BY id LIMIT ? OFFSET ?";
-    private static final String COUNT_ALL = "SELECT COUNT(*) FROM entity.products";
+    private static final String SELECT_PAGINATED = QueryName.of("product.findAllPaginated",
+            SELECT_ALL + " ORDER BY id LIMIT ? OFFSET ?");
+    private static final String COUNT_ALL = QueryName.of("product.count", "SELECT COUNT(*) FROM entity.products");
 
-    private static final String SELECT_ALL_BY_IDS = """
+    private static final String SELECT_ALL_BY_IDS = QueryName.of("product.findAllById", """
             SELECT * FROM entity.products
             WHERE id IN (%s)
-            """;
+            """);
 
     private final RowMapper<Product> productRowMapper = (resultSet, rowNum) -> {
         Product product = new Product();
@@ -82,7 +98,7 @@ public class ProductRepositoryImpl implements ProductRepository {
      */
     @Override
     public List<Product> findAll() {
-        return jdbcTemplate.query(SELECT_ALL, productRowMapper);
+        return jdbcTemplate.query(FIND_ALL, productRowMapper);
     }
 
     /**
@@ -109,22 +125,18 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     /**
      * {@inheritDoc}
-     * Генерирует уникальный идентификатор для нового товара.
+     * Идентификатор нового товара выделяется заранее из блока последовательности.
      */
     @Override
     public Product save(Product product) {
         if (product.getId() == null) {
-            KeyHolder keyHolder = new GeneratedKeyHolder();
-            jdbcTemplate.update(connection -> {
-                PreparedStatement preparedStatement = connection.prepareStatement(INSERT, new String[]{"id"});
-                preparedStatement.setString(1, product.getName());
-                preparedStatement.setInt(2, product.getQuantity());
-                preparedStatement.setInt(3, product.getPrice());
-                preparedStatement.setLong(4, product.getCategoryId());
-                return preparedStatement;
-            }, keyHolder);
-
-            product.setId(keyHolder.getKey().longValue());
+            product.setId(idGenerator.nextId(ID_SEQUENCE));
+            jdbcTemplate.update(INSERT,
+                    product.getId(),
+                    product.getName(),
+                    product.getQuantity(),
+                    product.getPrice(),
+                    product.getCategoryId());
         } else {
             jdbcTemplate.update(UPDATE,
                     product.getName(),
@@ -133,15 +145,28 @@ public class ProductRepositoryImpl implements ProductRepository {
                     product.getCategoryId(),
                     product.getId());
         }
+        inventoryChangeTracker.record();
         return product;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int moveToCategory(List<Long> sourceCategoryIds, Long targetCategoryId) {
+        int moved = jdbcTemplate.update(MOVE_TO_CATEGORY, targetCategoryId, sourceCategoryIds.toArray(Long[]::new));
+        inventoryChangeTracker.record(moved);
+        return moved;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean deleteById(Long id) {
-        return jdbcTemplate.update(DELETE, id) > 0;
+        boolean deleted = jdbcTemplate.update(DELETE, id) > 0;
+        inventoryChangeTracker.record();
+        return deleted;
     }
 
     @Override
@@ -152,12 +177,14 @@ public class ProductRepositoryImpl implements ProductRepository {
     @Override
     public boolean decreaseQuantity(Long productId, int quantity) {
         int rowsAffected = jdbcTemplate.update(DECREASE_QUANTITY_SQL, quantity, productId, quantity);
+        inventoryChangeTracker.record();
         return rowsAffected > 0;
     }
 
     @Override
     public boolean increaseQuantity(Long productId, int quantity) {
         int rowsAffected = jdbcTemplate.update(INCREASE_QUANTITY_SQL, quantity, productId);
+        inventoryChangeTracker.record();
         return rowsAffected > 0;
     }
 
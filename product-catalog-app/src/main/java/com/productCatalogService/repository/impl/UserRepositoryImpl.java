@@ -4,15 +4,14 @@ import com.productCatalogService.entity.Product;
 import com.productCatalogService.entity.Role;
 import com.productCatalogService.entity.User;
 import com.productCatalogService.repository.UserRepository;
+import com.productCatalogService.util.InventoryChangeTracker;
+import com.productCatalogService.util.PooledIdGenerator;
+import com.productCatalogService.util.QueryName;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.support.GeneratedKeyHolder;
-import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
-import java.sql.Statement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,44 +27,56 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     private final JdbcTemplate jdbcTemplate;
+    private final UsernameBloomFilter usernameFilter;
+    private final InventoryChangeTracker inventoryChangeTracker;
+    private final PooledIdGenerator idGenerator;
 
-    private static final String SAVE_SQL = """
-            INSERT INTO entity.users (user_name, password, role)
-            VALUES (?, ?, ?)
-            """;
+    private static final String ID_SEQUENCE = "seq_schema.users_id_seq";
 
-    private static final String UPDATE_SQL = """
+    private static final String SAVE_SQL = QueryName.of("user.insert", """
+            INSERT INTO entity.users (id, user_name, password, role)
+            VALUES (?, ?, ?, ?)
+            """);
+
+    private static final String UPDATE_SQL = QueryName.of("user.update", """
             UPDATE entity.users
             SET user_name = ?, password = ?, role = ?
             WHERE id = ?
-            """;
-
-    private static final String FIND_BY_ID_SQL = "SELECT * FROM entity.users WHERE id = ?";
-    private static final String FIND_BY_USERNAME_SQL = "SELECT * FROM entity.users WHERE user_name = ?";
-    private static final String EXISTS_BY_USERNAME_SQL = "SELECT COUNT(*) FROM entity.users WHERE user_name = ?";
-    private static final String FIND_ALL_SQL = "SELECT * FROM entity.users ORDER BY id";
-    private static final String DELETE_BY_ID_SQL = "DELETE FROM entity.users WHERE id = ?";
-
-    private static final String GET_BASKET_SQL = """
+            """);
+
+    private static final String FIND_BY_ID_SQL = QueryName.of("user.findById",
+            "SELECT * FROM entity.users WHERE id = ?");
+    private static final String FIND_BY_USERNAME_SQL = QueryName.of("user.findByUsername",
+            "SELECT * FROM entity.users WHERE user_name = ?");
+    private static final String EXISTS_BY_USERNAME_SQL = QueryName.of("user.existsByUsername",
+            "SELECT COUNT(*) FROM entity.users WHERE user_name = ?");
+    private static final String FIND_ALL_SQL = QueryName.of("user.findAll", "SELECT * FROM entity.users ORDER BY id");
+    private static final String COUNT_SQL = QueryName.of("user.count", "SELECT COUNT(*) FROM entity.users");
+    private static final String DELETE_BY_ID_SQL = QueryName.of("user.deleteById",
+            "DELETE FROM entity.users WHERE id = ? RETURNING user_name");
+
+    private static final String GET_BASKET_SQL = QueryName.of("basket.findByUserId", """
             SELECT p.*, ub.quantity as basket_quantity FROM entity.user_basket ub
             JOIN entity.products p ON ub.product_id = p.id 
             WHERE ub.user_id = ?
-            """;
+            """);
 
-    private static final String ADD_TO_BASKET_SQL = """
+    private static final String ADD_TO_BASKET_SQL = QueryName.of("basket.upsertItem", """
             INSERT INTO entity.user_basket (user_id, product_id, quantity)
             VALUES (?, ?, ?) 
             ON CONFLICT (user_id, product_id) 
             DO UPDATE SET quantity = EXCLUDED.quantity, added_at = CURRENT_TIMESTAMP
-            """;
+            """);
 
-    private static final String REMOVE_FROM_BASKET_SQL = "DELETE FROM entity.user_basket WHERE user_id = ? AND product_id = ?";
-    private static final String CLEAR_BASKET_SQL = "DELETE FROM entity.user_basket WHERE user_id = ?";
+    private static final String REMOVE_FROM_BASKET_SQL = QueryName.of("basket.removeItem",
+            "DELETE FROM entity.user_basket WHERE user_id = ? AND product_id = ?");
+    private static final String CLEAR_BASKET_SQL = QueryName.of("basket.clear",
+            "DELETE FROM entity.user_basket WHERE user_id = ?");
 
-    private static final String GET_BASKET_QUANTITIES_SQL = """
+    private static final String GET_BASKET_QUANTITIES_SQL = QueryName.of("basket.findQuantities", """
             SELECT product_id, quantity FROM entity.user_basket 
             WHERE user_id = ?
-            """;
+            """);
 
     private final RowMapper<User> userRowMapper = (resultSet, rowNum) -> {
         User user = new User();
@@ -79,16 +90,12 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public User save(User user) {
         if (user.getId() == null) {
-            KeyHolder keyHolder = new GeneratedKeyHolder();
-            jdbcTemplate.update(connection -> {
-                PreparedStatement ps = connection.prepareStatement(SAVE_SQL, Statement.RETURN_GENERATED_KEYS);
-                ps.setString(1, user.getUserName());
-                ps.setString(2, user.getPassword());
-                ps.setString(3, user.getRole().name());
-                return ps;
-            }, keyHolder);
-
-            user.setId(keyHolder.getKey().longValue());
+            user.setId(idGenerator.nextId(ID_SEQUENCE));
+            jdbcTemplate.update(SAVE_SQL,
+                    user.getId(),
+                    user.getUserName(),
+                    user.getPassword(),
+                    user.getRole().name());
         } else {
             jdbcTemplate.update(UPDATE_SQL,
                     user.getUserName(),
@@ -96,6 +103,8 @@ public class UserRepositoryImpl implements UserRepository {
                     user.getRole().name(),
                     user.getId());
         }
+        // Прежнее имя при переименовании остается в фильтре: это лишь ложное срабатывание
+        usernameFilter.add(user.getUserName());
         return user;
     }
 
@@ -125,8 +134,13 @@ public class UserRepositoryImpl implements UserRepository {
 
     @Override
     public boolean existsByUsername(String username) {
+        if (!usernameFilter.mightContain(username)) {
+            return false;
+        }
         Integer count = jdbcTemplate.queryForObject(EXISTS_BY_USERNAME_SQL, Integer.class, username);
-        return count != null && count > 0;
+        boolean exists = count != null && count > 0;
+        usernameFilter.recordDatabaseResult(exists);
+        return exists;
     }
 
     @Override
@@ -134,10 +148,17 @@ public class UserRepositoryImpl implements UserRepository {
         return jdbcTemplate.query(FIND_ALL_SQL, userRowMapper);
     }
 
+    @Override
+    public Long count() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
     @Override
     public void deleteById(Long id) {
         clearBasket(id);
-        jdbcTemplate.update(DELETE_BY_ID_SQL, id);
+        List<String> deleted = jdbcTemplate.queryForList(DELETE_BY_ID_SQL, String.class, id);
+        deleted.forEach(usernameFilter::removeAfterCommit);
     }
 
     @Override
@@ -163,16 +184,19 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public void addToBasket(Long userId, Long productId, int quantity) {
         jdbcTemplate.update(ADD_TO_BASKET_SQL, userId, productId, quantity);
+        inventoryChangeTracker.record();
     }
 
     @Override
     public void removeFromBasket(Long userId, Long productId) {
         jdbcTemplate.update(REMOVE_FROM_BASKET_SQL, userId, productId);
+        inventoryChangeTracker.record();
     }
 
     @Override
     public void clearBasket(Long userId) {
         jdbcTemplate.update(CLEAR_BASKET_SQL, userId);
+        inventoryChangeTracker.record();
     }
 
     /**
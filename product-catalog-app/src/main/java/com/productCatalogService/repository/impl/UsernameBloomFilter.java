@@ -0,0 +1,304 @@
+package com.productCatalogService.repository.impl;
+
+import com.productCatalogService.config.UsernameFilterProperties;
+import com.productCatalogService.config.WorkloadContext;
+import com.productCatalogService.config.WorkloadType;
+import com.productCatalogService.util.CountingBloomFilter;
+import com.productCatalogService.util.QueryName;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Фильтр Блума имен пользователей для быстрой проверки существования.
+ *
+ * <p>Строится при старте приложения одним потоковым проходом по таблице
+ * пользователей и поддерживается {@link UserRepositoryImpl} при сохранении
+ * и удалении. Заведомо отсутствующее имя отсекается без запроса к базе данных,
+ * в базу уходят только возможные совпадения.</p>
+ *
+ * <p>Фильтр локален для экземпляра приложения: пользователи, созданные другим
+ * экземпляром, попадают в него при периодической перестройке. Удаление уменьшает
+ * счетчики только для имен, добавленных этим экземпляром после построения фильтра;
+ * остальные удаленные имена остаются в фильтре до перестройки. Поэтому фильтр
+ * используется только там, где устаревший отрицательный ответ безопасен
+ * (уникальность имени дополнительно гарантирует ограничение в базе данных).</p>
+ *
+ * <p>Метрики: {@code users.bloom.checks} с тегом {@code result},
+ * {@code users.bloom.false.positives}, {@code users.bloom.false.positive.rate}
+ * (наблюдаемая доля ложных срабатываний среди отсутствующих имен),
+ * {@code users.bloom.expected.fpp} и {@code users.bloom.size}.</p>
+ */
+@Slf4j
+@Component
+public class UsernameBloomFilter {
+
+    private static final String COUNT_SQL = QueryName.of("usernameFilter.count",
+            "SELECT COUNT(*) FROM entity.users");
+    private static final String SCAN_SQL = QueryName.of("usernameFilter.scan",
+            "SELECT user_name FROM entity.users");
+
+    /**
+     * Граница повторного прохода: самая старая транзакция, не завершенная к снимку
+     * основного прохода. Строки таких транзакций могли не попасть в снимок.
+     */
+    private static final String SNAPSHOT_XMIN_SQL = QueryName.of("usernameFilter.snapshotXmin",
+            "SELECT txid_snapshot_xmin(txid_current_snapshot()) % 4294967296");
+
+    /**
+     * Имена, записанные транзакциями начиная с границы. Идентификаторы для этого не подходят:
+     * они выдаются блоками последовательности, и поздно зафиксированная строка может
+     * получить id меньше уже прочитанных.
+     */
+    private static final String SCAN_SINCE_SQL = QueryName.of("usernameFilter.scanSince",
+            "SELECT user_name FROM entity.users WHERE age(xmin) <= age(?::TEXT::XID)");
+
+    /**
+     * Запас емкости относительно текущего количества пользователей при перестройке.
+     */
+    private static final double CAPACITY_HEADROOM = 1.5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate scanTransaction;
+    private final UsernameFilterProperties properties;
+
+    private volatile Generation filter;
+    private volatile Generation building;
+
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+
+    public UsernameBloomFilter(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               UsernameFilterProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        // Не только для чтения: просмотр идет на основном сервере, а не на отстающей реплике,
+        // и граница по xmin относится к тому же серверу, что и повторный проход
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+
+        this.negatives = Counter.builder("users.bloom.checks")
+                .description("Проверки имени пользователя через фильтр Блума")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positives = Counter.builder("users.bloom.checks")
+                .description("Проверки имени пользователя через фильтр Блума")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("users.bloom.false.positives")
+                .description("Возможные совпадения, не подтвержденные базой данных")
+                .register(meterRegistry);
+
+        Gauge.builder("users.bloom.false.positive.rate", this, UsernameBloomFilter::observedFalsePositiveRate)
+                .description("Наблюдаемая доля ложноположительных ответов фильтра")
+                .register(meterRegistry);
+        Gauge.builder("users.bloom.expected.fpp", this,
+                        f -> f.filter != null ? f.filter.bloom().expectedFalsePositiveProbability() : 0.0)
+                .description("Теоретическая вероятность ложноположительного ответа")
+                .register(meterRegistry);
+        Gauge.builder("users.bloom.size", this, f -> f.filter != null ? f.filter.bloom().size() : 0)
+                .description("Количество имен в фильтре")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Проверяет, может ли пользователь с указанным именем существовать.
+     * Пока фильтр не построен или отключен, всегда возвращает true.
+     *
+     * @param username имя пользователя
+     * @return false если пользователя заведомо нет
+     */
+    public boolean mightContain(String username) {
+        Generation current = filter;
+        if (current == null || username == null) {
+            return true;
+        }
+        if (current.bloom().mightContain(username)) {
+            positives.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    /**
+     * Учитывает результат проверки в базе данных после положительного ответа фильтра.
+     *
+     * @param exists найден ли пользователь в базе данных
+     */
+    public void recordDatabaseResult(boolean exists) {
+        if (!exists && filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Добавляет имя пользователя в фильтр (в том числе в перестраиваемый).
+     *
+     * @param username имя пользователя
+     */
+    public void add(String username) {
+        if (username == null) {
+            return;
+        }
+        Generation current = filter;
+        if (current != null) {
+            current.add(username);
+        }
+        Generation next = building;
+        if (next != null) {
+            next.add(username);
+        }
+    }
+
+    /**
+     * Удаляет имя пользователя из фильтра после фиксации текущей транзакции,
+     * чтобы откат удаления не оставил в фильтре ложноотрицательный ответ.
+     *
+     * <p>Счетчики уменьшаются, только если имя было добавлено в текущий фильтр через
+     * {@link #add} этого экземпляра. Имя, прочитанное при построении или созданное другим
+     * экземпляром, могло не попасть в фильтр, а уменьшение чужих счетчиков дало бы
+     * ложноотрицательный ответ для других имен. По той же причине удаление не применяется
+     * к перестраиваемому фильтру. Оставшееся имя лишь повышает вероятность ложного
+     * срабатывания до следующей перестройки.</p>
+     *
+     * @param username имя пользователя
+     */
+    public void removeAfterCommit(String username) {
+        if (username == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(username);
+                }
+            });
+        } else {
+            remove(username);
+        }
+    }
+
+    /**
+     * Строит фильтр при старте приложения.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Периодически перестраивает фильтр с учетом текущего количества пользователей.
+     */
+    @Scheduled(initialDelayString = "${app.users.bloom-filter.rebuild-interval:PT1H}",
+            fixedDelayString = "${app.users.bloom-filter.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Полностью перестраивает фильтр потоковым чтением имен пользователей.
+     * Во время перестройки запросы обслуживает предыдущий фильтр.
+     *
+     * <p>Новый фильтр публикуется в {@code building} до снимка основного прохода, поэтому
+     * {@link #add} после этой точки попадает в него. Имя, добавленное раньше транзакцией,
+     * зафиксированной уже после снимка, подбирается повторным проходом по строкам с
+     * {@code xmin} не старше границы снимка после замены фильтра.</p>
+     */
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            filter = null;
+            return;
+        }
+
+        long started = System.nanoTime();
+        // Полный просмотр таблицы идет через пул административных операций
+        WorkloadType previousWorkload = WorkloadContext.enter(WorkloadType.ADMIN);
+        try {
+            Long userCount = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+            long capacity = Math.max(properties.getExpectedInsertions(),
+                    (long) ((userCount != null ? userCount : 0L) * CAPACITY_HEADROOM));
+            Generation next = new Generation(
+                    CountingBloomFilter.create(capacity, properties.getFalsePositiveProbability()));
+            building = next;
+
+            // Потоковое чтение в PostgreSQL работает только внутри транзакции
+            Long watermark = scanTransaction.execute(status -> {
+                Long xmin = jdbcTemplate.queryForObject(SNAPSHOT_XMIN_SQL, Long.class);
+                scan(next, SCAN_SQL);
+                return xmin;
+            });
+
+            filter = next;
+            if (watermark != null) {
+                scanTransaction.executeWithoutResult(status -> scan(next, SCAN_SINCE_SQL, watermark));
+            }
+            log.info("Фильтр Блума имен пользователей построен: {} имен, {} КБ, {} мс",
+                    next.bloom().size(), next.bloom().memoryBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Предыдущий фильтр остается корректным; без него проверки идут в базу данных
+            log.error("Ошибка построения фильтра Блума имен пользователей", e);
+        } finally {
+            building = null;
+            WorkloadContext.restore(previousWorkload);
+        }
+    }
+
+    private void scan(Generation target, String sql, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(properties.getScanFetchSize());
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> target.bloom().add(rs.getString(1)));
+    }
+
+    private void remove(String username) {
+        Generation current = filter;
+        if (current != null && current.added().remove(username)) {
+            current.bloom().remove(username);
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double fp = falsePositives.count();
+        double absent = fp + negatives.count();
+        return absent > 0 ? fp / absent : 0.0;
+    }
+
+    /**
+     * Фильтр и имена, добавленные в него через {@link #add} после начала построения.
+     * Набор растет только на регистрациях и сбрасывается вместе с фильтром при перестройке.
+     */
+    private record Generation(CountingBloomFilter bloom, Set<String> added) {
+
+        Generation(CountingBloomFilter bloom) {
+            this(bloom, ConcurrentHashMap.newKeySet());
+        }
+
+        void add(String username) {
+            bloom.add(username);
+            added.add(username);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.productCatalogService.service;
+
+import com.productCatalogService.exception.AccessDeniedException;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Сервис сырой выгрузки таблиц каталога для хранилища данных и реплик.
+ */
+public interface CatalogDumpService {
+
+    /**
+     * Проверяет права и параметры выгрузки до записи ответа.
+     *
+     * @param token  токен администратора
+     * @param tables имена таблиц (null или пусто — все доступные таблицы)
+     * @param format формат выгрузки ({@code csv} или {@code binary})
+     * @throws AccessDeniedException если пользователь не администратор
+     * @throws com.productCatalogService.exception.BadRequestException если параметры некорректны
+     */
+    void validateDump(String token, List<String> tables, String format) throws AccessDeniedException;
+
+    /**
+     * Выгружает таблицы в ZIP-архив (один файл на таблицу) из одного согласованного
+     * снимка базы данных.
+     *
+     * @param token    токен администратора
+     * @param tables   имена таблиц (null или пусто — все доступные таблицы)
+     * @param format   формат выгрузки ({@code csv} или {@code binary})
+     * @param compress сжимать ли файлы архива
+     * @param out      поток ответа
+     * @throws AccessDeniedException если пользователь не администратор
+     */
+    void dump(String token, List<String> tables, String format, boolean compress, OutputStream out)
+            throws AccessDeniedException;
+}
@@ -83,6 +83,14 @@ public interface CategoryService {
 
     List<Category> findAll();
 
+    /**
+     * Возвращает общее количество категорий без загрузки их в память.
+     *
+     * @return количество категорий
+     * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
+     */
+    Long count();
+
 
     /**
      * Находит категорию по её уникальному идентификатору.
@@ -278,4 +286,49 @@ public interface CategoryService {
 
     Boolean deleteCategory(String token, Long id);
 
+
+    /**
+     * Переносит все товары категории в другую категорию (административная операция).
+     * Выполняется одним запросом {@code UPDATE} в одной транзакции.
+     *
+     * @param token    токен авторизации администратора
+     * @param sourceId категория, из которой переносятся товары
+     * @param targetId категория, в которую переносятся товары
+     * @return результат переноса
+     * @throws com.productCatalogService.exception.ResourceNotFoundException если категория не найдена
+     * @throws com.productCatalogService.exception.BadRequestException       если категории совпадают
+     */
+
+    CategoryDTO.ReassignResult moveProducts(String token, Long sourceId, Long targetId);
+
+
+    /**
+     * Сливает категории в целевую (административная операция): товары
+     * категорий-источников переносятся в целевую, источники удаляются.
+     *
+     * @param token    токен авторизации администратора
+     * @param targetId целевая категория
+     * @param merge    DTO со списком категорий-источников
+     * @return результат слияния
+     * @throws com.productCatalogService.exception.ResourceNotFoundException если категория не найдена
+     * @throws com.productCatalogService.exception.BadRequestException       если целевая категория среди источников
+     */
+
+    CategoryDTO.ReassignResult mergeCategories(String token, Long targetId, CategoryDTO.MergeCategories merge);
+
+
+    /**
+     * Удаляет категорию, предварительно перенеся её товары в другую категорию
+     * (административная операция).
+     *
+     * @param token      токен авторизации администратора
+     * @param id         удаляемая категория
+     * @param reassignTo категория, в которую переносятся товары
+     * @return результат переноса и удаления
+     * @throws com.productCatalogService.exception.ResourceNotFoundException если категория не найдена
+     * @throws com.productCatalogService.exception.BadRequestException       если категории совпадают
+     */
+
+    CategoryDTO.ReassignResult deleteCategoryAndReassign(String token, Long id, Long reassignTo);
+
 }
\ No newline at end of file
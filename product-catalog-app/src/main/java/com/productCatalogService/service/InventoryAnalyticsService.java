@@ -0,0 +1,24 @@
+package com.productCatalogService.service;
+
+import com.productCatalogService.dto.InventoryAnalyticsDTO;
+import com.productCatalogService.exception.AccessDeniedException;
+
+/**
+ * Сервис аналитики склада (только для администраторов).
+ * Данные читаются из материализованных представлений и могут отставать
+ * от таблиц на время между обновлениями.
+ */
+public interface InventoryAnalyticsService {
+
+    /**
+     * Возвращает аналитику склада.
+     *
+     * @param token             токен администратора
+     * @param lowStockThreshold порог остатка для списка товаров с низким остатком (null — по умолчанию)
+     * @param limit             размер списков товаров (null — по умолчанию)
+     * @return аналитика склада
+     * @throws AccessDeniedException если пользователь не администратор
+     */
+    InventoryAnalyticsDTO getInventoryAnalytics(String token, Integer lowStockThreshold, Integer limit)
+            throws AccessDeniedException;
+}
@@ -8,6 +8,7 @@ import com.productCatalogService.dto.ProductPageDTO;
 import com.productCatalogService.entity.Product;
 
 
+import java.io.InputStream;
 import java.util.List;
 
 import java.util.Optional;
@@ -352,4 +353,29 @@ public interface ProductService {
 
     void deleteProduct(String token, Long id);
 
+
+    /**
+     * Массово импортирует товары из CSV или NDJSON (административная операция).
+     * Файл читается потоком, поэтому расход памяти не зависит от его размера.
+     *
+     * @param token  токен авторизации администратора
+     * @param body   поток с содержимым файла в UTF-8
+     * @param format формат файла
+     * @return количество добавленных, обновленных и отклоненных строк
+     */
+
+    ProductDTO.ImportResult importProducts(String token, InputStream body, ProductDTO.ImportFormat format);
+
+
+    /**
+     * Массово обновляет остатки и/или цены товаров (административная операция).
+     * Некорректные строки отклоняются по отдельности, не прерывая обработку остальных.
+     *
+     * @param token   токен авторизации администратора
+     * @param updates список частичных обновлений
+     * @return итоги и результат по каждой строке в порядке запроса
+     */
+
+    ProductDTO.BulkUpdateResult bulkUpdateStockAndPrice(String token, List<ProductDTO.StockPriceUpdate> updates);
+
 }
\ No newline at end of file
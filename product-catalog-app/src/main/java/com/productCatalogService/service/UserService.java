@@ -117,6 +117,14 @@ public interface UserService {
      */
     List<User> showAllUser();
 
+    /**
+     * Возвращает общее количество пользователей без загрузки их в память.
+     *
+     * @return количество пользователей
+     * @throws org.springframework.dao.DataAccessException при ошибках доступа к данным
+     */
+    Long countUsers();
+
     /**
      * Очищает всю корзину пользователя.
      * <p>
@@ -12,15 +12,23 @@ import com.productCatalogService.util.AuthUtil;
 import com.productCatalogService.util.PasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Регистрация и вход пользователей.
+ *
+ * <p>Сервис не объявляет транзакцию: хеширование пароля (PBKDF2, сотни миллисекунд CPU)
+ * выполняется без занятого соединения. Поиск пользователя идет в короткой транзакции
+ * только для чтения {@link UserService}, сохранение нового пользователя и перехеширование
+ * пароля устаревшей версии — каждое в своей короткой транзакции записи.</p>
+ */
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
@@ -43,7 +51,13 @@ public class AuthServiceImpl implements AuthService {
         }
 
         user.setPassword(passwordEncoder.encode(request.getPassword()));
-        User savedUser = userService.saveUser(user);
+        User savedUser;
+        try {
+            savedUser = userService.saveUser(user);
+        } catch (DuplicateKeyException e) {
+            // Имя занято параллельной регистрацией или другим экземпляром приложения
+            throw new ConflictException("Пользователь с таким именем уже существует");
+        }
 
         String token = authUtil.generateToken(savedUser.getUserName());
         authUtil.addSession(token, savedUser);
@@ -62,7 +76,7 @@ public class AuthServiceImpl implements AuthService {
         log.info("Попытка входа пользователя: {}", request.getUserName());
 
         Optional<User> userOptional = userService.findByUsername(request.getUserName());
-        if (userService.isContainsUser(request.getUserName())) {
+        if (userOptional.isEmpty()) {
             throw new AuthenticationException("Неверное имя пользователя или пароль");
         }
 
@@ -72,6 +86,20 @@ public class AuthServiceImpl implements AuthService {
             throw new AuthenticationException("Неверное имя пользователя или пароль");
         }
 
+        // Прозрачное обновление хеша, закодированного устаревшей версией алгоритма:
+        // хеш считается без соединения, запись — отдельной короткой транзакцией
+        if (passwordEncoder.needsUpgrade(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            try {
+                userService.saveUser(user);
+                log.info("Хеш пароля пользователя {} обновлен до версии {}",
+                        user.getUserName(), PasswordEncoder.CURRENT_VERSION);
+            } catch (DataAccessException e) {
+                // Вход не зависит от перехеширования, попытка повторится при следующем входе
+                log.warn("Не удалось обновить хеш пароля пользователя {}: {}", user.getUserName(), e.getMessage());
+            }
+        }
+
         String token = authUtil.generateToken(user.getUserName());
         authUtil.addSession(token, user);
 
@@ -99,7 +127,7 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public Map<String, Boolean> checkUserExists(String username) {
-        boolean exists = userService.findByUsername(username).isEmpty();
+        boolean exists = userService.isContainsUser(username);
         log.debug("Проверка существования пользователя {}: {}", username, exists);
         return Map.of("exists", exists);
     }
@@ -0,0 +1,111 @@
+package com.productCatalogService.service.impl;
+
+import com.productCatalogService.config.UseWorkload;
+import com.productCatalogService.config.WorkloadType;
+import com.productCatalogService.dto.CatalogDumpDTO;
+import com.productCatalogService.entity.Role;
+import com.productCatalogService.entity.User;
+import com.productCatalogService.exception.AccessDeniedException;
+import com.productCatalogService.exception.BadRequestException;
+import com.productCatalogService.repository.CatalogDumpRepository;
+import com.productCatalogService.service.CatalogDumpService;
+import com.productCatalogService.util.AuthUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Сервис выгрузки таблиц каталога.
+ *
+ * <p>Все таблицы читаются в одной транзакции REPEATABLE READ, поэтому архив
+ * соответствует одному снимку базы данных. Таблицы пишутся в порядке
+ * зависимостей (категории, товары, корзины), чтобы архив можно было загрузить
+ * обратно в том же порядке.</p>
+ */
+@Slf4j
+@Service
+@UseWorkload(WorkloadType.ADMIN)
+@RequiredArgsConstructor
+public class CatalogDumpServiceImpl implements CatalogDumpService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CatalogDumpRepository catalogDumpRepository;
+    private final AuthUtil authUtil;
+
+    @Override
+    public void validateDump(String token, List<String> tables, String format) {
+        checkAdminAccess(token);
+        parseTables(tables);
+        parseFormat(format);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void dump(String token, List<String> tables, String format, boolean compress, OutputStream out) {
+        User admin = checkAdminAccess(token);
+        Set<CatalogDumpDTO.Table> selected = parseTables(tables);
+        CatalogDumpDTO.Format dumpFormat = parseFormat(format);
+
+        long started = System.nanoTime();
+        try {
+            ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+            zip.setLevel(compress ? Deflater.BEST_SPEED : Deflater.NO_COMPRESSION);
+            for (CatalogDumpDTO.Table table : selected) {
+                zip.putNextEntry(new ZipEntry(table.getFileName() + "." + dumpFormat.getExtension()));
+                long rows = catalogDumpRepository.copyOut(table, dumpFormat, zip);
+                zip.closeEntry();
+                log.debug("Таблица {} выгружена: {} строк", table.getQualifiedName(), rows);
+            }
+            zip.finish();
+            zip.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ошибка записи выгрузки каталога", e);
+        }
+
+        log.info("Выгрузка каталога {} ({}) выполнена администратором {} за {} мс",
+                selected, dumpFormat, admin.getUserName(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private Set<CatalogDumpDTO.Table> parseTables(List<String> tables) {
+        if (tables == null || tables.isEmpty()) {
+            return EnumSet.allOf(CatalogDumpDTO.Table.class);
+        }
+        Set<CatalogDumpDTO.Table> selected = EnumSet.noneOf(CatalogDumpDTO.Table.class);
+        try {
+            tables.forEach(name -> selected.add(CatalogDumpDTO.Table.fromName(name)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        return selected;
+    }
+
+    private CatalogDumpDTO.Format parseFormat(String format) {
+        try {
+            return CatalogDumpDTO.Format.fromName(format);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Неизвестный формат выгрузки: " + format);
+        }
+    }
+
+    private User checkAdminAccess(String token) {
+        User user = authUtil.getUserByToken(token);
+        if (user == null || !Role.ADMIN.equals(user.getRole())) {
+            throw new AccessDeniedException("Доступ запрещен. Требуется роль ADMIN");
+        }
+        return user;
+    }
+}
@@ -1,12 +1,17 @@
 package com.productCatalogService.service.impl;
 
+import com.productCatalogService.config.UseWorkload;
+import com.productCatalogService.config.WorkloadType;
 import com.productCatalogService.dto.CategoryDTO;
 import com.productCatalogService.dto.ProductDTO;
 import com.productCatalogService.entity.Category;
 import com.productCatalogService.entity.Product;
 import com.productCatalogService.entity.Role;
 import com.productCatalogService.entity.User;
+import com.productCatalogService.event.CategoriesChangedEvent;
 import com.productCatalogService.exception.AccessDeniedException;
+import com.productCatalogService.exception.BadRequestException;
+import com.productCatalogService.exception.ConflictException;
 import com.productCatalogService.exception.ResourceNotFoundException;
 import com.productCatalogService.mapper.CategoryMapper;
 import com.productCatalogService.mapper.ProductMapper;
@@ -16,9 +21,12 @@ import com.productCatalogService.service.CategoryService;
 import com.productCatalogService.util.AuthUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -34,13 +42,22 @@ public class CategoryServiceImpl implements CategoryService {
     private final AuthUtil authUtil;
     private final CategoryMapper categoryMapper;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Category> findAll() {
         return categoryRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Long count() {
+        return categoryRepository.count();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findById(Long id) {
         return categoryRepository.findById(id);
     }
@@ -56,16 +73,19 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findProductsByCategoryId(Long categoryId) {
         return productRepository.findByCategoryId(categoryId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findByName(String name) {
         return categoryRepository.findByName(name);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CategoryDTO> getAllCategories() {
         List<Category> categories = findAll();
         return categories.stream()
@@ -74,6 +94,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CategoryDTO getCategoryById(Long id) {
         Category category = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Категория", "id", id));
@@ -81,12 +102,14 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDTO> getProductsByCategoryIdDto(Long categoryId) {
         List<Product> products = findProductsByCategoryId(categoryId);
         return productMapper.toDTOList(products);
     }
 
     @Override
+    @UseWorkload(WorkloadType.ADMIN)
     public CategoryDTO createCategory(String token, CategoryDTO.CreateCategory createCategory) {
         checkAdminAccess(token);
 
@@ -98,6 +121,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @UseWorkload(WorkloadType.ADMIN)
     public CategoryDTO updateCategory(String token, Long id, CategoryDTO.UpdateCategory updateCategory) {
         checkAdminAccess(token);
 
@@ -112,6 +136,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @UseWorkload(WorkloadType.ADMIN)
     public Boolean deleteCategory(String token, Long id) {
         checkAdminAccess(token);
 
@@ -119,7 +144,12 @@ public class CategoryServiceImpl implements CategoryService {
             throw new ResourceNotFoundException("Категория", "id", id);
         }
 
-        boolean isDeleted = deleteById(id); // Предполагаем, что deleteById() теперь возвращает boolean
+        boolean isDeleted;
+        try {
+            isDeleted = deleteById(id);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Категория содержит товары. Перенесите их или удалите категорию с переносом товаров", e);
+        }
 
         if (isDeleted) {
             log.info("Категория успешно удалена: ID: {}", id);
@@ -130,6 +160,67 @@ public class CategoryServiceImpl implements CategoryService {
         return isDeleted;
     }
 
+    @Override
+    @UseWorkload(WorkloadType.ADMIN)
+    public CategoryDTO.ReassignResult moveProducts(String token, Long sourceId, Long targetId) {
+        checkAdminAccess(token);
+        return reassign(List.of(sourceId), targetId, false);
+    }
+
+    @Override
+    @UseWorkload(WorkloadType.ADMIN)
+    public CategoryDTO.ReassignResult mergeCategories(String token, Long targetId, CategoryDTO.MergeCategories merge) {
+        checkAdminAccess(token);
+        return reassign(merge.getSourceIds(), targetId, true);
+    }
+
+    @Override
+    @UseWorkload(WorkloadType.ADMIN)
+    public CategoryDTO.ReassignResult deleteCategoryAndReassign(String token, Long id, Long reassignTo) {
+        checkAdminAccess(token);
+        return reassign(List.of(id), reassignTo, true);
+    }
+
+    /**
+     * Переносит товары категорий-источников в целевую категорию одним {@code UPDATE}
+     * и при необходимости удаляет источники одним {@code DELETE}. Все затронутые
+     * категории блокируются заранее, поэтому параллельно добавленный товар
+     * не сорвет удаление. Зависящие от категорий кеши сбрасываются один раз
+     * после фиксации транзакции.
+     */
+    private CategoryDTO.ReassignResult reassign(List<Long> sourceIds, Long targetId, boolean deleteSources) {
+        List<Long> sources = sourceIds.stream().distinct().toList();
+        if (sources.isEmpty() || sources.contains(null)) {
+            throw new BadRequestException("Не указаны категории-источники");
+        }
+        if (sources.contains(targetId)) {
+            throw new BadRequestException("Целевая категория не может быть среди категорий-источников");
+        }
+
+        List<Long> affected = new ArrayList<>(sources);
+        affected.add(targetId);
+        List<Long> locked = categoryRepository.lockByIds(affected);
+        for (Long id : affected) {
+            if (!locked.contains(id)) {
+                throw new ResourceNotFoundException("Категория", "id", id);
+            }
+        }
+
+        int moved = productRepository.moveToCategory(sources, targetId);
+        int deleted = deleteSources ? categoryRepository.deleteAllById(sources) : 0;
+
+        eventPublisher.publishEvent(new CategoriesChangedEvent(affected, moved));
+        log.info("Товары перенесены в категорию {}: источники {}, товаров {}, удалено категорий {}",
+                targetId, sources, moved, deleted);
+
+        return CategoryDTO.ReassignResult.builder()
+                .targetCategoryId(targetId)
+                .sourceCategoryIds(sources)
+                .movedProducts(moved)
+                .deletedCategories(deleted)
+                .build();
+    }
+
     private void checkAdminAccess(String token) {
         User user = authUtil.getUserByToken(token);
         if (user == null || !Role.ADMIN.equals(user.getRole())) {
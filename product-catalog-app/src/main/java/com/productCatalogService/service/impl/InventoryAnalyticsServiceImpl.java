@@ -0,0 +1,144 @@
+package com.productCatalogService.service.impl;
+
+import com.productCatalogService.config.StatisticsProperties;
+import com.productCatalogService.config.UseWorkload;
+import com.productCatalogService.config.WorkloadType;
+import com.productCatalogService.dto.InventoryAnalyticsDTO;
+import com.productCatalogService.entity.Role;
+import com.productCatalogService.entity.User;
+import com.productCatalogService.exception.AccessDeniedException;
+import com.productCatalogService.exception.BadRequestException;
+import com.productCatalogService.repository.InventoryAnalyticsRepository;
+import com.productCatalogService.service.InventoryAnalyticsService;
+import com.productCatalogService.util.AuthUtil;
+import com.productCatalogService.util.InventoryChangeTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Сервис аналитики склада.
+ *
+ * <p>Запросы читают только материализованные представления. Представления
+ * обновляются через {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}, когда
+ * накопилось {@code refresh-after-writes} изменений товаров и корзин или
+ * данные старше {@code max-staleness}. Стоимость обновления — полный пересчет
+ * обоих представлений (чтение {@code products} и {@code user_basket} с агрегацией
+ * и сравнение с текущим содержимым), поэтому время обновления публикуется
+ * метрикой {@code inventory.analytics.refresh}.</p>
+ *
+ * <p>Обновление по числу изменений выполняется не раньше чем через
+ * {@code min-refresh-interval} и не раньше чем через {@code refresh-cooldown-factor}
+ * длительностей предыдущего обновления после его окончания: при постоянной записи
+ * пересчеты не идут подряд. Верхнюю границу возраста данных задает {@code max-staleness}.</p>
+ */
+@Slf4j
+@Service
+@UseWorkload(WorkloadType.ADMIN)
+public class InventoryAnalyticsServiceImpl implements InventoryAnalyticsService {
+
+    private final InventoryAnalyticsRepository inventoryAnalyticsRepository;
+    private final InventoryChangeTracker inventoryChangeTracker;
+    private final AuthUtil authUtil;
+    private final StatisticsProperties.Inventory properties;
+    private final Timer refreshTimer;
+
+    private volatile Instant lastRefresh = Instant.now();
+
+    /**
+     * Момент, раньше которого обновление по числу изменений не выполняется.
+     */
+    private volatile Instant cooldownUntil = Instant.EPOCH;
+
+    public InventoryAnalyticsServiceImpl(InventoryAnalyticsRepository inventoryAnalyticsRepository,
+                                         InventoryChangeTracker inventoryChangeTracker,
+                                         AuthUtil authUtil,
+                                         StatisticsProperties statisticsProperties,
+                                         MeterRegistry meterRegistry) {
+        this.inventoryAnalyticsRepository = inventoryAnalyticsRepository;
+        this.inventoryChangeTracker = inventoryChangeTracker;
+        this.authUtil = authUtil;
+        this.properties = statisticsProperties.getInventory();
+        this.refreshTimer = Timer.builder("inventory.analytics.refresh")
+                .description("Время обновления материализованных представлений аналитики склада")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryAnalyticsDTO getInventoryAnalytics(String token, Integer lowStockThreshold, Integer limit) {
+        checkAdminAccess(token);
+
+        int threshold = lowStockThreshold != null ? lowStockThreshold : properties.getLowStockThreshold();
+        int size = limit != null ? limit : properties.getDefaultLimit();
+        if (threshold < 0) {
+            throw new BadRequestException("Порог остатка не может быть отрицательным");
+        }
+        if (size <= 0 || size > properties.getMaxLimit()) {
+            throw new BadRequestException("Размер списка должен быть от 1 до " + properties.getMaxLimit());
+        }
+
+        List<InventoryAnalyticsDTO.CategorySummary> categories = inventoryAnalyticsRepository.findCategorySummaries();
+
+        return InventoryAnalyticsDTO.builder()
+                .refreshedAt(inventoryAnalyticsRepository.findRefreshedAt().orElse(null))
+                .totalInventoryValue(categories.stream()
+                        .mapToLong(InventoryAnalyticsDTO.CategorySummary::getInventoryValue).sum())
+                .totalReservedUnits(categories.stream()
+                        .mapToLong(InventoryAnalyticsDTO.CategorySummary::getReservedUnits).sum())
+                .categories(categories)
+                .lowStockProducts(inventoryAnalyticsRepository.findLowStock(threshold, size))
+                .mostInBaskets(inventoryAnalyticsRepository.findMostInBaskets(size))
+                .build();
+    }
+
+    /**
+     * Проверяет, пора ли обновить представления, и обновляет их.
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.inventory.check-interval:PT10S}")
+    public void refreshIfNeeded() {
+        long pending = inventoryChangeTracker.pending();
+        Instant now = Instant.now();
+        boolean stale = lastRefresh.plus(properties.getMaxStaleness()).isBefore(now);
+        boolean enoughWrites = pending >= properties.getRefreshAfterWrites() && !now.isBefore(cooldownUntil);
+        if (!enoughWrites && !stale) {
+            return;
+        }
+
+        try {
+            long started = System.nanoTime();
+            boolean refreshed = refreshTimer.record(inventoryAnalyticsRepository::refresh);
+            Duration duration = Duration.ofNanos(System.nanoTime() - started);
+            lastRefresh = Instant.now();
+            cooldownUntil = lastRefresh.plus(cooldown(duration));
+            inventoryChangeTracker.acknowledge(pending);
+            if (refreshed) {
+                log.info("Представления аналитики склада обновлены за {} мс (изменений: {}), следующее не раньше {}",
+                        duration.toMillis(), pending, cooldownUntil);
+            } else {
+                log.debug("Представления аналитики склада обновляет другой экземпляр приложения");
+            }
+        } catch (RuntimeException e) {
+            log.error("Ошибка обновления представлений аналитики склада", e);
+        }
+    }
+
+    private Duration cooldown(Duration refreshDuration) {
+        Duration scaled = Duration.ofMillis((long) (refreshDuration.toMillis() * properties.getRefreshCooldownFactor()));
+        return scaled.compareTo(properties.getMinRefreshInterval()) > 0 ? scaled : properties.getMinRefreshInterval();
+    }
+
+    private void checkAdminAccess(String token) {
+        User user = authUtil.getUserByToken(token);
+        if (user == null || !Role.ADMIN.equals(user.getRole())) {
+            throw new AccessDeniedException("Доступ запрещен. Требуется роль ADMIN");
+        }
+    }
+}
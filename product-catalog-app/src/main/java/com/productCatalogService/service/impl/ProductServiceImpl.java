@@ -1,5 +1,9 @@
 package com.productCatalogService.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productCatalogService.config.ProductBulkUpdateProperties;
+import com.productCatalogService.config.UseWorkload;
+import com.productCatalogService.config.WorkloadType;
 import com.productCatalogService.dto.ProductDTO;
 import com.productCatalogService.dto.ProductPageDTO;
 import com.productCatalogService.entity.Category;
@@ -7,17 +11,24 @@ import com.productCatalogService.entity.Product;
 import com.productCatalogService.entity.Role;
 import com.productCatalogService.entity.User;
 import com.productCatalogService.exception.AccessDeniedException;
+import com.productCatalogService.exception.BadRequestException;
 import com.productCatalogService.exception.ResourceNotFoundException;
 import com.productCatalogService.mapper.ProductMapper;
 import com.productCatalogService.repository.CategoryRepository;
+import com.productCatalogService.repository.ProductBulkRepository;
 import com.productCatalogService.repository.ProductRepository;
 import com.productCatalogService.service.ProductService;
 import com.productCatalogService.util.AuthUtil;
+import com.productCatalogService.util.NdjsonCsvInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -32,13 +43,18 @@ public class ProductServiceImpl implements ProductService {
     private final ProductMapper productMapper;
     private final AuthUtil authUtil;
     private final CategoryRepository categoryRepository;
+    private final ProductBulkRepository productBulkRepository;
+    private final ObjectMapper objectMapper;
+    private final ProductBulkUpdateProperties bulkUpdateProperties;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findAll() {
         return productRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(Long id) {
         return productRepository.findById(id);
     }
@@ -54,11 +70,13 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return productRepository.existsById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findByCategoryId(Long categoryId) {
         return productRepository.findByCategoryId(categoryId);
     }
@@ -74,16 +92,19 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findAllPaginated(int page, int size) {
         return productRepository.findAllPaginated(page, size);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long count() {
         return productRepository.count();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProductPageDTO getPaginatedProducts(int page, int size) {
         if (page < 0) {
             page = 0;
@@ -108,6 +129,7 @@ public class ProductServiceImpl implements ProductService {
         return dto;
     }
     @Override
+    @Transactional(readOnly = true)
     public ProductDTO getProductById(Long id) {
         Product product = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Товар", "id", id));
@@ -115,6 +137,7 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProductDTO> getProductsByCategoryId(Long categoryId) {
         if (!categoryRepository.existsById(categoryId)) {
             throw new RuntimeException("Category not found with id: " + categoryId);
@@ -126,6 +149,7 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @UseWorkload(WorkloadType.ADMIN)
     public ProductDTO createProduct(String token, ProductDTO.CreateProduct createProduct) {
         checkAdminAccess(token);
 
@@ -137,6 +161,7 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @UseWorkload(WorkloadType.ADMIN)
     public ProductDTO updateProduct(String token, Long id, ProductDTO.UpdateProduct updateProduct) {
         checkAdminAccess(token);
 
@@ -153,6 +178,7 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
+    @UseWorkload(WorkloadType.ADMIN)
     public void deleteProduct(String token, Long id) {
         checkAdminAccess(token);
 
@@ -164,6 +190,98 @@ public class ProductServiceImpl implements ProductService {
         log.info("Товар удален: ID: {}", id);
     }
 
+    @Override
+    @UseWorkload(WorkloadType.ADMIN)
+    public ProductDTO.ImportResult importProducts(String token, InputStream body, ProductDTO.ImportFormat format) {
+        checkAdminAccess(token);
+
+        ProductDTO.ImportResult result;
+        if (format == ProductDTO.ImportFormat.NDJSON) {
+            NdjsonCsvInputStream csv = new NdjsonCsvInputStream(body, objectMapper,
+                    "id", "name", "quantity", "price", "categoryId");
+            result = productBulkRepository.importCsv(csv, false);
+            result.setRejected(result.getRejected() + csv.getRejected());
+        } else {
+            result = productBulkRepository.importCsv(body, true);
+        }
+
+        log.info("Импорт товаров ({}): добавлено {}, обновлено {}, отклонено {}",
+                format, result.getInserted(), result.getUpdated(), result.getRejected());
+        return result;
+    }
+
+    @Override
+    @UseWorkload(WorkloadType.ADMIN)
+    public ProductDTO.BulkUpdateResult bulkUpdateStockAndPrice(String token, List<ProductDTO.StockPriceUpdate> updates) {
+        checkAdminAccess(token);
+
+        if (updates == null || updates.isEmpty()) {
+            throw new BadRequestException("Список обновлений пуст");
+        }
+        if (updates.size() > bulkUpdateProperties.getMaxItems()) {
+            throw new BadRequestException("Слишком много строк в запросе: максимум " + bulkUpdateProperties.getMaxItems());
+        }
+
+        ProductDTO.BulkUpdateItemResult[] results = new ProductDTO.BulkUpdateItemResult[updates.size()];
+        List<Integer> validIndexes = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            ProductDTO.StockPriceUpdate update = updates.get(i);
+            String error = validateStockPriceUpdate(update);
+            if (error != null) {
+                results[i] = new ProductDTO.BulkUpdateItemResult(
+                        update != null ? update.getId() : null, ProductDTO.BulkUpdateStatus.REJECTED, error);
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        // Строки обновляются в порядке id, чтобы параллельные массовые обновления не взаимоблокировались
+        validIndexes.sort(Comparator.comparing(i -> updates.get(i).getId()));
+        List<ProductDTO.StockPriceUpdate> ordered = validIndexes.stream().map(updates::get).toList();
+        int[] counts = ordered.isEmpty()
+                ? new int[0]
+                : productBulkRepository.updateStockAndPrice(ordered, bulkUpdateProperties.getChunkSize());
+
+        for (int j = 0; j < counts.length; j++) {
+            int index = validIndexes.get(j);
+            ProductDTO.BulkUpdateStatus status = counts[j] != 0
+                    ? ProductDTO.BulkUpdateStatus.UPDATED
+                    : ProductDTO.BulkUpdateStatus.NOT_FOUND;
+            results[index] = new ProductDTO.BulkUpdateItemResult(updates.get(index).getId(), status, null);
+        }
+
+        ProductDTO.BulkUpdateResult result = ProductDTO.BulkUpdateResult.builder()
+                .updated(countStatus(results, ProductDTO.BulkUpdateStatus.UPDATED))
+                .notFound(countStatus(results, ProductDTO.BulkUpdateStatus.NOT_FOUND))
+                .rejected(countStatus(results, ProductDTO.BulkUpdateStatus.REJECTED))
+                .results(Arrays.asList(results))
+                .build();
+
+        log.info("Массовое обновление товаров: обновлено {}, не найдено {}, отклонено {}",
+                result.getUpdated(), result.getNotFound(), result.getRejected());
+        return result;
+    }
+
+    private String validateStockPriceUpdate(ProductDTO.StockPriceUpdate update) {
+        if (update == null || update.getId() == null) {
+            return "Не указан id товара";
+        }
+        if (update.getQuantity() == null && update.getPrice() == null) {
+            return "Не указаны ни количество, ни цена";
+        }
+        if (update.getQuantity() != null && update.getQuantity() < 0) {
+            return "Количество товара не может быть отрицательным";
+        }
+        if (update.getPrice() != null && update.getPrice() < 0) {
+            return "Цена товара не может быть отрицательной";
+        }
+        return null;
+    }
+
+    private static long countStatus(ProductDTO.BulkUpdateItemResult[] results, ProductDTO.BulkUpdateStatus status) {
+        return Arrays.stream(results).filter(r -> r.getStatus() == status).count();
+    }
+
     private void checkAdminAccess(String token) {
         User user = authUtil.getUserByToken(token);
         if (user == null || !Role.ADMIN.equals(user.getRole())) {
@@ -1,29 +1,79 @@
 package com.productCatalogService.service.impl;
 
+import com.productCatalogService.config.StatisticsProperties;
+import com.productCatalogService.config.UseWorkload;
+import com.productCatalogService.config.WorkloadContext;
+import com.productCatalogService.config.WorkloadType;
 import com.productCatalogService.entity.Role;
 import com.productCatalogService.entity.User;
+import com.productCatalogService.event.CategoriesChangedEvent;
 import com.productCatalogService.exception.AccessDeniedException;
 import com.productCatalogService.service.CategoryService;
 import com.productCatalogService.service.ProductService;
 import com.productCatalogService.service.StatisticsService;
 import com.productCatalogService.service.UserService;
 import com.productCatalogService.util.AuthUtil;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * Сервис статистики системы.
+ *
+ * <p>Количества считаются агрегирующими запросами {@code COUNT(*)}, которые
+ * выполняются параллельно на отдельном пуле, поэтому время расчета равно времени
+ * самого медленного запроса. Результат кешируется в снимке на
+ * {@code app.statistics.refresh-interval}; одновременные запросы после истечения
+ * снимка ждут один общий пересчет. Количество активных сессий берется из памяти
+ * и всегда актуально.</p>
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@UseWorkload(WorkloadType.ADMIN)
 public class StatisticsServiceImpl implements StatisticsService {
 
     private final UserService userService;
     private final ProductService productService;
     private final CategoryService categoryService;
     private final AuthUtil authUtil;
+    private final StatisticsProperties properties;
+    private final ExecutorService statisticsExecutor;
+
+    private volatile Snapshot snapshot;
+
+    public StatisticsServiceImpl(UserService userService,
+                                 ProductService productService,
+                                 CategoryService categoryService,
+                                 AuthUtil authUtil,
+                                 StatisticsProperties properties) {
+        this.userService = userService;
+        this.productService = productService;
+        this.categoryService = categoryService;
+        this.authUtil = authUtil;
+        this.properties = properties;
+
+        // Собственный небольшой пул, чтобы не конкурировать с общим исполнителем приложения
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("statistics-");
+        threadFactory.setDaemon(true);
+        this.statisticsExecutor = Executors.newFixedThreadPool(properties.getExecutorThreads(), threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        statisticsExecutor.shutdownNow();
+    }
 
     @Override
     public Map<String, Object> getStatistics(String token) {
@@ -32,13 +82,87 @@ public class StatisticsServiceImpl implements StatisticsService {
             throw new AccessDeniedException("Доступ запрещен. Требуется роль ADMIN");
         }
 
+        Snapshot current = currentSnapshot();
+
         Map<String, Object> statistics = new HashMap<>();
-        statistics.put("totalUsers", userService.showAllUser().size());
-        statistics.put("totalProducts", productService.count());
-        statistics.put("totalCategories", categoryService.findAll().size());
+        statistics.put("totalUsers", current.totalUsers());
+        statistics.put("totalProducts", current.totalProducts());
+        statistics.put("totalCategories", current.totalCategories());
         statistics.put("activeSessions", authUtil.getActiveSessionsCount());
+        statistics.put("calculatedAt", current.calculatedAt().toString());
 
         log.info("Статистика получена администратором: {}", adminUser.getUserName());
         return statistics;
     }
-}
\ No newline at end of file
+
+    /**
+     * Сбрасывает снимок после массового изменения категорий, чтобы следующий
+     * запрос статистики не показывал удаленные категории.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        snapshot = null;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            current = calculate();
+            snapshot = current;
+            return current;
+        }
+    }
+
+    private boolean isFresh(Snapshot current) {
+        return current != null
+                && current.calculatedAt().plus(properties.getRefreshInterval()).isAfter(Instant.now());
+    }
+
+    private Snapshot calculate() {
+        long started = System.nanoTime();
+
+        // Тип нагрузки не переходит в потоки пула сам, поэтому задается явно
+        CompletableFuture<Long> users = CompletableFuture.supplyAsync(
+                () -> WorkloadContext.callIn(WorkloadType.ADMIN, userService::countUsers), statisticsExecutor);
+        CompletableFuture<Long> products = CompletableFuture.supplyAsync(
+                () -> WorkloadContext.callIn(WorkloadType.ADMIN, productService::count), statisticsExecutor);
+        CompletableFuture<Long> categories = CompletableFuture.supplyAsync(
+                () -> WorkloadContext.callIn(WorkloadType.ADMIN, categoryService::count), statisticsExecutor);
+
+        try {
+            CompletableFuture.allOf(users, products, categories)
+                    .get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            users.cancel(true);
+            products.cancel(true);
+            categories.cancel(true);
+            throw new IllegalStateException("Превышено время расчета статистики", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Расчет статистики прерван", e);
+        } catch (Exception e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Ошибка расчета статистики", e);
+        }
+
+        Snapshot calculated = new Snapshot(users.join(), products.join(), categories.join(), Instant.now());
+        log.debug("Снимок статистики рассчитан за {} мс", (System.nanoTime() - started) / 1_000_000);
+        return calculated;
+    }
+
+    /**
+     * Закешированный снимок агрегированных значений.
+     */
+    private record Snapshot(long totalUsers, long totalProducts, long totalCategories, Instant calculatedAt) {
+    }
+}
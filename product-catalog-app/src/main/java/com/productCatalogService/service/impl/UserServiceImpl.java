@@ -1,10 +1,14 @@
 package com.productCatalogService.service.impl;
 
+import com.productCatalogService.config.UseWorkload;
+import com.productCatalogService.config.WorkloadType;
 import com.productCatalogService.dto.BasketDTO;
 import com.productCatalogService.dto.UserDTO;
 import com.productCatalogService.entity.Product;
 import com.productCatalogService.entity.Role;
 import com.productCatalogService.entity.User;
+import com.productCatalogService.event.jfr.BasketOperationEvent;
+import com.productCatalogService.event.jfr.BasketOperationEvent.Operation;
 import com.productCatalogService.exception.AccessDeniedException;
 import com.productCatalogService.exception.AuthenticationException;
 import com.productCatalogService.exception.BadRequestException;
@@ -41,18 +45,20 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isContainsUser(String userName) {
         return userRepository.existsByUsername(userName);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
 
     @Override
     public Map<Long, Product> getUserBasket(Long userId) {
-        return userRepository.getBasket(userId);
+        return BasketOperationEvent.call(Operation.READ, userId, null, 0, () -> userRepository.getBasket(userId));
     }
 
     @Override
@@ -60,19 +66,26 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAllUser();
     }
 
+    @Override
+    public Long countUsers() {
+        return userRepository.count();
+    }
+
     @Override
     public void clearUserBasket(Long userId) {
-        userRepository.clearBasket(userId);
+        BasketOperationEvent.run(Operation.CLEAR, userId, null, 0, () -> userRepository.clearBasket(userId));
     }
 
     @Override
     public void addToBasket(Long userId, Long productId, int quantity) {
-        userRepository.addToBasket(userId, productId, quantity);
+        BasketOperationEvent.run(Operation.ADD, userId, productId, quantity,
+                () -> userRepository.addToBasket(userId, productId, quantity));
     }
 
     @Override
     public void removeFromBasket(Long userId, Long productId) {
-        userRepository.removeFromBasket(userId, productId);
+        BasketOperationEvent.run(Operation.REMOVE, userId, productId, 0,
+                () -> userRepository.removeFromBasket(userId, productId));
     }
 
     @Override
@@ -160,6 +173,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @UseWorkload(WorkloadType.ADMIN)
     public List<UserDTO> getAllUsersForAdmin(String token) {
         User adminUser = authUtil.getUserByToken(token);
         if (adminUser == null || !Role.ADMIN.equals(adminUser.getRole())) {
@@ -6,9 +6,9 @@ import lombok.Getter;
 import org.springframework.stereotype.Component;
 
 import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Утилитарный класс для работы с аутентификацией и управлением сессиями пользователей.
@@ -34,6 +34,11 @@ import java.util.Optional;
  * что может быть неэффективно для распределенных систем. Для production-среды
  * рекомендуется использовать распределенное хранилище сессий (например, Redis).</p>
  *
+ * <p>Таблица сессий читается на каждом запросе и одновременно изменяется при входе
+ * и выходе, поэтому это {@link ConcurrentHashMap}: поиск не блокируется записью.
+ * Ключи {@code null} в ней недопустимы, поэтому запрос без токена возвращает пустой результат
+ * до обращения к таблице.</p>
+ *
  * @see User
  * @see Role
  * @since 1.0
@@ -42,7 +47,7 @@ import java.util.Optional;
 public class AuthUtil {
 
     @Getter
-    private final Map<String, User> activeSessions = new HashMap<>();
+    private final Map<String, User> activeSessions = new ConcurrentHashMap<>();
 
     /**
      * Генерирует токен авторизации на основе имени пользователя и пароля.
@@ -107,7 +112,7 @@ public class AuthUtil {
      * @return объект пользователя, связанный с удаленной сессией, или null если сессия не найдена
      */
     public User removeSession(String token) {
-        return activeSessions.remove(token);
+        return token != null ? activeSessions.remove(token) : null;
     }
 
     /**
@@ -119,7 +124,7 @@ public class AuthUtil {
      */
     public Optional<User> getUserFromToken(String token) {
         String cleanToken = extractToken(token);
-        return Optional.ofNullable(activeSessions.get(cleanToken));
+        return Optional.ofNullable(getUserByToken(cleanToken));
     }
 
     /**
@@ -129,7 +134,7 @@ public class AuthUtil {
      * @return объект пользователя, связанный с токеном, или null если токен невалиден
      */
     public User getUserByToken(String token) {
-        return activeSessions.get(token);
+        return token != null ? activeSessions.get(token) : null;
     }
 
     /**
@@ -186,7 +191,7 @@ public class AuthUtil {
      * @return true если токен валиден (существует активная сессия), иначе false
      */
     public boolean isValidToken(String token) {
-        return activeSessions.containsKey(token);
+        return token != null && activeSessions.containsKey(token);
     }
 
     /**
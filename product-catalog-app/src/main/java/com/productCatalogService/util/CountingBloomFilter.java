@@ -0,0 +1,189 @@
+package com.productCatalogService.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Потокобезопасный неблокирующий считающий фильтр Блума для строковых ключей.
+ *
+ * <p>Вместо битов используются 4-битные счетчики (по 16 в одном {@code long}),
+ * поэтому фильтр поддерживает удаление. Отрицательный ответ {@link #mightContain}
+ * гарантирован, положительный — вероятностный. Насыщенный счетчик (15) больше
+ * не уменьшается, чтобы удаление не могло привести к ложноотрицательному ответу.</p>
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final int COUNTER_BITS = 4;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashFunctions;
+    private final AtomicLong size = new AtomicLong();
+
+    private CountingBloomFilter(long counterCount, int hashFunctions) {
+        long wordCount = (counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Слишком большой фильтр Блума: " + counterCount + " счетчиков");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.counterCount = wordCount * COUNTERS_PER_WORD;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Создает фильтр оптимального размера для заданного количества элементов
+     * и желаемой вероятности ложноположительного ответа.
+     *
+     * @param expectedInsertions ожидаемое количество элементов
+     * @param falsePositiveProbability желаемая вероятность ложноположительного ответа (0..1)
+     * @return новый пустой фильтр
+     */
+    public static CountingBloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Вероятность ложноположительного ответа должна быть в интервале (0, 1)");
+        }
+        long n = Math.max(1L, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new CountingBloomFilter(Math.max(m, COUNTERS_PER_WORD), k);
+    }
+
+    /**
+     * Добавляет ключ в фильтр.
+     *
+     * @param key ключ
+     */
+    public void add(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            increment(index(h1, h2, i));
+        }
+        size.incrementAndGet();
+    }
+
+    /**
+     * Удаляет ключ из фильтра. Ключ, который фильтр заведомо не содержит, игнорируется.
+     *
+     * <p>Вызывающий код должен удалять только ключи, ранее добавленные через {@link #add}:
+     * ложноположительный ответ не отличается от настоящего, и удаление недобавленного
+     * ключа уменьшит счетчики других ключей, дав для них ложноотрицательный ответ.</p>
+     *
+     * @param key ключ
+     * @return true если счетчики ключа были уменьшены
+     */
+    public boolean remove(String key) {
+        if (!mightContain(key)) {
+            return false;
+        }
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            decrement(index(h1, h2, i));
+        }
+        size.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Проверяет, может ли фильтр содержать ключ.
+     *
+     * @param key ключ
+     * @return false если ключа заведомо нет, true если ключ, возможно, есть
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            if (counter(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает приблизительное количество элементов в фильтре.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Возвращает теоретическую вероятность ложноположительного ответа
+     * при текущем количестве элементов.
+     */
+    public double expectedFalsePositiveProbability() {
+        double fill = 1 - Math.exp(-(double) hashFunctions * size.get() / counterCount);
+        return Math.pow(fill, hashFunctions);
+    }
+
+    /**
+     * Возвращает объем памяти счетчиков в байтах.
+     */
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private long index(int h1, int h2, int i) {
+        long combined = h1 + (long) i * h2;
+        return (combined & Long.MAX_VALUE) % counterCount;
+    }
+
+    private int counter(long index) {
+        long word = words.get((int) (index / COUNTERS_PER_WORD));
+        return (int) ((word >>> shift(index)) & COUNTER_MASK);
+    }
+
+    private void increment(long index) {
+        int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        int shift = shift(index);
+        long current;
+        long updated;
+        do {
+            current = words.get(wordIndex);
+            long value = (current >>> shift) & COUNTER_MASK;
+            if (value == COUNTER_MASK) {
+                return;
+            }
+            updated = current + (1L << shift);
+        } while (!words.compareAndSet(wordIndex, current, updated));
+    }
+
+    private void decrement(long index) {
+        int wordIndex = (int) (index / COUNTERS_PER_WORD);
+        int shift = shift(index);
+        long current;
+        long updated;
+        do {
+            current = words.get(wordIndex);
+            long value = (current >>> shift) & COUNTER_MASK;
+            if (value == 0 || value == COUNTER_MASK) {
+                return;
+            }
+            updated = current - (1L << shift);
+        } while (!words.compareAndSet(wordIndex, current, updated));
+    }
+
+    private static int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+    }
+
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
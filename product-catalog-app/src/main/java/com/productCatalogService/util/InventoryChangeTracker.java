@@ -0,0 +1,48 @@
+package com.productCatalogService.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счетчик изменений товаров и корзин с момента последнего обновления
+ * представлений аналитики склада. Вызывается из репозиториев на каждой записи,
+ * поэтому стоит одного неблокирующего инкремента.
+ */
+@Component
+public class InventoryChangeTracker {
+
+    private final LongAdder pendingWrites = new LongAdder();
+
+    /**
+     * Учитывает одно изменение.
+     */
+    public void record() {
+        pendingWrites.increment();
+    }
+
+    /**
+     * Учитывает несколько изменений, сделанных одной массовой операцией.
+     *
+     * @param count количество измененных строк
+     */
+    public void record(long count) {
+        pendingWrites.add(count);
+    }
+
+    /**
+     * Возвращает количество изменений, учтенных с последнего сброса.
+     */
+    public long pending() {
+        return pendingWrites.sum();
+    }
+
+    /**
+     * Вычитает обработанные изменения, сохраняя учтенные во время обновления.
+     *
+     * @param processed количество изменений, покрытых обновлением
+     */
+    public void acknowledge(long processed) {
+        pendingWrites.add(-processed);
+    }
+}
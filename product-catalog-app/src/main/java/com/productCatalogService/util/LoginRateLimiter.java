@@ -0,0 +1,123 @@
+package com.productCatalogService.util;
+
+import com.productCatalogService.config.LoginRateLimitProperties;
+import com.productCatalogService.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограничитель частоты попыток входа по IP-адресу клиента и по имени пользователя.
+ *
+ * <p>Проверка выполняется до обращения к базе данных и хеширования пароля,
+ * поэтому всплеск перебора учетных данных отсекается почти бесплатно.
+ * Память ограничена двумя таблицами {@link TokenBucketSketch} независимо
+ * от количества различных IP и имен.</p>
+ *
+ * <p>Метрики: {@code auth.login.rate.allowed} и {@code auth.login.rate.rejected}
+ * с тегом {@code key} ({@code ip} или {@code username}).</p>
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final LoginRateLimitProperties properties;
+    private final TokenBucketSketch ipBuckets;
+    private final TokenBucketSketch usernameBuckets;
+    private final long origin = System.nanoTime() - 1;
+
+    private final Counter allowed;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByUsername;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ipBuckets = createSketch(properties.getPerIp());
+        this.usernameBuckets = createSketch(properties.getPerUsername());
+
+        this.allowed = Counter.builder("auth.login.rate.allowed")
+                .description("Попытки входа, пропущенные ограничителем")
+                .register(meterRegistry);
+        this.rejectedByIp = Counter.builder("auth.login.rate.rejected")
+                .description("Попытки входа, отклоненные ограничителем")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        this.rejectedByUsername = Counter.builder("auth.login.rate.rejected")
+                .description("Попытки входа, отклоненные ограничителем")
+                .tag("key", "username")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Проверяет и расходует попытку входа для IP-адреса и имени пользователя.
+     * Попытка расходуется только если её пропускают оба лимита.
+     *
+     * @param clientIp IP-адрес клиента
+     * @param username имя пользователя из запроса
+     * @throws TooManyRequestsException если превышен лимит по IP или по имени пользователя
+     */
+    public void checkLogin(String clientIp, String username) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime() - origin;
+        String ipKey = clientIp != null ? clientIp : "";
+        String usernameKey = username != null ? username.toLowerCase(Locale.ROOT) : "";
+
+        long ipWait = ipBuckets.waitNanos(ipKey, now);
+        if (ipWait > 0) {
+            rejectedByIp.increment();
+            log.warn("Превышен лимит попыток входа с IP: {}", ipKey);
+            throw new TooManyRequestsException("Слишком много попыток входа. Повторите позже", toSeconds(ipWait));
+        }
+
+        long usernameWait = usernameBuckets.waitNanos(usernameKey, now);
+        if (usernameWait > 0) {
+            rejectedByUsername.increment();
+            log.warn("Превышен лимит попыток входа для пользователя: {}", username);
+            throw new TooManyRequestsException("Слишком много попыток входа. Повторите позже", toSeconds(usernameWait));
+        }
+
+        ipBuckets.consume(ipKey, now);
+        usernameBuckets.consume(usernameKey, now);
+        allowed.increment();
+    }
+
+    /**
+     * Определяет IP-адрес клиента. Заголовок X-Forwarded-For учитывается
+     * только если это явно разрешено настройками.
+     *
+     * @param request HTTP-запрос
+     * @return IP-адрес клиента
+     */
+    public String resolveClientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private TokenBucketSketch createSketch(LoginRateLimitProperties.Bucket bucket) {
+        return new TokenBucketSketch(
+                properties.getSketchDepth(),
+                properties.getSketchWidth(),
+                bucket.getCapacity(),
+                bucket.getRefillPerSecond());
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L));
+    }
+}
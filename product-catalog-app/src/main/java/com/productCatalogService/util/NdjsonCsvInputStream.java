@@ -0,0 +1,130 @@
+package com.productCatalogService.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Поток, который на лету преобразует NDJSON (один JSON-объект на строку)
+ * в CSV без заголовка для {@code COPY ... FROM STDIN}.
+ *
+ * <p>В памяти находится только текущая строка, поэтому расход памяти не зависит
+ * от размера файла. Строки, не являющиеся JSON-объектом, пропускаются
+ * и учитываются в {@link #getRejected()}; значения проверяются уже в базе данных.</p>
+ */
+public class NdjsonCsvInputStream extends InputStream {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final String[] fields;
+    private final StringBuilder row = new StringBuilder();
+
+    private byte[] buffer = new byte[0];
+    private int position;
+    private long rejected;
+
+    /**
+     * @param source       исходный поток NDJSON в UTF-8
+     * @param objectMapper парсер JSON
+     * @param fields       имена полей в порядке колонок CSV
+     */
+    public NdjsonCsvInputStream(InputStream source, ObjectMapper objectMapper, String... fields) {
+        this.reader = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+        this.fields = fields;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= buffer.length && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        int copied = 0;
+        while (copied < length) {
+            if (position >= buffer.length && !fill()) {
+                break;
+            }
+            int chunk = Math.min(length - copied, buffer.length - position);
+            System.arraycopy(buffer, position, target, offset + copied, chunk);
+            position += chunk;
+            copied += chunk;
+        }
+        return copied == 0 ? -1 : copied;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Возвращает количество строк, отклоненных при разборе JSON.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    private boolean fill() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                rejected++;
+                continue;
+            }
+            if (node == null || !node.isObject()) {
+                rejected++;
+                continue;
+            }
+            buffer = toCsvRow(node);
+            position = 0;
+            return true;
+        }
+        return false;
+    }
+
+    private byte[] toCsvRow(JsonNode node) {
+        row.setLength(0);
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            JsonNode value = node.get(fields[i]);
+            // Пустое значение без кавычек COPY трактует как NULL
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            String text = value.isValueNode() ? value.asText() : value.toString();
+            row.append('"');
+            for (int j = 0; j < text.length(); j++) {
+                char c = text.charAt(j);
+                if (c == '"') {
+                    row.append('"');
+                }
+                row.append(c);
+            }
+            row.append('"');
+        }
+        row.append('\n');
+        return row.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,164 @@
+package com.productCatalogService.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Блочный (pooled) генератор идентификаторов на основе последовательностей PostgreSQL.
+ *
+ * <p>Последовательность настроена с {@code INCREMENT BY N}: один вызов {@code nextval}
+ * резервирует блок {@code [v, v + N - 1]}, из которого идентификаторы выдаются в памяти
+ * без обращения к базе данных. Выдача из текущего блока неблокирующая (CAS),
+ * блокировка берется только при получении нового блока. Размер блока читается
+ * из {@code pg_sequences}, поэтому единственный источник настройки — changeset.</p>
+ *
+ * <p>Идентификаторы известны до вставки, поэтому репозитории могут вставлять строки
+ * пакетами без построчного чтения сгенерированных ключей.</p>
+ */
+@Slf4j
+@Component
+public class PooledIdGenerator {
+
+    private static final String INCREMENT_SQL = QueryName.of("sequence.findIncrement", """
+            SELECT increment_by FROM pg_sequences
+            WHERE schemaname = ? AND sequencename = ?
+            """);
+    private static final String NEXT_BLOCKS_SQL = QueryName.of("sequence.nextBlocks",
+            "SELECT nextval(?::regclass) FROM generate_series(1, ?)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, SequencePool> pools = new ConcurrentHashMap<>();
+
+    public PooledIdGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Выдает следующий идентификатор.
+     *
+     * @param sequence имя последовательности со схемой, например {@code seq_schema.products_id_seq}
+     * @return новый уникальный идентификатор
+     */
+    public long nextId(String sequence) {
+        return pool(sequence).next();
+    }
+
+    /**
+     * Выдает несколько идентификаторов; недостающие блоки запрашиваются одним запросом.
+     *
+     * @param sequence имя последовательности со схемой
+     * @param count    количество идентификаторов
+     * @return новые уникальные идентификаторы
+     */
+    public long[] nextIds(String sequence, int count) {
+        return pool(sequence).next(count);
+    }
+
+    /**
+     * Возвращает размер блока последовательности ({@code increment_by}) для кода,
+     * который резервирует блоки сам, например одним SQL-запросом при массовой вставке.
+     *
+     * @param sequence имя последовательности со схемой
+     * @return количество идентификаторов в блоке
+     */
+    public long blockSize(String sequence) {
+        return pool(sequence).blockSize;
+    }
+
+    private SequencePool pool(String sequence) {
+        return pools.computeIfAbsent(sequence, this::createPool);
+    }
+
+    private SequencePool createPool(String sequence) {
+        int dot = sequence.indexOf('.');
+        Long increment = jdbcTemplate.query(INCREMENT_SQL,
+                rs -> rs.next() ? rs.getLong(1) : null,
+                dot > 0 ? sequence.substring(0, dot) : "public",
+                dot > 0 ? sequence.substring(dot + 1) : sequence);
+        if (increment == null || increment < 1) {
+            throw new IllegalStateException("Последовательность не найдена или имеет неверный шаг: " + sequence);
+        }
+        log.info("Блочная выдача идентификаторов для {}: блок {}", sequence, increment);
+        return new SequencePool(sequence, increment);
+    }
+
+    /**
+     * Выданный последовательностью блок идентификаторов {@code [next, max]}.
+     */
+    private static final class Block {
+        private final AtomicLong next;
+        private final long max;
+
+        private Block(long start, long size) {
+            this.next = new AtomicLong(start);
+            this.max = start + size - 1;
+        }
+
+        /**
+         * @return следующий идентификатор или -1, если блок исчерпан
+         */
+        private long take() {
+            long id = next.getAndIncrement();
+            return id <= max ? id : -1;
+        }
+    }
+
+    private final class SequencePool {
+        private final String sequence;
+        private final long blockSize;
+        private final ArrayDeque<Long> spareStarts = new ArrayDeque<>();
+        private volatile Block current = new Block(1, 0);
+
+        private SequencePool(String sequence, long blockSize) {
+            this.sequence = sequence;
+            this.blockSize = blockSize;
+        }
+
+        private long next() {
+            while (true) {
+                Block block = current;
+                long id = block.take();
+                if (id > 0) {
+                    return id;
+                }
+                refill(block, 1);
+            }
+        }
+
+        private long[] next(int count) {
+            long[] ids = new long[count];
+            int filled = 0;
+            while (filled < count) {
+                Block block = current;
+                long id = block.take();
+                if (id > 0) {
+                    ids[filled++] = id;
+                } else {
+                    refill(block, count - filled);
+                }
+            }
+            return ids;
+        }
+
+        /**
+         * Заменяет исчерпанный блок новым. Если нужно больше одного блока,
+         * все они запрашиваются одним запросом, а лишние откладываются про запас.
+         */
+        private synchronized void refill(Block exhausted, int needed) {
+            if (current != exhausted) {
+                return;
+            }
+            if (spareStarts.isEmpty()) {
+                int blocks = (int) Math.max(1, (needed + blockSize - 1) / blockSize);
+                spareStarts.addAll(jdbcTemplate.queryForList(NEXT_BLOCKS_SQL, Long.class, sequence, blocks));
+            }
+            current = new Block(spareStarts.poll(), blockSize);
+        }
+    }
+}
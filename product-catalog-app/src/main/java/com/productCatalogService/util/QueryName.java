@@ -0,0 +1,54 @@
+package com.productCatalogService.util;
+
+/**
+ * Стабильные имена SQL-запросов для метрик.
+ *
+ * <p>Имя добавляется к тексту запроса комментарием {@code /* product.findById *&#47;},
+ * поэтому оно видно и в метриках {@code db.query}, и в журналах PostgreSQL
+ * ({@code pg_stat_activity}, {@code log_min_duration_statement}).</p>
+ */
+public final class QueryName {
+
+    /**
+     * Имя для запросов без комментария с именем.
+     */
+    public static final String UNNAMED = "unnamed";
+
+    private static final String PREFIX = "/* ";
+    private static final String SUFFIX = " */";
+
+    private QueryName() {
+    }
+
+    /**
+     * Добавляет имя к тексту запроса.
+     *
+     * @param name имя запроса вида {@code сущность.метод}
+     * @param sql  текст запроса
+     * @return текст запроса с комментарием-именем
+     */
+    public static String of(String name, String sql) {
+        return PREFIX + name + SUFFIX + " " + sql;
+    }
+
+    /**
+     * Извлекает имя из текста запроса.
+     *
+     * @param sql текст запроса
+     * @return имя запроса или {@link #UNNAMED}
+     */
+    public static String extract(String sql) {
+        if (sql == null || !sql.startsWith(PREFIX)) {
+            return UNNAMED;
+        }
+        int end = sql.indexOf(SUFFIX, PREFIX.length());
+        return end > PREFIX.length() ? sql.substring(PREFIX.length(), end) : UNNAMED;
+    }
+
+    /**
+     * Проверяет, содержит ли текст запроса имя.
+     */
+    public static boolean isNamed(String sql) {
+        return sql != null && sql.startsWith(PREFIX);
+    }
+}
@@ -0,0 +1,119 @@
+package com.productCatalogService.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Приближенный набор ограничителей «токен-бакет» фиксированного объема памяти.
+ *
+ * <p>Ключи не хранятся: как в count-min sketch, каждый ключ отображается на одну ячейку
+ * в каждой из {@code depth} строк таблицы шириной {@code width}. Ячейка хранит
+ * «теоретическое время прихода» (TAT) алгоритма GCRA, который эквивалентен
+ * токен-бакету с емкостью {@code capacity} и скоростью пополнения {@code refillPerSecond},
+ * но требует всего одного {@code long} на ячейку. Коллизии могут только сделать
+ * ограничение строже, поэтому оценкой состояния ключа служит минимальный TAT по строкам.</p>
+ *
+ * <p>Все операции неблокирующие (CAS над {@link AtomicLongArray}). Параллельные запросы
+ * одного ключа могут изредка пройти сверх лимита — для защиты от перебора паролей
+ * это допустимая погрешность.</p>
+ */
+public class TokenBucketSketch {
+
+    private final AtomicLongArray cells;
+    private final int depth;
+    private final int mask;
+    private final long[] seeds;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    /**
+     * @param depth           количество строк (независимых хеш-функций)
+     * @param width           ширина строки, округляется вверх до степени двойки
+     * @param capacity        емкость бакета (допустимый всплеск запросов)
+     * @param refillPerSecond скорость пополнения токенов в секунду
+     */
+    public TokenBucketSketch(int depth, int width, int capacity, double refillPerSecond) {
+        if (depth <= 0 || width <= 0 || capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Параметры ограничителя должны быть положительными");
+        }
+        int rowWidth = Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = Math.max(rowWidth, 1) - 1;
+        this.cells = new AtomicLongArray(depth * (mask + 1));
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+
+        // Случайные сиды не дают подобрать ключи, заведомо попадающие в чужие ячейки
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = ThreadLocalRandom.current().nextLong();
+        }
+    }
+
+    /**
+     * Возвращает, сколько наносекунд ключу нужно подождать до следующего токена,
+     * не расходуя токен.
+     *
+     * @param key ключ ограничителя
+     * @param now текущее время в наносекундах (монотонное, положительное)
+     * @return 0 если токен доступен сейчас, иначе время ожидания в наносекундах
+     */
+    public long waitNanos(String key, long now) {
+        long next = Math.max(estimate(key), now) + emissionIntervalNanos;
+        return Math.max(0L, next - now - burstToleranceNanos);
+    }
+
+    /**
+     * Расходует один токен ключа (консервативное обновление: ячейки
+     * поднимаются только до новой оценки, а не увеличиваются каждая).
+     *
+     * @param key ключ ограничителя
+     * @param now текущее время в наносекундах
+     */
+    public void consume(String key, long now) {
+        long target = Math.max(estimate(key), now) + emissionIntervalNanos;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, key);
+            long current;
+            do {
+                current = cells.get(index);
+                if (current >= target) {
+                    break;
+                }
+            } while (!cells.compareAndSet(index, current, target));
+        }
+    }
+
+    /**
+     * Возвращает объем памяти таблицы в ячейках.
+     */
+    public int size() {
+        return cells.length();
+    }
+
+    private long estimate(String key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, cells.get(index(row, key)));
+        }
+        return min;
+    }
+
+    /**
+     * Сидированный 64-битный хеш по символам ключа (FNV-1a + финализатор MurmurHash3).
+     * {@code String.hashCode()} не подходит: его коллизии легко подобрать, и они
+     * совпадали бы во всех строках сразу.
+     */
+    private int index(int row, String key) {
+        long h = seeds[row];
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return row * (mask + 1) + ((int) h & mask);
+    }
+}
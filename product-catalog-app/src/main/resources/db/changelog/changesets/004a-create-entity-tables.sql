@@ -0,0 +1,63 @@
+-- Таблицы схемы entity, с которыми работают репозитории приложения (JdbcTemplate).
+-- Должны существовать до changeset 005 и 007: представления аналитики и журнал аудита
+-- создаются только при наличии схемы entity. На базах, где таблицы уже созданы
+-- вручную, changeset ничего не меняет.
+CREATE SCHEMA IF NOT EXISTS entity;
+
+GRANT ALL PRIVILEGES ON SCHEMA entity TO productcatalog;
+ALTER DEFAULT PRIVILEGES IN SCHEMA entity GRANT ALL ON TABLES TO productcatalog;
+ALTER DEFAULT PRIVILEGES IN SCHEMA entity GRANT ALL ON SEQUENCES TO productcatalog;
+
+-- Категории
+CREATE TABLE IF NOT EXISTS entity.categories
+(
+    id   BIGINT PRIMARY KEY DEFAULT nextval('seq_schema.categories_id_seq'),
+    name VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+-- Товары; цена хранится в копейках
+CREATE TABLE IF NOT EXISTS entity.products
+(
+    id          BIGINT PRIMARY KEY DEFAULT nextval('seq_schema.products_id_seq'),
+    name        VARCHAR(255) NOT NULL,
+    quantity    INTEGER      NOT NULL DEFAULT 0,
+    price       INTEGER      NOT NULL,
+    category_id BIGINT       NOT NULL,
+    CONSTRAINT fk_products_category
+        FOREIGN KEY (category_id)
+            REFERENCES entity.categories (id)
+            ON DELETE RESTRICT
+);
+
+CREATE INDEX IF NOT EXISTS idx_products_category_id ON entity.products (category_id);
+
+-- Пользователи
+CREATE TABLE IF NOT EXISTS entity.users
+(
+    id        BIGINT PRIMARY KEY DEFAULT nextval('seq_schema.users_id_seq'),
+    user_name VARCHAR(50)  NOT NULL,
+    password  VARCHAR(255) NOT NULL,
+    role      VARCHAR(20)  NOT NULL DEFAULT 'USER',
+    CONSTRAINT uk_users_user_name UNIQUE (user_name)
+);
+
+-- Корзины: одна строка на пару пользователь-товар
+CREATE TABLE IF NOT EXISTS entity.user_basket
+(
+    user_id    BIGINT                   NOT NULL,
+    product_id BIGINT                   NOT NULL,
+    quantity   INTEGER                  NOT NULL,
+    added_at   TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_user_basket PRIMARY KEY (user_id, product_id),
+    CONSTRAINT fk_user_basket_user
+        FOREIGN KEY (user_id)
+            REFERENCES entity.users (id)
+            ON DELETE CASCADE,
+    CONSTRAINT fk_user_basket_product
+        FOREIGN KEY (product_id)
+            REFERENCES entity.products (id)
+            ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_basket_product_id ON entity.user_basket (product_id);
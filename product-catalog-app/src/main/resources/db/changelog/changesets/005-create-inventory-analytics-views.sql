@@ -0,0 +1,73 @@
+-- Материализованные представления для аналитики склада.
+-- Эндпоинт аналитики читает только из них, не нагружая products и user_basket.
+-- Обновляются через REFRESH MATERIALIZED VIEW CONCURRENTLY, для чего
+-- каждому представлению нужен уникальный индекс.
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'entity'
+                     AND table_name = 'products')
+            AND EXISTS (SELECT 1
+                        FROM information_schema.tables
+                        WHERE table_schema = 'entity'
+                          AND table_name = 'user_basket') THEN
+
+            -- Сводка по товарам: остаток, стоимость остатка и резерв в корзинах
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_matviews
+                           WHERE schemaname = 'entity'
+                             AND matviewname = 'inventory_product_summary') THEN
+                CREATE MATERIALIZED VIEW entity.inventory_product_summary AS
+                SELECT p.id                                AS product_id,
+                       p.name                              AS name,
+                       p.category_id                       AS category_id,
+                       p.quantity                          AS quantity,
+                       p.price                             AS price,
+                       p.quantity::BIGINT * p.price        AS stock_value,
+                       COALESCE(b.reserved_units, 0)       AS reserved_units,
+                       COALESCE(b.basket_users, 0)         AS basket_users
+                FROM entity.products p
+                         LEFT JOIN (SELECT product_id,
+                                           SUM(quantity) AS reserved_units,
+                                           COUNT(*)      AS basket_users
+                                    FROM entity.user_basket
+                                    GROUP BY product_id) b ON b.product_id = p.id
+                WITH DATA;
+
+                CREATE UNIQUE INDEX idx_inventory_product_summary_id
+                    ON entity.inventory_product_summary (product_id);
+                CREATE INDEX idx_inventory_product_summary_quantity
+                    ON entity.inventory_product_summary (quantity);
+                CREATE INDEX idx_inventory_product_summary_basket_users
+                    ON entity.inventory_product_summary (basket_users DESC);
+            END IF;
+
+            -- Сводка по категориям: количество товаров, стоимость остатка и резерв
+            IF NOT EXISTS (SELECT 1
+                           FROM pg_matviews
+                           WHERE schemaname = 'entity'
+                             AND matviewname = 'inventory_category_summary') THEN
+                CREATE MATERIALIZED VIEW entity.inventory_category_summary AS
+                SELECT c.id                                             AS category_id,
+                       c.name                                           AS category_name,
+                       COUNT(p.id)                                      AS product_count,
+                       COALESCE(SUM(p.quantity), 0)                     AS total_units,
+                       COALESCE(SUM(p.quantity::BIGINT * p.price), 0)   AS inventory_value,
+                       COALESCE(SUM(b.reserved_units), 0)               AS reserved_units,
+                       CURRENT_TIMESTAMP                                AS refreshed_at
+                FROM entity.categories c
+                         LEFT JOIN entity.products p ON p.category_id = c.id
+                         LEFT JOIN (SELECT product_id, SUM(quantity) AS reserved_units
+                                    FROM entity.user_basket
+                                    GROUP BY product_id) b ON b.product_id = p.id
+                GROUP BY c.id, c.name
+                WITH DATA;
+
+                CREATE UNIQUE INDEX idx_inventory_category_summary_id
+                    ON entity.inventory_category_summary (category_id);
+            END IF;
+        END IF;
+    END
+$$;
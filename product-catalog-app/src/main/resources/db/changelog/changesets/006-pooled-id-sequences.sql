@@ -0,0 +1,19 @@
+-- Блочное выделение идентификаторов: каждый nextval резервирует блок из 50 значений,
+-- которые приложение раздает само (PooledIdGenerator). Вставки через DEFAULT nextval
+-- продолжают работать и не пересекаются с блоками, просто оставляют пропуски.
+DO
+$$
+    DECLARE
+        seq_name TEXT;
+    BEGIN
+        FOREACH seq_name IN ARRAY ARRAY ['categories_id_seq', 'products_id_seq', 'users_id_seq']
+            LOOP
+                IF EXISTS (SELECT 1
+                           FROM information_schema.sequences
+                           WHERE sequence_schema = 'seq_schema'
+                             AND sequence_name = seq_name) THEN
+                    EXECUTE format('ALTER SEQUENCE seq_schema.%I INCREMENT BY 50', seq_name);
+                END IF;
+            END LOOP;
+    END
+$$;
@@ -0,0 +1,28 @@
+-- Журнал аудита операций сохранения, изменения и удаления.
+-- Пишется пакетами фоновым потоком AuditEventPipeline (модуль audit-logging-autoconfig).
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.schemata
+                   WHERE schema_name = 'entity') THEN
+            CREATE TABLE IF NOT EXISTS entity.audit_log
+            (
+                id          BIGSERIAL PRIMARY KEY,
+                occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                operation   VARCHAR(100)             NOT NULL,
+                entity_type VARCHAR(100)             NOT NULL,
+                entity_id   VARCHAR(100),
+                success     BOOLEAN                  NOT NULL,
+                error       TEXT,
+                ip_address  VARCHAR(64),
+                request_uri VARCHAR(2048),
+                user_name   VARCHAR(255),
+                details     TEXT
+            );
+
+            CREATE INDEX IF NOT EXISTS idx_audit_log_occurred_at
+                ON entity.audit_log (occurred_at);
+        END IF;
+    END
+$$;
@@ -0,0 +1,65 @@
+-- Секционирование журнала аудита по дням (UTC).
+-- Секции entity.audit_log_pYYYYMMDD создает заранее и удаляет по сроку хранения
+-- AuditPartitionManager (модуль audit-logging-autoconfig), поэтому старые события
+-- удаляются целыми секциями, а не построчно.
+-- Первичный ключ включает ключ секционирования; (occurred_at, id) служит и индексом
+-- для постраничного чтения по времени, (entity_type, entity_id, occurred_at, id) —
+-- для истории одной сущности.
+DO
+$$
+    DECLARE
+        partition_day DATE;
+        last_day      DATE;
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM pg_class c
+                            JOIN pg_namespace n ON n.oid = c.relnamespace
+                   WHERE n.nspname = 'entity'
+                     AND c.relname = 'audit_log'
+                     AND c.relkind = 'r') THEN
+            ALTER TABLE entity.audit_log RENAME TO audit_log_unpartitioned;
+            DROP INDEX IF EXISTS entity.idx_audit_log_occurred_at;
+            ALTER TABLE entity.audit_log_unpartitioned DROP CONSTRAINT audit_log_pkey;
+
+            CREATE TABLE entity.audit_log
+            (
+                id          BIGINT                   NOT NULL DEFAULT nextval('entity.audit_log_id_seq'),
+                occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                operation   VARCHAR(100)             NOT NULL,
+                entity_type VARCHAR(100)             NOT NULL,
+                entity_id   VARCHAR(100),
+                success     BOOLEAN                  NOT NULL,
+                error       TEXT,
+                ip_address  VARCHAR(64),
+                request_uri VARCHAR(2048),
+                user_name   VARCHAR(255),
+                details     TEXT,
+                CONSTRAINT audit_log_pkey PRIMARY KEY (occurred_at, id)
+            ) PARTITION BY RANGE (occurred_at);
+
+            -- Последовательность переходит к новой таблице и не удаляется вместе со старой
+            ALTER SEQUENCE entity.audit_log_id_seq OWNED BY entity.audit_log.id;
+
+            CREATE INDEX idx_audit_log_entity
+                ON entity.audit_log (entity_type, entity_id, occurred_at, id);
+
+            SELECT COALESCE(min(occurred_at AT TIME ZONE 'UTC')::date, (now() AT TIME ZONE 'UTC')::date),
+                   GREATEST(COALESCE(max(occurred_at AT TIME ZONE 'UTC')::date, (now() AT TIME ZONE 'UTC')::date),
+                            (now() AT TIME ZONE 'UTC')::date + 3)
+            INTO partition_day, last_day
+            FROM entity.audit_log_unpartitioned;
+
+            WHILE partition_day <= last_day
+                LOOP
+                    EXECUTE format('CREATE TABLE entity.%I PARTITION OF entity.audit_log FOR VALUES FROM (%L) TO (%L)',
+                                   'audit_log_p' || to_char(partition_day, 'YYYYMMDD'),
+                                   partition_day::timestamp AT TIME ZONE 'UTC',
+                                   (partition_day + 1)::timestamp AT TIME ZONE 'UTC');
+                    partition_day := partition_day + 1;
+                END LOOP;
+
+            INSERT INTO entity.audit_log SELECT * FROM entity.audit_log_unpartitioned;
+            DROP TABLE entity.audit_log_unpartitioned;
+        END IF;
+    END
+$$;
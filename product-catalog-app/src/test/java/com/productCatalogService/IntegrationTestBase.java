@@ -0,0 +1,73 @@
+package com.productCatalogService;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * База интеграционных тестов: приложение на случайном порту с PostgreSQL.
+ *
+ * <p>По умолчанию база поднимается в Testcontainers один раз на JVM. Если задан
+ * {@code -Dit.datasource.url} (и при необходимости {@code it.datasource.username},
+ * {@code it.datasource.password}), используется внешняя база, например при сборке без Docker.
+ * Без Docker и внешней базы тесты пропускаются.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ExtendWith(IntegrationTestBase.DatabaseAvailable.class)
+public abstract class IntegrationTestBase {
+
+    private static final String EXTERNAL_URL = System.getProperty("it.datasource.url");
+
+    private static PostgreSQLContainer<?> postgres;
+
+    @LocalServerPort
+    protected int port;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        if (EXTERNAL_URL != null) {
+            registry.add("spring.datasource.url", () -> EXTERNAL_URL);
+            registry.add("spring.datasource.username", () -> System.getProperty("it.datasource.username", "test"));
+            registry.add("spring.datasource.password", () -> System.getProperty("it.datasource.password", "test"));
+            return;
+        }
+        registry.add("spring.datasource.url", () -> postgres().getJdbcUrl());
+        registry.add("spring.datasource.username", () -> postgres().getUsername());
+        registry.add("spring.datasource.password", () -> postgres().getPassword());
+    }
+
+    /**
+     * Контейнер запускается при первом обращении и останавливается Testcontainers после JVM.
+     */
+    private static synchronized PostgreSQLContainer<?> postgres() {
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>("postgres:15")
+                    .withDatabaseName("testdb")
+                    .withUsername("test")
+                    .withPassword("test");
+            postgres.start();
+        }
+        return postgres;
+    }
+
+    protected String getBaseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    static class DatabaseAvailable implements ExecutionCondition {
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            if (EXTERNAL_URL != null || DockerClientFactory.instance().isDockerAvailable()) {
+                return ConditionEvaluationResult.enabled("PostgreSQL доступен");
+            }
+            return ConditionEvaluationResult.disabled("Нет Docker и не задан it.datasource.url");
+        }
+    }
+}
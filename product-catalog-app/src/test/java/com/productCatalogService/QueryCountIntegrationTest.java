@@ -0,0 +1,235 @@
+package com.productCatalogService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productCatalogService.dto.UserDTO;
+import com.productCatalogService.entity.Category;
+import com.productCatalogService.entity.Product;
+import com.productCatalogService.repository.CategoryRepository;
+import com.productCatalogService.repository.ProductRepository;
+import com.productCatalogService.repository.UserRepository;
+import com.productCatalogService.service.AuthService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Проверяет количество SQL-выражений на запрос к основным эндпоинтам
+ * по базовой линии {@code query-count-baseline.txt}, чтобы лишние обращения
+ * к базе данных (N+1, повторная загрузка корзины) ломали сборку.
+ */
+@AutoConfigureMockMvc
+@Import(QueryCountIntegrationTest.QueryCountConfig.class)
+class QueryCountIntegrationTest extends IntegrationTestBase {
+
+    private static final String BASELINE = "/query-count-baseline.txt";
+
+    private static Map<String, Expectation> baseline;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String userName;
+    private String token;
+    private Long categoryId;
+    private Long productId;
+    private Long basketProductId;
+
+    @TestConfiguration
+    static class QueryCountConfig {
+        @Bean
+        static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+            return QueryCountingDataSource.wrappingPostProcessor();
+        }
+    }
+
+    @BeforeAll
+    static void loadBaseline() throws IOException {
+        baseline = new HashMap<>();
+        try (InputStream in = QueryCountIntegrationTest.class.getResourceAsStream(BASELINE)) {
+            assertNotNull(in, "Не найден файл " + BASELINE);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\\s+");
+                assertEquals(4, parts.length, "Некорректная строка базовой линии: " + line);
+                baseline.put(parts[0] + " " + parts[1],
+                        new Expectation("==".equals(parts[2]), Integer.parseInt(parts[3])));
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+
+        Category category = new Category();
+        category.setName("query-count-" + suffix);
+        categoryId = categoryRepository.save(category).getId();
+
+        productId = productRepository.save(product("product-a-" + suffix)).getId();
+        Long secondBasketProductId = productRepository.save(product("product-b-" + suffix)).getId();
+        basketProductId = productRepository.save(product("product-c-" + suffix)).getId();
+
+        userName = "qc" + suffix;
+        authService.register(UserDTO.RegisterRequest.builder().userName(userName).password("secret123").build());
+        token = authService.login(UserDTO.LoginRequest.builder().userName(userName).password("secret123").build())
+                .getToken();
+        Long userId = userRepository.findByUsername(userName).orElseThrow().getId();
+        userRepository.addToBasket(userId, basketProductId, 1);
+        userRepository.addToBasket(userId, secondBasketProductId, 1);
+    }
+
+    @Test
+    void getProductById() throws Exception {
+        assertWithinBaseline("GET /products/{id}", get("/products/{id}", productId));
+    }
+
+    @Test
+    void getPaginatedProducts() throws Exception {
+        assertWithinBaseline("GET /products?page=0&size=20", get("/products").param("page", "0").param("size", "20"));
+    }
+
+    @Test
+    void getProductsByCategory() throws Exception {
+        assertWithinBaseline("GET /products/category/{id}", get("/products/category/{id}", categoryId));
+    }
+
+    @Test
+    void getAllCategories() throws Exception {
+        assertWithinBaseline("GET /categories", get("/categories"));
+    }
+
+    @Test
+    void getCategoryById() throws Exception {
+        assertWithinBaseline("GET /categories/{id}", get("/categories/{id}", categoryId));
+    }
+
+    @Test
+    void getUserProfile() throws Exception {
+        assertWithinBaseline("GET /user/profile", get("/user/profile"));
+    }
+
+    @Test
+    void getUserBasket() throws Exception {
+        assertWithinBaseline("GET /user/basket", get("/user/basket"));
+    }
+
+    @Test
+    void getBasketSummary() throws Exception {
+        assertWithinBaseline("GET /user/basket/summary", get("/user/basket/summary"));
+    }
+
+    @Test
+    void validateBasket() throws Exception {
+        assertWithinBaseline("GET /user/basket/validate", get("/user/basket/validate"));
+    }
+
+    @Test
+    void addToBasket() throws Exception {
+        assertWithinBaseline("POST /user/basket/add/{id}", post("/user/basket/add/{id}", productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 1}"));
+    }
+
+    @Test
+    void removeFromBasket() throws Exception {
+        assertWithinBaseline("DELETE /user/basket/remove/{id}", delete("/user/basket/remove/{id}", basketProductId));
+    }
+
+    @Test
+    void login() throws Exception {
+        assertWithinBaseline("POST /auth/login", post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        UserDTO.LoginRequest.builder().userName(userName).password("secret123").build())));
+    }
+
+    /**
+     * Выполняет запрос и сравнивает количество SQL-выражений с базовой линией.
+     *
+     * @param endpoint ключ базовой линии вида {@code "GET /products/{id}"}
+     * @param request  запрос (заголовок Authorization добавляется автоматически)
+     */
+    private void assertWithinBaseline(String endpoint, MockHttpServletRequestBuilder request) throws Exception {
+        Expectation expected = baseline.get(endpoint);
+        assertNotNull(expected, "Нет базовой линии для " + endpoint + " в " + BASELINE);
+
+        List<String> statements;
+        QueryCountingDataSource.start();
+        try {
+            mockMvc.perform(request.header("Authorization", token))
+                    .andExpect(status().is2xxSuccessful());
+        } finally {
+            statements = QueryCountingDataSource.stop();
+        }
+
+        String message = endpoint + ": выполнено " + statements.size() + " SQL-выражений " + statements
+                + ", базовая линия " + expected + " (" + BASELINE + ")";
+        if (expected.exact()) {
+            assertEquals(expected.count(), statements.size(), message);
+        } else {
+            assertTrue(statements.size() <= expected.count(), message);
+        }
+    }
+
+    private Product product(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setQuantity(10);
+        product.setPrice(1000);
+        product.setCategoryId(categoryId);
+        return product;
+    }
+
+    private record Expectation(boolean exact, int count) {
+        @Override
+        public String toString() {
+            return (exact ? "== " : "<= ") + count;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.productCatalogService.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.productCatalogService.entity.Role;
+import com.productCatalogService.entity.User;
+import com.productCatalogService.util.AuthUtil;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActuatorAdminFilterTest {
+
+    @Mock
+    private AuthUtil authUtil;
+
+    @Mock
+    private FilterChain chain;
+
+    private ActuatorAdminFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        DiagnosticsProperties properties = new DiagnosticsProperties();
+        filter = new ActuatorAdminFilter(authUtil, new ObjectMapper().registerModule(new JavaTimeModule()),
+                properties, "/actuator");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/actuator/jfr",
+            "/api/actuator/jfr/",
+            "/api/actuator/jfr/3",
+            "/api/actuator/jfr;x=1",
+            "/api/actuator/jfr;x=1/3",
+            "/api/actuator/%6Afr",
+            "/api/actuator/%6a%66%72",
+            "/api/actuator;x=1/jfr",
+            "/api/actuator/classhistogram",
+            "/api/actuator/class%68istogram;a=b",
+            "/api/actuator/slowqueries",
+            "/api/actuator/auditlog",
+            "/api/actuator/audit%6Cog;a=b"
+    })
+    void protectedEndpoint_WithoutToken_ShouldReturnUnauthorized(String uri) throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request(uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void clearSlowQueries_WithoutToken_ShouldReturnUnauthorized() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/api/actuator/slowqueries");
+        request.setMethod("DELETE");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void protectedEndpoint_WithUserToken_ShouldReturnForbidden() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/api/actuator/%6Afr;x=1");
+        request.addHeader("Authorization", "Bearer user-token");
+        when(authUtil.getUserByAuthHeader("Bearer user-token")).thenReturn(user(Role.USER));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(403, response.getStatus());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void protectedEndpoint_WithAdminToken_ShouldPassThrough() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/api/actuator/jfr");
+        request.addHeader("Authorization", "Bearer admin-token");
+        when(authUtil.getUserByAuthHeader("Bearer admin-token")).thenReturn(user(Role.ADMIN));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        verify(chain).doFilter(request, response);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/actuator/health", "/api/actuator/jfrx", "/api/products", "/api/actuator"})
+    void otherPaths_WithoutToken_ShouldPassThrough(String uri) throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request(uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        verify(chain).doFilter(request, response);
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api");
+        return request;
+    }
+
+    private static User user(Role role) {
+        User user = new User();
+        user.setUserName("user");
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,124 @@
+package com.productCatalogService.repository.impl;
+
+import com.productCatalogService.config.UsernameFilterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameBloomFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UsernameBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // Маленький фильтр с частыми ложными срабатываниями
+        UsernameFilterProperties properties = new UsernameFilterProperties();
+        properties.setExpectedInsertions(4);
+        properties.setFalsePositiveProbability(0.3);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+
+        filter = new UsernameBloomFilter(jdbcTemplate, transactionManager, properties, new SimpleMeterRegistry());
+        filter.rebuild();
+    }
+
+    @Test
+    void removeAfterCommit_WhenAddedByThisInstance_ShouldRemoveName() {
+        // Arrange
+        filter.add("alice");
+
+        // Act
+        filter.removeAfterCommit("alice");
+
+        // Assert
+        assertFalse(filter.mightContain("alice"));
+    }
+
+    @Test
+    void removeAfterCommit_WhenNameWasNeverAdded_ShouldKeepOtherNames() {
+        // Arrange
+        filter.add("alice");
+        String foreign = falsePositive();
+
+        // Act
+        filter.removeAfterCommit(foreign);
+
+        // Assert
+        assertTrue(filter.mightContain("alice"));
+    }
+
+    @Test
+    void removeAfterCommit_WhenRemovedTwice_ShouldKeepOtherNames() {
+        // Arrange
+        filter.add("alice");
+        filter.add("bob");
+        filter.removeAfterCommit("bob");
+
+        // Act
+        filter.removeAfterCommit("bob");
+
+        // Assert
+        assertTrue(filter.mightContain("alice"));
+    }
+
+    @Test
+    void rebuild_WhenUserCommittedAfterScanSnapshot_ShouldAddItFromRescan() throws Exception {
+        // Arrange
+        ResultSet late = mock(ResultSet.class);
+        when(late.getString(1)).thenReturn("carol");
+        AtomicInteger scans = new AtomicInteger();
+        doAnswer(invocation -> {
+            // Основной проход имя не видит, повторный по границе xmin — видит
+            if (scans.incrementAndGet() == 2) {
+                invocation.<RowCallbackHandler>getArgument(1).processRow(late);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        assertEquals(2, scans.get());
+        assertTrue(filter.mightContain("carol"));
+    }
+
+    /**
+     * Имя, для которого фильтр дает ложноположительный ответ: раньше его удаление
+     * уменьшало счетчики «alice».
+     */
+    private String falsePositive() {
+        for (int i = 0; ; i++) {
+            String candidate = "user" + i;
+            if (filter.mightContain(candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.productCatalogService.service.impl;
+
+import com.productCatalogService.config.StatisticsProperties;
+import com.productCatalogService.repository.InventoryAnalyticsRepository;
+import com.productCatalogService.util.AuthUtil;
+import com.productCatalogService.util.InventoryChangeTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryAnalyticsServiceImplTest {
+
+    @Mock
+    private InventoryAnalyticsRepository inventoryAnalyticsRepository;
+
+    @Mock
+    private AuthUtil authUtil;
+
+    private InventoryChangeTracker inventoryChangeTracker;
+    private StatisticsProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        inventoryChangeTracker = new InventoryChangeTracker();
+        properties = new StatisticsProperties();
+        properties.getInventory().setRefreshAfterWrites(10);
+        properties.getInventory().setMaxStaleness(Duration.ofHours(1));
+        lenient().when(inventoryAnalyticsRepository.refresh()).thenReturn(true);
+    }
+
+    @Test
+    void refreshIfNeeded_WhenWritesKeepComing_ShouldWaitForMinInterval() {
+        // Arrange
+        properties.getInventory().setMinRefreshInterval(Duration.ofHours(1));
+        InventoryAnalyticsServiceImpl service = service();
+
+        // Act
+        inventoryChangeTracker.record(10);
+        service.refreshIfNeeded();
+        inventoryChangeTracker.record(10);
+        service.refreshIfNeeded();
+
+        // Assert
+        verify(inventoryAnalyticsRepository, times(1)).refresh();
+        assertEquals(10, inventoryChangeTracker.pending());
+    }
+
+    @Test
+    void refreshIfNeeded_WithoutCooldown_ShouldRefreshOnEveryThreshold() {
+        // Arrange
+        properties.getInventory().setMinRefreshInterval(Duration.ZERO);
+        properties.getInventory().setRefreshCooldownFactor(0);
+        InventoryAnalyticsServiceImpl service = service();
+
+        // Act
+        inventoryChangeTracker.record(10);
+        service.refreshIfNeeded();
+        inventoryChangeTracker.record(10);
+        service.refreshIfNeeded();
+
+        // Assert
+        verify(inventoryAnalyticsRepository, times(2)).refresh();
+    }
+
+    @Test
+    void refreshIfNeeded_BelowThreshold_ShouldNotRefresh() {
+        // Arrange
+        InventoryAnalyticsServiceImpl service = service();
+        inventoryChangeTracker.record(9);
+
+        // Act
+        service.refreshIfNeeded();
+
+        // Assert
+        verify(inventoryAnalyticsRepository, times(0)).refresh();
+    }
+
+    private InventoryAnalyticsServiceImpl service() {
+        return new InventoryAnalyticsServiceImpl(inventoryAnalyticsRepository, inventoryChangeTracker,
+                authUtil, properties, new SimpleMeterRegistry());
+    }
+}
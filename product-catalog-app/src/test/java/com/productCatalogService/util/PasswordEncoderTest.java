@@ -0,0 +1,69 @@
+package com.productCatalogService.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordEncoderTest {
+
+    private static final String PASSWORD = "S3cure-Пароль!";
+
+    private final PasswordEncoder encoder = new PasswordEncoder();
+
+    @Test
+    void encode_ShouldUsePbkdf2Version() {
+        // Act
+        String encoded = encoder.encode(PASSWORD);
+
+        // Assert
+        assertTrue(encoded.startsWith("{v3}"));
+        assertTrue(encoder.matches(PASSWORD, encoded));
+        assertFalse(encoder.matches(PASSWORD + "x", encoded));
+        assertFalse(encoder.needsUpgrade(encoded));
+    }
+
+    @Test
+    void encode_SamePassword_ShouldUseDifferentSalts() {
+        // Act & Assert
+        assertNotEquals(encoder.encode(PASSWORD), encoder.encode(PASSWORD));
+    }
+
+    @Test
+    void matches_WithUnprefixedSha256Hash_ShouldMatchAndNeedUpgrade() throws Exception {
+        // Arrange
+        String encoded = digestHash("SHA-256", "");
+
+        // Act & Assert
+        assertTrue(encoder.matches(PASSWORD, encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertTrue(encoder.needsUpgrade(encoded));
+    }
+
+    @Test
+    void matches_WithSha512Hash_ShouldMatchAndNeedUpgrade() throws Exception {
+        // Arrange
+        String encoded = digestHash("SHA-512", "{v2}");
+
+        // Act & Assert
+        assertTrue(encoder.matches(PASSWORD, encoded));
+        assertTrue(encoder.needsUpgrade(encoded));
+    }
+
+    /**
+     * Хеш в формате ранних версий: {@code префикс соль:digest(соль + пароль)}.
+     */
+    private static String digestHash(String algorithm, String prefix) throws Exception {
+        byte[] salt = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        MessageDigest digest = MessageDigest.getInstance(algorithm);
+        digest.update(salt);
+        byte[] hash = digest.digest(PASSWORD.getBytes(StandardCharsets.UTF_8));
+        Base64.Encoder base64 = Base64.getEncoder();
+        return prefix + base64.encodeToString(salt) + ":" + base64.encodeToString(hash);
+    }
+}
@@ -0,0 +1,141 @@
+package com.productCatalogService.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PooledIdGeneratorTest {
+
+    private static final String SEQUENCE = "seq_schema.products_id_seq";
+    private static final long BLOCK = 50;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PooledIdGenerator generator;
+
+    /**
+     * Значение последовательности с шагом {@link #BLOCK}: 1, 51, 101...
+     */
+    private final AtomicLong sequence = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        generator = new PooledIdGenerator(jdbcTemplate);
+        lenient().when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class),
+                eq("seq_schema"), eq("products_id_seq"))).thenReturn(BLOCK);
+        lenient().when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(SEQUENCE), anyInt()))
+                .thenAnswer(invocation -> {
+                    int blocks = invocation.getArgument(3);
+                    List<Long> starts = new ArrayList<>();
+                    for (int i = 0; i < blocks; i++) {
+                        starts.add(sequence.getAndAdd(BLOCK));
+                    }
+                    return starts;
+                });
+    }
+
+    @Test
+    void nextId_WithinBlock_ShouldNotQueryDatabaseAgain() {
+        // Act
+        long[] ids = LongStream.range(0, BLOCK).map(i -> generator.nextId(SEQUENCE)).toArray();
+
+        // Assert
+        assertArrayEquals(LongStream.rangeClosed(1, BLOCK).toArray(), ids);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), eq(SEQUENCE), eq(1));
+    }
+
+    @Test
+    void nextId_WhenBlockExhausted_ShouldRefillFromNextBlock() {
+        // Arrange
+        for (int i = 0; i < BLOCK; i++) {
+            generator.nextId(SEQUENCE);
+        }
+
+        // Act
+        long id = generator.nextId(SEQUENCE);
+
+        // Assert
+        assertEquals(BLOCK + 1, id);
+        verify(jdbcTemplate, times(2)).queryForList(anyString(), eq(Long.class), eq(SEQUENCE), eq(1));
+    }
+
+    @Test
+    void nextIds_WhenSeveralBlocksNeeded_ShouldRequestThemInOneQuery() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            generator.nextId(SEQUENCE);
+        }
+
+        // Act
+        long[] ids = generator.nextIds(SEQUENCE, 120);
+        long next = generator.nextId(SEQUENCE);
+
+        // Assert
+        assertArrayEquals(LongStream.rangeClosed(11, 130).toArray(), ids);
+        assertEquals(131, next);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), eq(SEQUENCE), eq(2));
+    }
+
+    @Test
+    void nextId_FromManyThreads_ShouldReturnUniqueIds() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 1_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId(SEQUENCE));
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(threads * perThread, ids.size());
+        assertEquals(threads * perThread, ids.stream().mapToLong(Long::longValue).max().orElseThrow());
+    }
+
+    @Test
+    void nextId_WhenSequenceMissing_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> generator.nextId("seq_schema.missing_seq"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.productCatalogService.benchmark;
+
+import com.productCatalogService.entity.Role;
+import com.productCatalogService.entity.User;
+import com.productCatalogService.util.AuthUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск сессии в {@link AuthUtil} на каждом запросе с токеном: {@code getUserByAuthHeader}
+ * (разбор заголовка и поиск), проверка роли и запрос с неизвестным токеном. Все потоки
+ * читают одну общую таблицу сессий; по умолчанию 8 потоков, число меняется через {@code -t}.
+ *
+ * <p>Группа {@code loginLogout} — 7 потоков поиска и поток, который непрерывно выполняет
+ * вход и выход (запись и удаление сессии): поиск при одновременной записи в таблицу.
+ * Без записи бенчмарк не отличил бы потокобезопасную таблицу от обычного {@code HashMap}.</p>
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar AuthSessionBenchmark
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar AuthSessionBenchmark -t 1
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class AuthSessionBenchmark {
+
+    @Param({"100", "10000"})
+    public int sessionCount;
+
+    private AuthUtil authUtil;
+    private String[] authHeaders;
+
+    @Setup
+    public void setUp() {
+        authUtil = new AuthUtil();
+        authHeaders = new String[sessionCount];
+        for (int i = 0; i < sessionCount; i++) {
+            User user = new User();
+            user.setId((long) i + 1);
+            user.setUserName("user" + i);
+            user.setRole(i % 10 == 0 ? Role.ADMIN : Role.USER);
+            String token = authUtil.generateToken(user.getUserName());
+            authUtil.addSession(token, user);
+            authHeaders[i] = "Bearer " + token;
+        }
+    }
+
+    @Benchmark
+    public User getUserByAuthHeader() {
+        return authUtil.getUserByAuthHeader(randomHeader());
+    }
+
+    @Benchmark
+    public boolean hasAdminRole() {
+        return authUtil.hasRole(randomHeader(), Role.ADMIN);
+    }
+
+    @Benchmark
+    public User unknownToken() {
+        return authUtil.getUserByAuthHeader("Bearer dW5rbm93bjox");
+    }
+
+    @Benchmark
+    @Group("loginLogout")
+    @GroupThreads(7)
+    public User lookupDuringLogins() {
+        return authUtil.getUserByAuthHeader(randomHeader());
+    }
+
+    @Benchmark
+    @Group("loginLogout")
+    @GroupThreads(1)
+    public User loginLogout(Logins logins) {
+        String token = logins.nextToken();
+        authUtil.addSession(token, logins.user);
+        return authUtil.removeSession(token);
+    }
+
+    /**
+     * Токены потока входа: заранее созданы, чтобы в замер не попадало кодирование Base64.
+     */
+    @State(Scope.Thread)
+    public static class Logins {
+
+        private static final int TOKENS = 1024;
+
+        private final String[] tokens = new String[TOKENS];
+        private final User user = new User();
+        private int next;
+
+        @Setup
+        public void setUp() {
+            user.setId(-1L);
+            user.setUserName("writer");
+            user.setRole(Role.USER);
+            AuthUtil tokenGenerator = new AuthUtil();
+            for (int i = 0; i < TOKENS; i++) {
+                tokens[i] = tokenGenerator.generateToken("writer" + i);
+            }
+        }
+
+        String nextToken() {
+            String token = tokens[next];
+            next = (next + 1) % TOKENS;
+            return token;
+        }
+    }
+
+    private String randomHeader() {
+        return authHeaders[ThreadLocalRandom.current().nextInt(authHeaders.length)];
+    }
+}
@@ -0,0 +1,59 @@
+package com.productCatalogService.benchmark;
+
+import com.productCatalogService.dto.BasketDTO;
+import com.productCatalogService.entity.Product;
+import com.productCatalogService.mapper.BasketMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BasketMapper}: полная корзина ({@code GET /basket}) и сводка ({@code GET /basket/summary})
+ * для корзин разного размера.
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar BasketMapperBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BasketMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int basketSize;
+
+    private BasketMapper mapper;
+    private Map<Long, Product> basket;
+
+    @Setup
+    public void setUp() {
+        mapper = new BasketMapper();
+        basket = BenchmarkData.basket(basketSize);
+    }
+
+    @Benchmark
+    public BasketDTO toBasketDTO() {
+        return mapper.toBasketDTO(basket);
+    }
+
+    @Benchmark
+    public BasketDTO.BasketSummary toSummaryFromProducts() {
+        return mapper.toSummaryFromProducts(basket);
+    }
+}
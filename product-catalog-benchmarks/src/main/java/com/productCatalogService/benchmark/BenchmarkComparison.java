@@ -0,0 +1,87 @@
+package com.productCatalogService.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Сравнивает два JSON-файла результатов JMH (например, предыдущего и текущего релиза) и
+ * выводит изменение каждого бенчмарка. Изменение в худшую сторону больше порога (по
+ * умолчанию 10%) и больше суммы погрешностей обоих измерений считается регрессией; при
+ * наличии регрессий программа завершается с кодом 1, чтобы проверку можно было встроить в CI.
+ *
+ * <pre>
+ * java -cp product-catalog-benchmarks/target/benchmarks.jar \
+ *     com.productCatalogService.benchmark.BenchmarkComparison baseline.json current.json [порог%]
+ * </pre>
+ */
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Использование: BenchmarkComparison <baseline.json> <current.json> [порог%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %14.3f %-8s (новый)%n", entry.getKey(), after.value(), after.unit());
+                continue;
+            }
+            double change = (after.value() - before.value()) / before.value();
+            // Для пропускной способности хуже — меньше, для времени на операцию — больше
+            double worse = after.higherIsBetter() ? -change : change;
+            boolean regression = worse > threshold
+                    && Math.abs(after.value() - before.value()) > before.error() + after.error();
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f -> %14.3f %-8s %+7.1f%%%s%n", entry.getKey(), before.value(),
+                    after.value(), after.unit(), change * 100, regression ? "  РЕГРЕССИЯ" : "");
+        }
+        System.out.printf("Регрессий: %d (порог %.0f%%)%n", regressions, threshold * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            key.append(" [").append(result.path("mode").asText()).append(", t=")
+                    .append(result.path("threads").asInt());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            key.append(']');
+
+            JsonNode metric = result.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.path("scoreUnit").asText(),
+                    "thrpt".equals(result.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    private record Score(double value, double error, String unit, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.productCatalogService.benchmark;
+
+import com.productCatalogService.entity.Product;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Детерминированные тестовые данные для бенчмарков: одинаковый набор при каждом запуске,
+ * чтобы результаты разных версий были сравнимы.
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Товары с идентификаторами {@code 1..count}, названиями длиной 20-40 символов,
+     * количеством 0-99 и ценой 1-99999.
+     */
+    static List<Product> products(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Product> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Product product = new Product();
+            product.setId(id);
+            product.setName("Товар " + id + " " + "x".repeat(random.nextInt(14, 34)));
+            product.setQuantity(random.nextInt(0, 100));
+            product.setPrice(random.nextInt(1, 100_000));
+            product.setCategoryId(random.nextLong(1, 20));
+            products.add(product);
+        }
+        return products;
+    }
+
+    /**
+     * Корзина в форме {@code UserRepository.getBasket}: идентификатор товара и товар,
+     * у которого {@code quantity} — количество в корзине.
+     */
+    static Map<Long, Product> basket(int size) {
+        Map<Long, Product> basket = new LinkedHashMap<>();
+        for (Product product : products(size)) {
+            product.setQuantity(product.getQuantity() % 5 + 1);
+            basket.put(product.getId(), product);
+        }
+        return basket;
+    }
+}
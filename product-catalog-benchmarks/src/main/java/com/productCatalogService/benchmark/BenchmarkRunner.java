@@ -0,0 +1,68 @@
+package com.productCatalogService.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Точка входа {@code benchmarks.jar}: принимает обычные параметры JMH и, если формат
+ * результатов не задан ({@code -rf}/{@code -rff}), сохраняет их в JSON
+ * {@code jmh-results/<версия>-<время>.json}. Файлы разных версий сравнивает
+ * {@link BenchmarkComparison}.
+ *
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar BasketMapperBenchmark -prof gc
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar -rff build/jmh.json
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    static final Path RESULTS_DIRECTORY = Path.of("jmh-results");
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            // Справка и списки выводит штатная точка входа JMH
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getResultFormat().hasValue() || commandLine.getResult().hasValue()) {
+            if (!commandLine.getResultFormat().hasValue()) {
+                options.resultFormat(ResultFormatType.JSON);
+            }
+        } else {
+            Files.createDirectories(RESULTS_DIRECTORY);
+            Path result = RESULTS_DIRECTORY.resolve(version() + "-" + LocalDateTime.now().format(TIMESTAMP) + ".json");
+            options.resultFormat(ResultFormatType.JSON).result(result.toString());
+            System.out.println("Результаты: " + result.toAbsolutePath());
+        }
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Версия модуля из манифеста {@code benchmarks.jar}; при запуске из IDE — {@code dev}.
+     */
+    static String version() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+}
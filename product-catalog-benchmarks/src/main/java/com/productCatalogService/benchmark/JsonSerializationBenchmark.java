@@ -0,0 +1,73 @@
+package com.productCatalogService.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.productCatalogService.dto.ProductPageDTO;
+import com.productCatalogService.mapper.ProductMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сериализация страницы каталога {@link ProductPageDTO} ({@code GET /products?page=&size=}) в JSON.
+ *
+ * <p>{@link ObjectMapper} собирается {@link Jackson2ObjectMapperBuilder} с настройками по умолчанию,
+ * как в приложении. {@code writeValueAsBytes} — путь HTTP-ответа, {@code writeValueAsString}
+ * дополнительно создает строку.</p>
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar JsonSerializationBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private ProductPageDTO page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(ProductPageDTO.class);
+
+        page = new ProductPageDTO();
+        page.setProducts(new ProductMapperImpl().toDTOList(BenchmarkData.products(pageSize)));
+        page.setPage(3);
+        page.setSize(pageSize);
+        page.setTotalProducts(25_000);
+        page.setTotalPages((25_000 + pageSize - 1) / pageSize);
+        page.setHasNext(true);
+        page.setHasPrevious(true);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public String writeValueAsString() throws JsonProcessingException {
+        return writer.writeValueAsString(page);
+    }
+}
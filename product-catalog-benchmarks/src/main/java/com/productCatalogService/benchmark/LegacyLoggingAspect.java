@@ -0,0 +1,67 @@
+package com.productCatalogService.benchmark;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StopWatch;
+
+import java.util.Arrays;
+
+/**
+ * Исходный {@code LoggingAspect} модуля audit-logging-autoconfig (до замены на
+ * {@code MethodTimingInterceptor}), сохраненный как базовая линия для сравнения
+ * в бенчмарках. Точка среза сужена до целевого класса бенчмарка, логика совета не изменена.
+ */
+@Aspect
+public class LegacyLoggingAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyLoggingAspect.class);
+
+    @Pointcut("execution(* com.productCatalogService.benchmark.MethodTimingBenchmark.CatalogService.*(..))")
+    public void serviceMethods() {}
+
+    @Around("serviceMethods()")
+    public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!log.isDebugEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        Object[] args = joinPoint.getArgs();
+
+        log.debug("Entering method [{}.{}] with arguments: {}",
+                className, methodName, Arrays.toString(args));
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+
+        try {
+            Object result = joinPoint.proceed();
+            stopWatch.stop();
+
+            log.debug("Exiting method [{}.{}] with result: {} (execution time: {} ms)",
+                    className, methodName, result, stopWatch.getTotalTimeMillis());
+
+            return result;
+        } catch (Exception e) {
+            stopWatch.stop();
+            log.error("Exception in method [{}.{}] after {} ms: {}",
+                    className, methodName, stopWatch.getTotalTimeMillis(), e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @AfterThrowing(pointcut = "serviceMethods()", throwing = "exception")
+    public void logException(JoinPoint joinPoint, Throwable exception) {
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+
+        log.error("Exception in [{}.{}]: {}", className, methodName, exception.getMessage(), exception);
+    }
+}
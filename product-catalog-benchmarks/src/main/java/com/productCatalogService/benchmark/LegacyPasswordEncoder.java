@@ -0,0 +1,70 @@
+package com.productCatalogService.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Исходная реализация {@code PasswordEncoder} (до версии с переиспользуемыми
+ * экземплярами), сохраненная как базовая линия для сравнения в бенчмарках.
+ * На каждый вызов создает {@link SecureRandom} и {@link MessageDigest},
+ * а {@link #matches} использует {@code String.split} и два декодирования Base64.
+ */
+public class LegacyPasswordEncoder {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int SALT_LENGTH = 16;
+    private static final String DELIMITER = ":";
+
+    public String encode(CharSequence rawPassword) {
+        try {
+            byte[] salt = generateSalt();
+            byte[] hash = hashWithSalt(rawPassword.toString(), salt);
+
+            String saltBase64 = Base64.getEncoder().encodeToString(salt);
+            String hashBase64 = Base64.getEncoder().encodeToString(hash);
+
+            return saltBase64 + DELIMITER + hashBase64;
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Ошибка при кодировании пароля: алгоритм не найден", e);
+        }
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        try {
+            if (encodedPassword == null || !encodedPassword.contains(DELIMITER)) {
+                return false;
+            }
+
+            String[] parts = encodedPassword.split(DELIMITER);
+            if (parts.length != 2) {
+                return false;
+            }
+
+            byte[] salt = Base64.getDecoder().decode(parts[0]);
+            byte[] storedHash = Base64.getDecoder().decode(parts[1]);
+
+            byte[] inputHash = hashWithSalt(rawPassword.toString(), salt);
+
+            return MessageDigest.isEqual(storedHash, inputHash);
+        } catch (NoSuchAlgorithmException | IllegalArgumentException e) {
+            throw new RuntimeException("Ошибка при проверке пароля", e);
+        }
+    }
+
+    private byte[] generateSalt() {
+        SecureRandom random = new SecureRandom();
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        return salt;
+    }
+
+    private byte[] hashWithSalt(String password, byte[] salt) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+        digest.update(salt);
+        digest.update(password.getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+}
@@ -0,0 +1,107 @@
+package com.productCatalogService.benchmark;
+
+import com.productCatalogService.audit.autoconfig.aspect.MethodTimingInterceptor;
+import com.productCatalogService.audit.autoconfig.config.AuditProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Накладные расходы замеров методов: вызов без прокси, исходный {@link LegacyLoggingAspect}
+ * (DEBUG выключен, как в production) и {@link MethodTimingInterceptor} с разной долей замеров.
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar MethodTimingBenchmark -prof gc
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar MethodTimingBenchmark -t 8
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MethodTimingBenchmark {
+
+    private static final String POINTCUT =
+            "execution(* com.productCatalogService.benchmark.MethodTimingBenchmark.CatalogService.*(..))";
+
+    @Param({"0.0", "0.01", "0.1", "1.0"})
+    public double sampleRate;
+
+    private CatalogService direct;
+    private CatalogService legacyAspect;
+    private CatalogService timed;
+
+    /**
+     * Целевой класс с результатом-коллекцией, как у методов сервисов каталога.
+     */
+    public static class CatalogService {
+        private final List<Long> products = LongStream.range(0, 50).boxed().toList();
+
+        public List<Long> findByCategoryId(Long categoryId) {
+            return products;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        direct = new CatalogService();
+
+        AspectJProxyFactory legacyFactory = new AspectJProxyFactory(new CatalogService());
+        legacyFactory.setProxyTargetClass(true);
+        legacyFactory.addAspect(LegacyLoggingAspect.class);
+        legacyAspect = legacyFactory.getProxy();
+
+        AuditProperties.LoggingProperties properties = new AuditProperties.LoggingProperties();
+        properties.setSampleRate(sampleRate);
+        StaticListableBeanFactory beanFactory =
+                new StaticListableBeanFactory(Map.of("meterRegistry", new SimpleMeterRegistry()));
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(POINTCUT);
+        ProxyFactory timedFactory = new ProxyFactory(new CatalogService());
+        timedFactory.setProxyTargetClass(true);
+        timedFactory.addAdvisor(new DefaultPointcutAdvisor(pointcut,
+                new MethodTimingInterceptor(beanFactory.getBeanProvider(MeterRegistry.class), properties)));
+        timed = (CatalogService) timedFactory.getProxy();
+    }
+
+    @Benchmark
+    public List<Long> direct() {
+        return direct.findByCategoryId(1L);
+    }
+
+    /**
+     * Не зависит от {@code sampleRate}; повторяется для каждого значения как базовая линия.
+     */
+    @Benchmark
+    public List<Long> legacyAspect() {
+        return legacyAspect.findByCategoryId(1L);
+    }
+
+    @Benchmark
+    public List<Long> timed() {
+        return timed.findByCategoryId(1L);
+    }
+}
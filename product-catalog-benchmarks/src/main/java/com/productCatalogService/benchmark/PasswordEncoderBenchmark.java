@@ -0,0 +1,82 @@
+package com.productCatalogService.benchmark;
+
+import com.productCatalogService.util.PasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение исходной реализации {@link LegacyPasswordEncoder} с текущим {@link PasswordEncoder}.
+ *
+ * <p>{@code encode} и {@code matches} текущей версии — PBKDF2 с
+ * {@value PasswordEncoder#PBKDF2_ITERATIONS} итерациями и намеренно медленнее исходного
+ * SHA-256 на несколько порядков; переиспользование экземпляров и буферов видно
+ * на {@code matchesLegacyFormat} против {@code legacyMatches}.</p>
+ *
+ * <p>Запуск (аллокации на операцию видны с профилировщиком gc):</p>
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar PasswordEncoderBenchmark -prof gc
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar PasswordEncoderBenchmark -t 8
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "S3cure-Passw0rd!";
+
+    private LegacyPasswordEncoder legacyEncoder;
+    private PasswordEncoder encoder;
+
+    private String legacyEncoded;
+    private String currentEncoded;
+
+    @Setup
+    public void setUp() {
+        legacyEncoder = new LegacyPasswordEncoder();
+        encoder = new PasswordEncoder();
+        legacyEncoded = legacyEncoder.encode(PASSWORD);
+        currentEncoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String legacyEncode() {
+        return legacyEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean legacyMatches() {
+        return legacyEncoder.matches(PASSWORD, legacyEncoded);
+    }
+
+    /**
+     * Проверка пароля исходного формата новой реализацией (путь до перехеширования при входе).
+     */
+    @Benchmark
+    public boolean matchesLegacyFormat() {
+        return encoder.matches(PASSWORD, legacyEncoded);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, currentEncoded);
+    }
+}
@@ -0,0 +1,55 @@
+package com.productCatalogService.benchmark;
+
+import com.productCatalogService.dto.ProductDTO;
+import com.productCatalogService.entity.Product;
+import com.productCatalogService.mapper.ProductMapper;
+import com.productCatalogService.mapper.ProductMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сгенерированный MapStruct {@link ProductMapper#toDTOList(List)} для страниц каталога
+ * размером по умолчанию, максимальным ({@code app.pagination}) и для полной выгрузки.
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar ProductMapperBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int productCount;
+
+    private ProductMapper mapper;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        mapper = new ProductMapperImpl();
+        products = BenchmarkData.products(productCount);
+    }
+
+    @Benchmark
+    public List<ProductDTO> toDTOList() {
+        return mapper.toDTOList(products);
+    }
+}
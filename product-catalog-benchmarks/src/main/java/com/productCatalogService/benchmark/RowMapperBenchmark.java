@@ -0,0 +1,155 @@
+package com.productCatalogService.benchmark;
+
+import com.productCatalogService.dto.InventoryAnalyticsDTO;
+import com.productCatalogService.entity.Category;
+import com.productCatalogService.entity.Product;
+import com.productCatalogService.entity.User;
+import com.productCatalogService.repository.impl.CategoryRepositoryImpl;
+import com.productCatalogService.repository.impl.InventoryAnalyticsRepositoryImpl;
+import com.productCatalogService.repository.impl.ProductRepositoryImpl;
+import com.productCatalogService.repository.impl.UserRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Лямбды {@link RowMapper} репозиториев на одной строке результата.
+ *
+ * <p>Мапперы берутся из экземпляров репозиториев (поля приватные), строка — заглушка
+ * {@link ResultSet} на {@link Proxy} со значениями колонок в {@link HashMap}. Стоимость
+ * самой заглушки показывает {@link #resultSetBaseline()}: чтение тех же пяти колонок, что у
+ * товара, без создания сущности; ее нужно вычитать из результатов мапперов.</p>
+ *
+ * <p>Запуск:</p>
+ * <pre>
+ * java -jar product-catalog-benchmarks/target/benchmarks.jar RowMapperBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    private RowMapper<Product> productRowMapper;
+    private RowMapper<User> userRowMapper;
+    private RowMapper<Category> categoryRowMapper;
+    private RowMapper<InventoryAnalyticsDTO.ProductSummary> productSummaryRowMapper;
+    private RowMapper<InventoryAnalyticsDTO.CategorySummary> categorySummaryRowMapper;
+
+    private ResultSet productRow;
+    private ResultSet userRow;
+    private ResultSet categoryRow;
+    private ResultSet productSummaryRow;
+    private ResultSet categorySummaryRow;
+
+    @Setup
+    public void setUp() {
+        productRowMapper = rowMapper(ProductRepositoryImpl.class, "productRowMapper");
+        userRowMapper = rowMapper(UserRepositoryImpl.class, "userRowMapper");
+        categoryRowMapper = rowMapper(CategoryRepositoryImpl.class, "categoryRowMapper");
+        productSummaryRowMapper = rowMapper(InventoryAnalyticsRepositoryImpl.class, "productSummaryRowMapper");
+        categorySummaryRowMapper = rowMapper(InventoryAnalyticsRepositoryImpl.class, "categorySummaryRowMapper");
+
+        productRow = row(Map.of("id", 12345L, "name", "Смартфон Galaxy S24 Ultra 256 ГБ",
+                "quantity", 42, "price", 9_999_900, "category_id", 7L));
+        userRow = row(Map.of("id", 77L, "user_name", "customer77",
+                "password", "v2$c2FsdHNhbHRzYWx0$aGFzaGhhc2hoYXNoaGFzaA==", "role", "USER"));
+        categoryRow = row(Map.of("id", 7L, "name", "Смартфоны"));
+        productSummaryRow = row(Map.of("product_id", 12345L, "name", "Смартфон Galaxy S24 Ultra 256 ГБ",
+                "category_id", 7L, "quantity", 42, "stock_value", 419_995_800L,
+                "reserved_units", 5L, "basket_users", 3L));
+        categorySummaryRow = row(Map.of("category_id", 7L, "category_name", "Смартфоны",
+                "product_count", 120L, "total_units", 4_800L, "inventory_value", 2_400_000_000L,
+                "reserved_units", 35L));
+    }
+
+    @Benchmark
+    public Product product() throws SQLException {
+        return productRowMapper.mapRow(productRow, 0);
+    }
+
+    @Benchmark
+    public User user() throws SQLException {
+        return userRowMapper.mapRow(userRow, 0);
+    }
+
+    @Benchmark
+    public Category category() throws SQLException {
+        return categoryRowMapper.mapRow(categoryRow, 0);
+    }
+
+    @Benchmark
+    public InventoryAnalyticsDTO.ProductSummary productSummary() throws SQLException {
+        return productSummaryRowMapper.mapRow(productSummaryRow, 0);
+    }
+
+    @Benchmark
+    public InventoryAnalyticsDTO.CategorySummary categorySummary() throws SQLException {
+        return categorySummaryRowMapper.mapRow(categorySummaryRow, 0);
+    }
+
+    /**
+     * Чтение колонок товара из заглушки без создания сущности.
+     */
+    @Benchmark
+    public long resultSetBaseline() throws SQLException {
+        return productRow.getLong("id") + productRow.getString("name").length() + productRow.getInt("quantity")
+                + productRow.getInt("price") + productRow.getLong("category_id");
+    }
+
+    /**
+     * Создает репозиторий без зависимостей (мапперы их не используют) и возвращает его поле-маппер.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> RowMapper<T> rowMapper(Class<?> repositoryType, String fieldName) {
+        try {
+            Constructor<?> constructor = repositoryType.getDeclaredConstructors()[0];
+            Object repository = constructor.newInstance(new Object[constructor.getParameterCount()]);
+            Field field = ReflectionUtils.findField(repositoryType, fieldName);
+            if (field == null) {
+                throw new IllegalStateException(repositoryType.getSimpleName() + " не содержит поле " + fieldName);
+            }
+            ReflectionUtils.makeAccessible(field);
+            return (RowMapper<T>) field.get(repository);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не удалось получить " + fieldName, e);
+        }
+    }
+
+    /**
+     * Заглушка строки: поддерживает {@code getLong}, {@code getInt} и {@code getString} по имени колонки.
+     */
+    private static ResultSet row(Map<String, Object> values) {
+        Map<String, Object> columns = new HashMap<>(values);
+        return (ResultSet) Proxy.newProxyInstance(RowMapperBenchmark.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getLong" -> ((Number) columns.getOrDefault((String) args[0], 0L)).longValue();
+                    case "getInt" -> ((Number) columns.getOrDefault((String) args[0], 0)).intValue();
+                    case "getString" -> (String) columns.get((String) args[0]);
+                    case "wasNull" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
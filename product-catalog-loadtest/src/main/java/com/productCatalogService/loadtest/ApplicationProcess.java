@@ -0,0 +1,126 @@
+package com.productCatalogService.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Приложение, запущенное отдельным процессом JVM из исполняемого jar.
+ *
+ * <p>Процесс запускается на свободном порту с отключенным ограничителем входа; вывод
+ * пишется в файл рядом с отчетами. Готовность определяется по
+ * {@code /actuator/health/readiness}, то есть после прогрева приложения.</p>
+ */
+@Slf4j
+public final class ApplicationProcess implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Process process;
+    private final String baseUrl;
+
+    private ApplicationProcess(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Запускает приложение и ждет его готовности.
+     *
+     * @param output файл вывода процесса
+     */
+    public static ApplicationProcess start(LoadTestProperties.Target target, String jdbcUrl, Path output)
+            throws IOException, InterruptedException {
+        Path jar = target.getApplicationJar();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Не найден jar приложения " + jar.toAbsolutePath()
+                    + " (mvn -pl product-catalog-app -am package или loadtest.target.application-jar)");
+        }
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(target.getJvmArgs());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--spring.datasource.url=" + jdbcUrl);
+        command.add("--spring.datasource.username=" + target.getUsername());
+        command.add("--spring.datasource.password=" + target.getPassword());
+        command.add("--server.port=" + port);
+        command.add("--app.security.login-rate-limit.enabled=false");
+        command.add("--logging.level.root=WARN");
+        command.add("--logging.level.com.productCatalogService=INFO");
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+        ApplicationProcess application = new ApplicationProcess(process, "http://localhost:" + port + "/api");
+        log.info("Приложение запускается (pid {}, порт {}), вывод: {}", process.pid(), port, output.toAbsolutePath());
+        try {
+            application.awaitReadiness(target.getStartupTimeout());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    /**
+     * Базовый адрес API, например {@code http://localhost:41234/api}.
+     */
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    private void awaitReadiness(Duration timeout) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(POLL_INTERVAL).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long started = System.nanoTime();
+        long deadline = started + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Процесс приложения завершился с кодом " + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("Приложение готово через {} мс", (System.nanoTime() - started) / 1_000_000);
+                    return;
+                }
+            } catch (IOException e) {
+                // Порт еще не открыт
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Приложение не стало готовым за " + timeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
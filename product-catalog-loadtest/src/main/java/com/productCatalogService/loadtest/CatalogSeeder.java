@@ -0,0 +1,212 @@
+package com.productCatalogService.loadtest;
+
+import com.productCatalogService.util.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+
+/**
+ * Заполняет базу синтетическим каталогом через {@code COPY ... FROM STDIN}: категории, товары,
+ * пользователей {@code user1..userN} и администратора {@code admin} с одним паролем, корзины.
+ *
+ * <p>Строки генерируются потоком и отправляются блоками, поэтому объем данных не ограничен
+ * памятью. Генератор детерминирован ({@code random-seed}): идентификаторы — {@code 1..N}, и
+ * сценарии нагрузки выбирают существующие записи без запросов к базе. Схему создает приложение
+ * (Liquibase), поэтому заполнение выполняется после его первого запуска.</p>
+ */
+@Slf4j
+public class CatalogSeeder {
+
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private static final String[] ADJECTIVES = {"Компактный", "Беспроводной", "Профессиональный", "Умный",
+            "Складной", "Портативный", "Классический", "Игровой", "Детский", "Садовый"};
+    private static final String[] NOUNS = {"смартфон", "ноутбук", "чайник", "рюкзак", "фонарь", "стол",
+            "пылесос", "велосипед", "монитор", "конструктор", "светильник", "термос"};
+
+    private final LoadTestProperties.Dataset dataset;
+
+    public CatalogSeeder(LoadTestProperties.Dataset dataset) {
+        this.dataset = dataset;
+    }
+
+    /**
+     * Идентификатор администратора: следующий после синтетических пользователей.
+     */
+    public static long adminId(LoadTestProperties.Dataset dataset) {
+        return dataset.getUsers() + 1L;
+    }
+
+    public void seed(String jdbcUrl, String username, String password) throws SQLException {
+        long started = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+            connection.setAutoCommit(false);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            SplittableRandom random = new SplittableRandom(dataset.getRandomSeed());
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE entity.user_basket, entity.users, entity.products, entity.categories");
+            }
+            copyCategories(copyManager);
+            copyProducts(copyManager, random);
+            copyUsers(copyManager);
+            long basketRows = copyBaskets(copyManager, random);
+
+            adjustSequence(connection, "seq_schema.categories_id_seq", dataset.getCategories());
+            adjustSequence(connection, "seq_schema.products_id_seq", dataset.getProducts());
+            adjustSequence(connection, "seq_schema.users_id_seq", adminId(dataset));
+            connection.commit();
+
+            connection.setAutoCommit(true);
+            refreshAnalytics(connection);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE entity.categories, entity.products, entity.users, entity.user_basket");
+            }
+            log.info("Каталог загружен за {} с: категорий {}, товаров {}, пользователей {}, строк корзин {}",
+                    (System.nanoTime() - started) / 1_000_000_000, dataset.getCategories(), dataset.getProducts(),
+                    dataset.getUsers() + 1, basketRows);
+        }
+    }
+
+    private void copyCategories(CopyManager copyManager) throws SQLException {
+        try (CsvCopy copy = new CsvCopy(copyManager, "entity.categories (id, name)")) {
+            for (long id = 1; id <= dataset.getCategories(); id++) {
+                copy.row(id, "Категория " + id);
+            }
+        }
+    }
+
+    private void copyProducts(CopyManager copyManager, SplittableRandom random) throws SQLException {
+        try (CsvCopy copy = new CsvCopy(copyManager, "entity.products (id, name, quantity, price, category_id)")) {
+            for (long id = 1; id <= dataset.getProducts(); id++) {
+                String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                        + NOUNS[random.nextInt(NOUNS.length)] + " " + id;
+                // Большие остатки, чтобы добавления в корзину за время теста не исчерпали склад
+                copy.row(id, name, random.nextInt(10_000, 1_000_000), random.nextInt(100, 10_000_000),
+                        random.nextLong(1, dataset.getCategories() + 1L));
+            }
+        }
+    }
+
+    private void copyUsers(CopyManager copyManager) throws SQLException {
+        String hash = new PasswordEncoder().encode(dataset.getPassword());
+        try (CsvCopy copy = new CsvCopy(copyManager, "entity.users (id, user_name, password, role)")) {
+            for (long id = 1; id <= dataset.getUsers(); id++) {
+                copy.row(id, "user" + id, hash, "USER");
+            }
+            copy.row(adminId(dataset), "admin", hash, "ADMIN");
+        }
+    }
+
+    private long copyBaskets(CopyManager copyManager, SplittableRandom random) throws SQLException {
+        long rows = 0;
+        long[] chosen = new long[dataset.getMaxBasketItems()];
+        try (CsvCopy copy = new CsvCopy(copyManager, "entity.user_basket (user_id, product_id, quantity)")) {
+            for (long userId = 1; userId <= dataset.getUsers(); userId++) {
+                int items = random.nextInt(dataset.getMaxBasketItems() + 1);
+                for (int i = 0; i < items; i++) {
+                    long productId = random.nextLong(1, dataset.getProducts() + 1L);
+                    if (contains(chosen, i, productId)) {
+                        continue;
+                    }
+                    chosen[i] = productId;
+                    copy.row(userId, productId, random.nextInt(1, 4));
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static boolean contains(long[] values, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Сдвигает последовательность за загруженные идентификаторы, чтобы вставки приложения
+     * (блоки {@code PooledIdGenerator}) не пересекались с ними.
+     */
+    private static void adjustSequence(Connection connection, String sequence, long maxId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT setval(?::regclass, ?)")) {
+            statement.setString(1, sequence);
+            statement.setLong(2, maxId);
+            statement.execute();
+        }
+    }
+
+    private static void refreshAnalytics(Connection connection) throws SQLException {
+        for (String view : new String[]{"entity.inventory_product_summary", "entity.inventory_category_summary"}) {
+            try (PreparedStatement exists = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+                exists.setString(1, view);
+                try (ResultSet rs = exists.executeQuery()) {
+                    if (!rs.next() || !rs.getBoolean(1)) {
+                        continue;
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("REFRESH MATERIALIZED VIEW " + view);
+            }
+        }
+    }
+
+    /**
+     * Поток строк CSV в одну команду {@code COPY}; данные отправляются блоками по 1 МБ.
+     */
+    private static final class CsvCopy implements AutoCloseable {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+
+        private CsvCopy(CopyManager copyManager, String table) throws SQLException {
+            this.copyIn = copyManager.copyIn("COPY " + table + " FROM STDIN WITH (FORMAT csv, ENCODING 'UTF8')");
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                // Синтетические значения не содержат запятых, кавычек и переводов строк
+                buffer.append(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.productCatalogService.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Задержки и счетчики по эндпоинтам.
+ *
+ * <p>Задержка первого запроса сценария отсчитывается от запланированного момента отправки, а не
+ * от фактического: если генератор или клиент не успевают, ожидание входит в результат (без
+ * coordinated omission). Запросы, запланированные до начала измерения, не учитываются.</p>
+ */
+public class LoadStatistics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, EndpointStatistics> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile long measureFromNanos = Long.MAX_VALUE;
+
+    /**
+     * Начинает измерение: все, что запланировано раньше {@code nanoTime}, отбрасывается.
+     */
+    public void startMeasurement(long nanoTime) {
+        measureFromNanos = nanoTime;
+        endpoints.values().forEach(EndpointStatistics::reset);
+        rejected.reset();
+    }
+
+    /**
+     * Записывает завершенный запрос.
+     *
+     * @param endpoint       метод и шаблон пути, например {@code GET /products/{id}}
+     * @param scheduledNanos момент запланированной отправки первого запроса сценария
+     * @param startNanos     момент, от которого считается задержка этого запроса
+     * @param success        ответ 2xx
+     */
+    public void record(String endpoint, long scheduledNanos, long startNanos, boolean success) {
+        if (scheduledNanos < measureFromNanos) {
+            return;
+        }
+        long micros = Math.max(1, (System.nanoTime() - startNanos) / 1_000);
+        EndpointStatistics statistics = endpoints.computeIfAbsent(endpoint, name -> new EndpointStatistics());
+        statistics.latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            statistics.errors.increment();
+        }
+    }
+
+    /**
+     * Учитывает запрос, не отправленный из-за предела {@code max-in-flight}.
+     */
+    public void reject(long scheduledNanos) {
+        if (scheduledNanos >= measureFromNanos) {
+            rejected.increment();
+        }
+    }
+
+    /**
+     * Возвращает результаты за период измерения длительностью {@code measuredNanos}.
+     */
+    public Report report(long measuredNanos) {
+        double seconds = measuredNanos / 1e9;
+        List<EndpointReport> rows = new ArrayList<>();
+        endpoints.forEach((endpoint, statistics) -> {
+            // Ошибка записывается после задержки: при ответах, пришедших во время отчета,
+            // ошибок не окажется больше, чем запросов
+            long errors = statistics.errors.sum();
+            Histogram latency = statistics.latency.copy();
+            rows.add(new EndpointReport(endpoint, latency.getTotalCount(), errors,
+                    latency.getTotalCount() / seconds,
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue())));
+        });
+        rows.sort((a, b) -> Long.compare(b.count(), a.count()));
+        long total = rows.stream().mapToLong(EndpointReport::count).sum();
+        long errors = rows.stream().mapToLong(EndpointReport::errors).sum();
+        return new Report(seconds, total, errors, rejected.sum(), total / seconds, rows);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static final class EndpointStatistics {
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        private void reset() {
+            latency.reset();
+            errors.reset();
+        }
+    }
+
+    /**
+     * Результаты эндпоинта; задержки в миллисекундах.
+     */
+    public record EndpointReport(String endpoint, long count, long errors, double throughput,
+                                 double p50, double p99, double p999, double max) {
+    }
+
+    /**
+     * Результаты прогона.
+     *
+     * @param seconds    длительность измерения
+     * @param requests   завершенные запросы
+     * @param errors     ответы не 2xx и ошибки соединения
+     * @param rejected   запросы, не отправленные из-за {@code max-in-flight}
+     * @param throughput завершенные запросы в секунду
+     * @param endpoints  результаты по эндпоинтам, по убыванию количества
+     */
+    public record Report(double seconds, long requests, long errors, long rejected, double throughput,
+                         List<EndpointReport> endpoints) {
+    }
+}
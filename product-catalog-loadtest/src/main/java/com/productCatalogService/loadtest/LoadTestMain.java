@@ -0,0 +1,168 @@
+package com.productCatalogService.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.productCatalogService.ProductCatalogApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Сквозной нагрузочный тест.
+ *
+ * <ol>
+ *   <li>Поднимает PostgreSQL в Testcontainers (или использует {@code loadtest.target.jdbc-url}).</li>
+ *   <li>Запускает приложение, чтобы Liquibase создал схему, и останавливает его.</li>
+ *   <li>Заполняет базу синтетическим каталогом через {@code COPY} ({@link CatalogSeeder}).</li>
+ *   <li>Запускает приложение отдельным процессом JVM ({@link ApplicationProcess}) на свободном
+ *       порту, как после развертывания: кэши (фильтр имен пользователей, снимок статистики)
+ *       строятся по загруженным данным, нагрузка подается после прогрева и перехода в готовность.
+ *       Генератор нагрузки не делит с приложением процессор и сборщик мусора, поэтому его
+ *       паузы не искажают p99/p999.</li>
+ *   <li>Подает смешанную нагрузку с открытой моделью ({@link OpenModelLoadGenerator}) и выводит
+ *       пропускную способность и p50/p99/p999 по эндпоинтам; отчет сохраняется в JSON.</li>
+ * </ol>
+ *
+ * <p>Если задан {@code loadtest.target.base-url}, нагрузка подается на уже запущенное
+ * приложение; заполнение базы тогда требует {@code loadtest.target.jdbc-url} и перезапуска
+ * приложения после него. Для входа сотен пользователей у приложения должен быть отключен
+ * ограничитель {@code app.security.login-rate-limit}. Генератор и приложение на одной машине
+ * все равно конкурируют за ядра; для точных хвостовых задержек их разносят по разным машинам.</p>
+ *
+ * <pre>
+ * java -Dloadtest.rate=800 -Dloadtest.dataset.products=2000000 \
+ *     -jar product-catalog-loadtest/target/product-catalog-loadtest-1.0.0-SNAPSHOT-exec.jar
+ * </pre>
+ */
+@Slf4j
+public final class LoadTestMain {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestProperties properties = new LoadTestProperties();
+        Binder.get(new StandardEnvironment()).bind("loadtest", Bindable.ofInstance(properties));
+        LoadTestProperties.Target target = properties.getTarget();
+
+        PostgreSQLContainer<?> postgres = null;
+        ApplicationProcess application = null;
+        try {
+            String jdbcUrl = target.getJdbcUrl();
+            String username = target.getUsername();
+            String password = target.getPassword();
+            if (target.getBaseUrl() == null && jdbcUrl == null) {
+                postgres = new PostgreSQLContainer<>(target.getPostgresImage())
+                        .withDatabaseName("productcatalog")
+                        .withUsername(username)
+                        .withPassword(password)
+                        .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=512MB");
+                postgres.start();
+                jdbcUrl = postgres.getJdbcUrl();
+                log.info("PostgreSQL запущен: {}", jdbcUrl);
+            }
+
+            if (properties.getDataset().isSeed()) {
+                if (jdbcUrl == null) {
+                    throw new IllegalStateException("Для заполнения базы при loadtest.target.base-url нужен "
+                            + "loadtest.target.jdbc-url (или loadtest.dataset.seed=false)");
+                }
+                if (target.getBaseUrl() == null) {
+                    // Первый запуск только применяет миграции
+                    migrate(jdbcUrl, username, password);
+                }
+                new CatalogSeeder(properties.getDataset()).seed(jdbcUrl, username, password);
+            }
+
+            String baseUrl = target.getBaseUrl();
+            if (baseUrl == null) {
+                application = ApplicationProcess.start(target, jdbcUrl,
+                        properties.getReportDirectory().resolve(LocalDateTime.now().format(TIMESTAMP) + "-app.log"));
+                baseUrl = application.baseUrl();
+            }
+
+            LoadStatistics statistics = new LoadStatistics();
+            Workload workload = new Workload(properties, statistics, baseUrl);
+            workload.login();
+            LoadStatistics.Report report = new OpenModelLoadGenerator(properties, workload, statistics).run();
+
+            print(report);
+            Path file = write(properties, baseUrl, report);
+            log.info("Отчет сохранен: {}", file.toAbsolutePath());
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    /**
+     * Запускает приложение без веб-сервера и прогрева, чтобы Liquibase применил миграции.
+     */
+    private static void migrate(String jdbcUrl, String username, String password) {
+        new SpringApplicationBuilder(ProductCatalogApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + jdbcUrl,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        "--app.warmup.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.productCatalogService=WARN")
+                .close();
+    }
+
+    private static void print(LoadStatistics.Report report) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%-38s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (LoadStatistics.EndpointReport row : report.endpoints()) {
+            table.append(String.format("%-38s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    row.endpoint(), row.count(), row.errors(), row.throughput(),
+                    row.p50(), row.p99(), row.p999(), row.max()));
+        }
+        table.append(String.format("%-38s %10d %8d %10.1f   (не отправлено: %d)%n",
+                "total", report.requests(), report.errors(), report.throughput(), report.rejected()));
+        System.out.println(table);
+    }
+
+    private static Path write(LoadTestProperties properties, String baseUrl, LoadStatistics.Report report)
+            throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("finishedAt", Instant.now());
+        document.put("baseUrl", baseUrl);
+        document.put("rate", properties.getRate());
+        document.put("warmup", properties.getWarmup());
+        document.put("duration", properties.getDuration());
+        document.put("mix", properties.getMix());
+        document.put("dataset", properties.getDataset());
+        document.put("report", report);
+
+        Files.createDirectories(properties.getReportDirectory());
+        Path file = properties.getReportDirectory().resolve(LocalDateTime.now().format(TIMESTAMP) + ".json");
+        new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), document);
+        return file;
+    }
+}
@@ -0,0 +1,147 @@
+package com.productCatalogService.loadtest;
+
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Параметры нагрузочного теста ({@code loadtest.*}). Задаются системными свойствами
+ * ({@code -Dloadtest.rate=800}) или переменными окружения ({@code LOADTEST_RATE=800}).
+ */
+@Data
+public class LoadTestProperties {
+
+    private Dataset dataset = new Dataset();
+
+    private Target target = new Target();
+
+    /**
+     * Интенсивность прихода запросов (в секунду). Запросы отправляются по расписанию
+     * (открытая модель) независимо от того, успевает ли приложение отвечать.
+     */
+    private double rate = 500;
+
+    /**
+     * Период прогрева: запросы отправляются, но в отчет не попадают.
+     */
+    private Duration warmup = Duration.ofSeconds(30);
+
+    /**
+     * Длительность измерения.
+     */
+    private Duration duration = Duration.ofMinutes(2);
+
+    /**
+     * Количество пользователей, от имени которых идут запросы (вход выполняется до начала нагрузки).
+     */
+    private int sessions = 200;
+
+    /**
+     * Предел одновременно ожидающих ответа запросов. Запрос сверх предела не отправляется и
+     * учитывается как {@code rejected}: генератор не должен сам становиться узким местом.
+     */
+    private int maxInFlight = 2000;
+
+    /**
+     * Ожидание ответа на один запрос.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Доли сценариев (веса, не обязательно в сумме 100).
+     */
+    private Map<Scenario, Integer> mix = new LinkedHashMap<>(Map.of(
+            Scenario.BROWSE, 45,
+            Scenario.SEARCH, 20,
+            Scenario.PRODUCT, 15,
+            Scenario.BASKET_ADD, 8,
+            Scenario.BASKET_UPDATE, 6,
+            Scenario.CHECKOUT, 4,
+            Scenario.ADMIN_BULK, 2));
+
+    /**
+     * Количество строк в одном запросе {@code PATCH /admin/products/bulk}.
+     */
+    private int bulkSize = 100;
+
+    /**
+     * Каталог отчетов ({@code <время>.json}).
+     */
+    private Path reportDirectory = Path.of("loadtest-results");
+
+    @Data
+    public static class Dataset {
+
+        /**
+         * Заполнять базу синтетическим каталогом. Без этого используются уже загруженные данные
+         * с теми же размерами.
+         */
+        private boolean seed = true;
+
+        private int categories = 1_000;
+
+        private int products = 1_000_000;
+
+        private int users = 100_000;
+
+        /**
+         * Максимальное количество товаров в корзине пользователя (0..max, равномерно).
+         */
+        private int maxBasketItems = 5;
+
+        /**
+         * Пароль всех синтетических пользователей ({@code user<N>} и {@code admin}).
+         */
+        private String password = "loadtest";
+
+        private long randomSeed = 42L;
+    }
+
+    @Data
+    public static class Target {
+
+        /**
+         * Адрес уже запущенного приложения, например {@code http://localhost:8080/api}.
+         * Пусто — приложение запускается отдельным процессом из {@code application-jar}
+         * на свободном порту.
+         */
+        private String baseUrl;
+
+        /**
+         * Исполняемый jar приложения для запуска отдельным процессом. Генератор нагрузки
+         * не делит с приложением процессор, кучу и сборщик мусора, поэтому паузы генератора
+         * не попадают в p99/p999 приложения.
+         */
+        private Path applicationJar = Path.of("product-catalog-app/target/product-catalog-app-1.0.0-SNAPSHOT-exec.jar");
+
+        /**
+         * Параметры JVM процесса приложения, например {@code -Xmx2g}.
+         */
+        private List<String> jvmArgs = new ArrayList<>();
+
+        /**
+         * Ожидание готовности процесса приложения ({@code /actuator/health/readiness}),
+         * включая прогрев при запуске.
+         */
+        private Duration startupTimeout = Duration.ofMinutes(3);
+
+        /**
+         * JDBC-адрес базы данных. Пусто — PostgreSQL запускается в Testcontainers.
+         */
+        private String jdbcUrl;
+
+        private String username = "productcatalog";
+
+        private String password = "productcatalog";
+
+        /**
+         * Образ PostgreSQL для Testcontainers (должен быть в локальном кэше Docker для работы без сети).
+         */
+        private String postgresImage = "postgres:15";
+    }
+}
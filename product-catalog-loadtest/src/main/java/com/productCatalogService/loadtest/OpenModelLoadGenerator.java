@@ -0,0 +1,93 @@
+package com.productCatalogService.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Генератор нагрузки с открытой моделью: запросы приходят пуассоновским потоком с заданной
+ * интенсивностью независимо от ответов приложения, как от множества независимых клиентов.
+ * Замедление приложения не снижает поток запросов (в отличие от закрытой модели с фиксированным
+ * числом потоков), поэтому очереди и хвосты задержек видны в отчете.
+ *
+ * <p>Расписание ведет один поток; сценарии выполняются асинхронно {@link Workload}.</p>
+ */
+@Slf4j
+public class OpenModelLoadGenerator {
+
+    /**
+     * Остаток ожидания, который выполняется активным циклом: {@code parkNanos} просыпается
+     * с опозданием в десятки микросекунд.
+     */
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final LoadTestProperties properties;
+    private final Workload workload;
+    private final LoadStatistics statistics;
+
+    public OpenModelLoadGenerator(LoadTestProperties properties, Workload workload, LoadStatistics statistics) {
+        this.properties = properties;
+        this.workload = workload;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Выполняет прогрев и измерение и ждет завершения отправленных запросов.
+     *
+     * @return результаты периода измерения
+     */
+    public LoadStatistics.Report run() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(properties.getDataset().getRandomSeed() + 1);
+        Semaphore inFlight = new Semaphore(properties.getMaxInFlight());
+        double meanIntervalNanos = 1e9 / properties.getRate();
+
+        long started = System.nanoTime();
+        long measureFrom = started + properties.getWarmup().toNanos();
+        long end = measureFrom + properties.getDuration().toNanos();
+        boolean measuring = false;
+        log.info("Нагрузка {} запросов/с: прогрев {}, измерение {}", properties.getRate(),
+                properties.getWarmup(), properties.getDuration());
+
+        long scheduled = started;
+        while (true) {
+            // Экспоненциальные интервалы между приходами — пуассоновский поток
+            scheduled += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+            if (scheduled >= end) {
+                break;
+            }
+            if (!measuring && scheduled >= measureFrom) {
+                statistics.startMeasurement(measureFrom);
+                measuring = true;
+                log.info("Прогрев завершен, измерение начато");
+            }
+            sleepUntil(scheduled);
+
+            if (!inFlight.tryAcquire()) {
+                statistics.reject(scheduled);
+                continue;
+            }
+            workload.execute(workload.next(random), random, scheduled)
+                    .whenComplete((ignored, error) -> inFlight.release());
+        }
+
+        if (!inFlight.tryAcquire(properties.getMaxInFlight(), properties.getRequestTimeout().toMillis(),
+                TimeUnit.MILLISECONDS)) {
+            log.warn("Не дождались ответа на {} запросов", properties.getMaxInFlight() - inFlight.availablePermits());
+        }
+        return statistics.report(end - measureFrom);
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.productCatalogService.loadtest;
+
+/**
+ * Сценарии смешанной нагрузки.
+ */
+public enum Scenario {
+
+    /** Страница каталога {@code GET /products?page=&size=}. */
+    BROWSE,
+
+    /** Отбор по категории {@code GET /products/category/{id}}; полнотекстового поиска в API нет. */
+    SEARCH,
+
+    /** Карточка товара {@code GET /products/{id}}. */
+    PRODUCT,
+
+    /** Добавление в корзину {@code POST /user/basket/add/{productId}}. */
+    BASKET_ADD,
+
+    /** Изменение количества {@code PUT /user/basket/update/{productId}}. */
+    BASKET_UPDATE,
+
+    /**
+     * Оформление: {@code GET /user/basket/summary}, {@code GET /user/basket/validate} и
+     * {@code DELETE /user/basket/clear} последовательно; в API нет заказа, поэтому очистка
+     * корзины после проверки заменяет его создание.
+     */
+    CHECKOUT,
+
+    /** Массовое обновление остатков и цен {@code PATCH /admin/products/bulk}. */
+    ADMIN_BULK
+}
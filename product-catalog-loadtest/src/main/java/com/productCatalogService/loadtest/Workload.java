@@ -0,0 +1,211 @@
+package com.productCatalogService.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Сценарии смешанной нагрузки над HTTP API приложения.
+ *
+ * <p>Параметры запросов (пользователь, товар, страница) выбираются в потоке расписания из
+ * детерминированного генератора. Обращения к товарам смещены к «популярным»: 80% запросов
+ * приходятся на первые 20% идентификаторов, как в реальном каталоге, поэтому кэши и буферы
+ * базы данных работают в реалистичном режиме.</p>
+ */
+public class Workload {
+
+    private static final String JSON = "application/json";
+
+    private final LoadTestProperties properties;
+    private final LoadStatistics statistics;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private final Scenario[] scenarios;
+    private final int[] cumulativeWeights;
+
+    private final List<String> userTokens = new ArrayList<>();
+    private String adminToken;
+
+    public Workload(LoadTestProperties properties, LoadStatistics statistics, String baseUrl) {
+        this.properties = properties;
+        this.statistics = statistics;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        List<Map.Entry<Scenario, Integer>> mix = properties.getMix().entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .toList();
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix не содержит сценариев с положительным весом");
+        }
+        scenarios = new Scenario[mix.size()];
+        cumulativeWeights = new int[mix.size()];
+        int total = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            scenarios[i] = mix.get(i).getKey();
+            total += mix.get(i).getValue();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Выполняет вход {@code sessions} пользователей (равномерно по всем синтетическим) и администратора.
+     */
+    public void login() throws IOException, InterruptedException {
+        LoadTestProperties.Dataset dataset = properties.getDataset();
+        int sessions = Math.min(properties.getSessions(), dataset.getUsers());
+        long step = Math.max(1, dataset.getUsers() / Math.max(1, sessions));
+        for (int i = 0; i < sessions; i++) {
+            userTokens.add(login("user" + (1 + i * step), dataset.getPassword()));
+        }
+        adminToken = login("admin", dataset.getPassword());
+    }
+
+    /**
+     * Выбирает сценарий по весам {@code loadtest.mix}.
+     */
+    public Scenario next(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    /**
+     * Отправляет запросы сценария.
+     *
+     * @param scenario  сценарий
+     * @param random    генератор параметров (используется только в вызывающем потоке)
+     * @param scheduled запланированный момент отправки ({@link System#nanoTime()})
+     * @return завершение последнего запроса сценария
+     */
+    public CompletableFuture<Void> execute(Scenario scenario, SplittableRandom random, long scheduled) {
+        LoadTestProperties.Dataset dataset = properties.getDataset();
+        return switch (scenario) {
+            case BROWSE -> {
+                int size = random.nextInt(10) < 8 ? 20 : 100;
+                // Большинство посетителей не уходит дальше первых страниц
+                int pages = Math.max(1, dataset.getProducts() / size);
+                int page = random.nextInt(10) < 7 ? random.nextInt(Math.min(5, pages)) : random.nextInt(pages);
+                yield send("GET /products", get("/products?page=" + page + "&size=" + size), scheduled, scheduled);
+            }
+            case SEARCH -> send("GET /products/category/{id}",
+                    get("/products/category/" + random.nextLong(1, dataset.getCategories() + 1L)),
+                    scheduled, scheduled);
+            case PRODUCT -> send("GET /products/{id}", get("/products/" + productId(random)), scheduled, scheduled);
+            case BASKET_ADD -> send("POST /user/basket/add/{productId}",
+                    withBody("POST", "/user/basket/add/" + productId(random), userToken(random),
+                            Map.of("quantity", random.nextInt(1, 4))), scheduled, scheduled);
+            case BASKET_UPDATE -> send("PUT /user/basket/update/{productId}",
+                    withBody("PUT", "/user/basket/update/" + productId(random), userToken(random),
+                            Map.of("quantity", random.nextInt(1, 6))), scheduled, scheduled);
+            case CHECKOUT -> checkout(userToken(random), scheduled);
+            case ADMIN_BULK -> send("PATCH /admin/products/bulk",
+                    withBody("PATCH", "/admin/products/bulk", adminToken, bulkUpdates(random)), scheduled, scheduled);
+        };
+    }
+
+    private CompletableFuture<Void> checkout(String token, long scheduled) {
+        return send("GET /user/basket/summary", authorized("/user/basket/summary", token).GET(), scheduled, scheduled)
+                .thenCompose(ignored -> send("GET /user/basket/validate",
+                        authorized("/user/basket/validate", token).GET(), scheduled, System.nanoTime()))
+                .thenCompose(ignored -> send("DELETE /user/basket/clear",
+                        authorized("/user/basket/clear", token).DELETE(), scheduled, System.nanoTime()));
+    }
+
+    private List<Map<String, Object>> bulkUpdates(SplittableRandom random) {
+        List<Map<String, Object>> updates = new ArrayList<>(properties.getBulkSize());
+        for (int i = 0; i < properties.getBulkSize(); i++) {
+            updates.add(Map.of(
+                    "id", productId(random),
+                    "quantity", random.nextInt(10_000, 1_000_000),
+                    "price", random.nextInt(100, 10_000_000)));
+        }
+        return updates;
+    }
+
+    private long productId(SplittableRandom random) {
+        int products = properties.getDataset().getProducts();
+        long hot = Math.max(1, products / 5);
+        return random.nextInt(10) < 8 ? random.nextLong(1, hot + 1) : random.nextLong(1, products + 1L);
+    }
+
+    private String userToken(SplittableRandom random) {
+        return userTokens.get(random.nextInt(userTokens.size()));
+    }
+
+    private CompletableFuture<Void> send(String endpoint, HttpRequest.Builder request, long scheduled, long start) {
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    statistics.record(endpoint, scheduled, start,
+                            error == null && response.statusCode() >= 200 && response.statusCode() < 300);
+                    return null;
+                });
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder withBody(String method, String path, String token, Object body) {
+        return authorized(path, token)
+                .header("Content-Type", JSON)
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(json(body)));
+    }
+
+    private HttpRequest.Builder authorized(String path, String token) {
+        // Сервисы API ищут сессию по значению заголовка целиком, без префикса Bearer
+        return request(path).header("Authorization", token);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(properties.getRequestTimeout())
+                .header("Accept", JSON);
+    }
+
+    private String login(String userName, String password) throws IOException, InterruptedException {
+        HttpRequest request = request("/auth/login")
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        json(Map.of("userName", userName, "password", password))))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Вход " + userName + " завершился статусом " + response.statusCode()
+                    + ": " + response.body());
+        }
+        JsonNode token = objectMapper.readTree(response.body()).path("token");
+        if (token.isMissingNode() || token.asText().isEmpty()) {
+            throw new IllegalStateException("Ответ на вход " + userName + " не содержит token: " + response.body());
+        }
+        return token.asText();
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -4,7 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.productCatalogService.controller.AuthController;
 import com.productCatalogService.dto.UserDTO;
 import com.productCatalogService.entity.Role;
+import com.productCatalogService.exception.GlobalExceptionHandler;
+import com.productCatalogService.exception.TooManyRequestsException;
 import com.productCatalogService.service.AuthService;
+import com.productCatalogService.util.LoginRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +22,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,6 +33,9 @@ class AuthControllerTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
     @InjectMocks
     private AuthController authController;
 
@@ -37,7 +44,9 @@ class AuthControllerTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
         objectMapper = new ObjectMapper();
     }
 
@@ -103,6 +112,27 @@ class AuthControllerTest {
         verify(authService, times(1)).login(any(UserDTO.LoginRequest.class));
     }
 
+    @Test
+    void login_WhenRateLimitExceeded_ShouldReturnTooManyRequests() throws Exception {
+        // Arrange
+        UserDTO.LoginRequest loginRequest = UserDTO.LoginRequest.builder()
+                .userName("testuser")
+                .password("password123")
+                .build();
+
+        doThrow(new TooManyRequestsException("Too many attempts", 5))
+                .when(loginRateLimiter).checkLogin(any(), eq("testuser"));
+
+        // Act & Assert
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"));
+
+        verify(authService, never()).login(any());
+    }
+
     @Test
     void logout_WithValidToken_ShouldReturnOk() throws Exception {
         // Arrange
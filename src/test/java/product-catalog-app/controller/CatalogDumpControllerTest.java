@@ -0,0 +1,80 @@
+package controller;
+
+import com.productCatalogService.controller.CatalogDumpController;
+import com.productCatalogService.exception.AccessDeniedException;
+import com.productCatalogService.exception.GlobalExceptionHandler;
+import com.productCatalogService.service.CatalogDumpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogDumpControllerTest {
+
+    @Mock
+    private CatalogDumpService catalogDumpService;
+
+    @InjectMocks
+    private CatalogDumpController catalogDumpController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(catalogDumpController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void dump_WithValidToken_ShouldStreamZipArchive() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(4);
+            out.write("PK".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(catalogDumpService).dump(eq("Bearer admin-token"), eq(List.of("products")), eq("binary"), eq(false), any());
+
+        // Act & Assert
+        mockMvc.perform(get("/admin/dump")
+                        .header("Authorization", "Bearer admin-token")
+                        .param("tables", "products")
+                        .param("format", "binary")
+                        .param("compress", "false"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andExpect(content().string("PK"));
+
+        verify(catalogDumpService, times(1)).validateDump("Bearer admin-token", List.of("products"), "binary");
+    }
+
+    @Test
+    void dump_WithoutAdminRole_ShouldReturnForbidden() throws Exception {
+        // Arrange
+        doThrow(new AccessDeniedException("Доступ запрещен. Требуется роль ADMIN"))
+                .when(catalogDumpService).validateDump(eq("Bearer user-token"), isNull(), eq("csv"));
+
+        // Act & Assert
+        mockMvc.perform(get("/admin/dump")
+                        .header("Authorization", "Bearer user-token"))
+                .andExpect(status().isForbidden());
+
+        verify(catalogDumpService, never()).dump(any(), any(), any(), anyBoolean(), any());
+    }
+}
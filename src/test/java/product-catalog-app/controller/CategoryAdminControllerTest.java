@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -157,4 +158,53 @@ class CategoryAdminControllerTest {
 
         verify(categoryService, times(1)).deleteCategory("Bearer admin-token", 1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteCategoryAndReassign_WithTarget_ShouldReturnResult() throws Exception {
+        // Arrange
+        CategoryDTO.ReassignResult result = CategoryDTO.ReassignResult.builder()
+                .targetCategoryId(2L)
+                .sourceCategoryIds(List.of(1L))
+                .movedProducts(120)
+                .deletedCategories(1)
+                .build();
+
+        when(categoryService.deleteCategoryAndReassign("Bearer admin-token", 1L, 2L)).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(delete("/admin/categories/1")
+                        .param("reassignTo", "2")
+                        .header("Authorization", "Bearer admin-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movedProducts").value(120))
+                .andExpect(jsonPath("$.deletedCategories").value(1));
+
+        verify(categoryService, never()).deleteCategory(any(), any());
+    }
+
+    @Test
+    void mergeCategories_WithSources_ShouldReturnResult() throws Exception {
+        // Arrange
+        CategoryDTO.MergeCategories merge = CategoryDTO.MergeCategories.builder()
+                .sourceIds(List.of(3L, 4L))
+                .build();
+
+        CategoryDTO.ReassignResult result = CategoryDTO.ReassignResult.builder()
+                .targetCategoryId(2L)
+                .sourceCategoryIds(List.of(3L, 4L))
+                .movedProducts(50)
+                .deletedCategories(2)
+                .build();
+
+        when(categoryService.mergeCategories(eq("Bearer admin-token"), eq(2L), any())).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/admin/categories/2/merge")
+                        .header("Authorization", "Bearer admin-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(merge)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sourceCategoryIds.length()").value(2))
+                .andExpect(jsonPath("$.deletedCategories").value(2));
+    }
+}
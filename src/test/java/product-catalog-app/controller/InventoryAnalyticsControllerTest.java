@@ -0,0 +1,64 @@
+package controller;
+
+import com.productCatalogService.controller.InventoryAnalyticsController;
+import com.productCatalogService.dto.InventoryAnalyticsDTO;
+import com.productCatalogService.service.InventoryAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryAnalyticsControllerTest {
+
+    @Mock
+    private InventoryAnalyticsService inventoryAnalyticsService;
+
+    @InjectMocks
+    private InventoryAnalyticsController inventoryAnalyticsController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(inventoryAnalyticsController).build();
+    }
+
+    @Test
+    void getInventoryAnalytics_WithValidToken_ShouldReturnAnalytics() throws Exception {
+        // Arrange
+        InventoryAnalyticsDTO analytics = InventoryAnalyticsDTO.builder()
+                .totalInventoryValue(150000)
+                .totalReservedUnits(7)
+                .categories(List.of(new InventoryAnalyticsDTO.CategorySummary(1L, "Электроника", 3, 15, 150000, 7)))
+                .lowStockProducts(List.of(new InventoryAnalyticsDTO.ProductSummary(2L, "Мышь", 1L, 2, 2000, 1, 1)))
+                .mostInBaskets(List.of())
+                .build();
+
+        when(inventoryAnalyticsService.getInventoryAnalytics("Bearer admin-token", 3, null)).thenReturn(analytics);
+
+        // Act & Assert
+        mockMvc.perform(get("/admin/statistics/inventory")
+                        .header("Authorization", "Bearer admin-token")
+                        .param("lowStockThreshold", "3")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalInventoryValue").value(150000))
+                .andExpect(jsonPath("$.totalReservedUnits").value(7))
+                .andExpect(jsonPath("$.categories[0].categoryName").value("Электроника"))
+                .andExpect(jsonPath("$.lowStockProducts[0].quantity").value(2));
+
+        verify(inventoryAnalyticsService, times(1)).getInventoryAnalytics("Bearer admin-token", 3, null);
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -224,4 +225,58 @@ class ProductAdminControllerTest {
 
         verify(productService, never()).updateProduct(any(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void importProducts_WithNdjsonBody_ShouldReturnImportResult() throws Exception {
+        // Arrange
+        ProductDTO.ImportResult result = ProductDTO.ImportResult.builder()
+                .inserted(2)
+                .updated(1)
+                .rejected(1)
+                .build();
+
+        when(productService.importProducts(eq("Bearer admin-token"), any(), eq(ProductDTO.ImportFormat.NDJSON)))
+                .thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(post("/admin/products/import")
+                        .header("Authorization", "Bearer admin-token")
+                        .contentType("application/x-ndjson")
+                        .content("{\"name\":\"A\",\"quantity\":1,\"price\":100,\"categoryId\":1}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.rejected").value(1));
+
+        verify(productService, times(1))
+                .importProducts(eq("Bearer admin-token"), any(), eq(ProductDTO.ImportFormat.NDJSON));
+    }
+
+    @Test
+    void bulkUpdateStockAndPrice_WithValidRequest_ShouldReturnPerRowResults() throws Exception {
+        // Arrange
+        ProductDTO.BulkUpdateResult result = ProductDTO.BulkUpdateResult.builder()
+                .updated(1)
+                .notFound(1)
+                .rejected(0)
+                .results(List.of(
+                        new ProductDTO.BulkUpdateItemResult(1L, ProductDTO.BulkUpdateStatus.UPDATED, null),
+                        new ProductDTO.BulkUpdateItemResult(999L, ProductDTO.BulkUpdateStatus.NOT_FOUND, null)))
+                .build();
+
+        when(productService.bulkUpdateStockAndPrice(eq("Bearer admin-token"), anyList())).thenReturn(result);
+
+        // Act & Assert
+        mockMvc.perform(patch("/admin/products/bulk")
+                        .header("Authorization", "Bearer admin-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"id\":1,\"quantity\":5},{\"id\":999,\"price\":100}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.notFound").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+
+        verify(productService, times(1)).bulkUpdateStockAndPrice(eq("Bearer admin-token"), anyList());
+    }
+}